@@ -0,0 +1,49 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Runs the benchmarks and writes the results as JSON (the JMH format),
+ * so the results of different versions can be compared.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks
+     *
+     * @param args optional: a regular expression of the benchmarks to run (default - all of them),
+     *             and the JSON results file (default - benchmarks/results/jmh-&lt;date-time&gt;.json)
+     * @throws RunnerException if the benchmarks failed
+     */
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + "\\.";
+        String result = args.length > 1 ? args[1] : "benchmarks/results/jmh-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        File parent = new File(result).getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs())
+            throw new IllegalStateException("Cannot create the results directory " + parent);
+
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result(result)
+                .build();
+        new Runner(options).run();
+    }
+}
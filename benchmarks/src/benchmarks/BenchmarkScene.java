@@ -0,0 +1,45 @@
+package benchmarks;
+
+import renderer.Camera;
+import renderer.CornellBoxScene;
+import renderer.RoomSceneCopy;
+import renderer.TeapotScene;
+
+import java.util.function.Supplier;
+
+/**
+ * The full scenes of the end-to-end benchmarks.
+ * Every scene provides a fresh camera builder (with a fresh scene) by the scene factory
+ * the rendering tests of the project use.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public enum BenchmarkScene {
+    /** The teapot model with the bubbles */
+    TEAPOT(TeapotScene::prepareTeapot),
+    /** The room scene */
+    ROOM(RoomSceneCopy::prepareRoom),
+    /** The Cornell box scene */
+    CORNELL_BOX(CornellBoxScene::prepareCornellBox);
+
+    /** Preparation of the scene and its camera */
+    private final Supplier<Camera.Builder> preparation;
+
+    /**
+     * Constructs a benchmark scene
+     *
+     * @param preparation the preparation of the scene and its camera
+     */
+    BenchmarkScene(Supplier<Camera.Builder> preparation) {
+        this.preparation = preparation;
+    }
+
+    /**
+     * Prepares a fresh scene with its camera
+     *
+     * @return the camera builder of the scene
+     */
+    public Camera.Builder prepare() {
+        return preparation.get();
+    }
+}
@@ -0,0 +1,56 @@
+package benchmarks;
+
+import geometries.BoundingBox;
+import org.openjdk.jmh.annotations.*;
+import primitives.Point;
+import primitives.Ray;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the ray - bounding box test ({@link BoundingBox#intersectBV(Ray, double)}),
+ * with a fixed set of random rays around the box (about half of them hit it).
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundingBoxBenchmark {
+
+    /** Amount of the rays (a power of 2) */
+    private static final int RAYS = 1024;
+
+    /** The box */
+    private final BoundingBox box = new BoundingBox(new Point(-1, -1, -1), new Point(1, 1, 1));
+
+    /** The rays */
+    private Ray[] rays;
+
+    /** Index of the next ray */
+    private int index = 0;
+
+    /** Default constructor to satisfy JavaDoc generator */
+    public BoundingBoxBenchmark() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Creates the rays (see {@link RandomRays})
+     */
+    @Setup
+    public void setup() {
+        rays = RandomRays.create(RAYS);
+    }
+
+    /**
+     * Tests the next ray against the box
+     *
+     * @return whether the ray hits the box (consumed by JMH)
+     */
+    @Benchmark
+    public boolean intersectBV() {
+        return box.intersectBV(rays[index++ & (RAYS - 1)], Double.POSITIVE_INFINITY);
+    }
+}
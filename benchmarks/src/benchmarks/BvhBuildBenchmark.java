@@ -0,0 +1,55 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import renderer.Camera;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of building the acceleration structure of the full scenes by every
+ * {@link Camera.BvhMode} (the build is done by {@link Camera.Builder#build()}).<br>
+ * The structure is cached per scene (see {@link renderer.AccelerationStructure}), so every measured build
+ * gets a freshly prepared scene.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BvhBuildBenchmark {
+
+    /** The scene */
+    @Param
+    public BenchmarkScene scene;
+
+    /** The acceleration structure */
+    @Param({"CBR", "HIERARCHY_AUTO", "HIERARCHY_SAH", "HIERARCHY_FLAT"})
+    public Camera.BvhMode mode;
+
+    /** The camera builder of a fresh scene */
+    private Camera.Builder builder;
+
+    /** Default constructor to satisfy JavaDoc generator */
+    public BvhBuildBenchmark() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Prepares a fresh scene for the next build
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        builder = scene.prepare().setBvhMode(mode);
+    }
+
+    /**
+     * Builds the acceleration structure of the scene
+     *
+     * @return the camera (consumed by JMH)
+     */
+    @Benchmark
+    public Camera build() {
+        return builder.build();
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import geometries.*;
+import org.openjdk.jmh.annotations.*;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the ray intersection kernels of the basic geometries.<br>
+ * Every invocation intersects the next ray of a fixed set of random rays around the geometry
+ * (about half of them hit it), so the branch predictor cannot learn a single ray.
+ * The geometries have no bounding boxes - only the kernel itself is measured.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntersectionBenchmark {
+
+    /**
+     * The benchmarked geometries
+     */
+    public enum Shape {
+        /** A sphere */
+        SPHERE,
+        /** A triangle */
+        TRIANGLE,
+        /** A (pentagon) polygon */
+        POLYGON,
+        /** A plane */
+        PLANE,
+        /** An infinite tube */
+        TUBE,
+        /** A finite cylinder */
+        CYLINDER
+    }
+
+    /** Amount of the rays (a power of 2) */
+    private static final int RAYS = 1024;
+
+    /** The benchmarked geometry kind */
+    @Param
+    public Shape shape;
+
+    /** The benchmarked geometry */
+    private Intersectable geometry;
+
+    /** The rays */
+    private Ray[] rays;
+
+    /** Index of the next ray */
+    private int index = 0;
+
+    /** Default constructor to satisfy JavaDoc generator */
+    public IntersectionBenchmark() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Creates the geometry and the rays (see {@link RandomRays})
+     */
+    @Setup
+    public void setup() {
+        geometry = switch (shape) {
+            case SPHERE -> new Sphere(1, Point.ZERO);
+            case TRIANGLE -> new Triangle(new Point(-1, -1, 0), new Point(1, -1, 0), new Point(0, 1, 0));
+            case POLYGON -> new Polygon(new Point(-1, -1, 0), new Point(1, -1, 0), new Point(1.2, 0.5, 0),
+                    new Point(0, 1.2, 0), new Point(-1.2, 0.5, 0));
+            case PLANE -> new Plane(Point.ZERO, new Vector(0.2, 0.3, 1));
+            case TUBE -> new Tube(1, new Ray(Point.ZERO, Vector.AXIS_Y));
+            case CYLINDER -> new Cylinder(1, new Ray(new Point(0, -1, 0), Vector.AXIS_Y), 2);
+        };
+        rays = RandomRays.create(RAYS);
+    }
+
+    /**
+     * Intersects the next ray with the geometry
+     *
+     * @return the intersections (consumed by JMH)
+     */
+    @Benchmark
+    public List<Intersectable.Intersection> calculateIntersections() {
+        return geometry.calculateIntersections(rays[index++ & (RAYS - 1)]);
+    }
+}
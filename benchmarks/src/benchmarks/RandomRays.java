@@ -0,0 +1,37 @@
+package benchmarks;
+
+import primitives.Point;
+import primitives.Ray;
+
+import java.util.Random;
+
+/**
+ * The fixed set of random rays of the kernel benchmarks - from random points around the origin
+ * towards random points near it, so that about half of the rays hit a unit sized geometry at the origin
+ * and the branch predictor cannot learn a single ray.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class RandomRays {
+    /** Don't let anyone instantiate this class */
+    private RandomRays() {}
+
+    /**
+     * Creates the rays (the same rays on every call)
+     *
+     * @param amount the amount of the rays
+     * @return the rays
+     */
+    static Ray[] create(int amount) {
+        Ray[] rays = new Ray[amount];
+        Random random = new Random(42);
+        for (int i = 0; i < amount; ++i) {
+            Point head = new Point(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+            head = Point.ZERO.add(head.subtract(Point.ZERO).normalize().scale(10));
+            Point target = new Point(random.nextDouble() * 3 - 1.5, random.nextDouble() * 3 - 1.5,
+                    random.nextDouble() * 3 - 1.5);
+            rays[i] = new Ray(head, target.subtract(head));
+        }
+        return rays;
+    }
+}
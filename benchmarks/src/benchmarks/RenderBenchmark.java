@@ -0,0 +1,62 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import renderer.Camera;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end benchmark of rendering the full scenes at a fixed (square) resolution,
+ * by a single thread with the flat BVH (other modes may be passed by {@code -p mode=...}).
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RenderBenchmark {
+
+    /** The scene */
+    @Param
+    public BenchmarkScene scene;
+
+    /** The acceleration structure */
+    @Param({"HIERARCHY_FLAT"})
+    public Camera.BvhMode mode;
+
+    /** The image width and height in pixels */
+    @Param({"200"})
+    public int resolution;
+
+    /** The camera */
+    private Camera camera;
+
+    /** Default constructor to satisfy JavaDoc generator */
+    public RenderBenchmark() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Prepares the scene and builds its acceleration structure
+     */
+    @Setup
+    public void setup() {
+        camera = scene.prepare()
+                .setResolution(resolution, resolution)
+                .setDebugPrint(0)
+                .setMultithreading(0)
+                .setBvhMode(mode)
+                .build();
+    }
+
+    /**
+     * Renders the image
+     *
+     * @return the camera (consumed by JMH)
+     */
+    @Benchmark
+    public Camera render() {
+        return camera.renderImage();
+    }
+}
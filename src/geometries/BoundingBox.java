@@ -4,6 +4,8 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 
 import static java.lang.Math.max;
@@ -19,7 +21,11 @@ import static primitives.Util.alignZero;
  * @author Hila and Hila
  */
 
-public class BoundingBox {
+public class BoundingBox implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
 
     /**
@@ -235,6 +241,41 @@ public class BoundingBox {
         return maxDistance > max(txMin, tzMin);
     }
 
+    /**
+     * Calculates the distance along the ray where it enters the bounding region (slabs method).
+     * Used for visiting the nearer bounding volumes first and skipping the ones
+     * that are farther than an already found intersection.
+     *
+     * @param ray         the ray to check for intersection
+     * @param maxDistance the max distance that the ray allowed to go
+     * @return the entry distance (0 if the ray starts inside the box),
+     * or positive infinity if the ray misses the box within the max distance
+     */
+    public double entryDistance(Ray ray, double maxDistance) {
+        Point p0 = ray.getHead();
+        Vector dir = ray.getDirection();
+        double tNear = 0, tFar = maxDistance;
+        double[] origin = {p0.getX(), p0.getY(), p0.getZ()};
+        double[] direction = {alignZero(dir.getX()), alignZero(dir.getY()), alignZero(dir.getZ())};
+        double[] low = {getMinX(), getMinY(), getMinZ()};
+        double[] high = {getMaxX(), getMaxY(), getMaxZ()};
+
+        for (int axis = 0; axis < 3; ++axis) {
+            if (direction[axis] == 0) { // parallel to the axis - must be between the slab planes
+                if (origin[axis] < low[axis] || origin[axis] > high[axis])
+                    return Double.POSITIVE_INFINITY;
+                continue;
+            }
+            double t1 = (low[axis] - origin[axis]) / direction[axis];
+            double t2 = (high[axis] - origin[axis]) / direction[axis];
+            tNear = Math.max(tNear, Math.min(t1, t2));
+            tFar = Math.min(tFar, Math.max(t1, t2));
+            if (tNear > tFar)
+                return Double.POSITIVE_INFINITY;
+        }
+        return tNear;
+    }
+
     //region distance metric
 
     /**
@@ -0,0 +1,442 @@
+package geometries;
+
+/**
+ * BvhBuilder builds a binary bounding volume hierarchy top-down, using binned
+ * Surface Area Heuristic (SAH) splits.<br>
+ * The builder works on plain arrays of primitive bounding boxes, so it can be used
+ * for any kind of primitives (whole geometries or the faces of a mesh).
+ * Every node is split by the plane (out of {@link #BINS} candidates per axis) that
+ * minimizes the expected cost of a ray traversal, which gives about O(n log n) build time.
+ * <p>
+ * The resulting tree is stored in depth-first order in flat arrays:
+ * <ul>
+ * <li>{@link #nodeBounds} - 6 numbers per node: minX, minY, minZ, maxX, maxY, maxZ</li>
+ * <li>{@link #nodeData} - 2 numbers per node: for a leaf - the offset of its first primitive in
+ * {@link #order} and the amount of its primitives; for an inner node - the index of its
+ * right child (the left child always follows its parent) and -(split axis + 1)</li>
+ * <li>{@link #order} - the primitive indices, ordered so that each leaf covers a contiguous range</li>
+ * </ul>
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class BvhBuilder {
+
+    /** Amount of candidate split bins per axis */
+    private static final int BINS = 16;
+
+    /** Relative cost of traversing an inner node compared to a primitive intersection test */
+    private static final double TRAVERSAL_COST = 1;
+
+    /** Nodes with at most this amount of primitives are not split if splitting doesn't pay off */
+    private static final int MAX_LEAF_SIZE = 4;
+
+    /** Depth from which the nodes are split by the object median (keeps the tree depth bounded) */
+    private static final int MAX_SAH_DEPTH = 48;
+
+    /** Primitive bounding boxes - 6 numbers per primitive */
+    private final double[] boxes;
+
+    /** Primitive box centroids - 3 numbers per primitive */
+    private final double[] centroids;
+
+    /** Primitive indices, reordered during the build */
+    final int[] order;
+
+    /** Node bounds - 6 numbers per node */
+    double[] nodeBounds;
+
+    /** Node data - 2 numbers per node (see the class description) */
+    int[] nodeData;
+
+    /** Amount of nodes in the tree */
+    int nodesCount = 0;
+
+    // per-bin working arrays, reused for all the nodes
+    private final int[] binCounts = new int[BINS];
+    private final double[] binBounds = new double[BINS * 6];
+    private final double[] rightAreas = new double[BINS];
+    private final int[] rightCounts = new int[BINS];
+
+    /**
+     * Builds a hierarchy over the given primitive bounding boxes
+     *
+     * @param boxes the primitive bounding boxes, 6 numbers per primitive
+     *              (minX, minY, minZ, maxX, maxY, maxZ)
+     */
+    BvhBuilder(double[] boxes) {
+        this.boxes = boxes;
+        int count = boxes.length / 6;
+        centroids = new double[count * 3];
+        order = new int[count];
+        for (int i = 0; i < count; ++i) {
+            order[i] = i;
+            for (int axis = 0; axis < 3; ++axis)
+                centroids[i * 3 + axis] = (boxes[i * 6 + axis] + boxes[i * 6 + 3 + axis]) / 2;
+        }
+        int capacity = Math.max(1, 2 * count - 1);
+        nodeBounds = new double[capacity * 6];
+        nodeData = new int[capacity * 2];
+        if (count > 0)
+            build(0, count, 0);
+    }
+
+    /**
+     * Creates a builder for a list of bounded intersectables (their bounding boxes must be set)
+     *
+     * @param intersectables the bounded intersectables
+     * @return the builder with the ready hierarchy
+     */
+    static BvhBuilder of(Intersectable[] intersectables) {
+        double[] boxes = new double[intersectables.length * 6];
+        for (int i = 0; i < intersectables.length; ++i) {
+            BoundingBox box = intersectables[i].boundingBox;
+            boxes[i * 6] = box.getMinX();
+            boxes[i * 6 + 1] = box.getMinY();
+            boxes[i * 6 + 2] = box.getMinZ();
+            boxes[i * 6 + 3] = box.getMaxX();
+            boxes[i * 6 + 4] = box.getMaxY();
+            boxes[i * 6 + 5] = box.getMaxZ();
+        }
+        return new BvhBuilder(boxes);
+    }
+
+    /**
+     * Checks whether a node is a leaf
+     *
+     * @param node the node index
+     * @return true if the node is a leaf
+     */
+    boolean isLeaf(int node) {
+        return nodeData[node * 2 + 1] > 0;
+    }
+
+    /**
+     * Calculates the depth of a sub-tree
+     *
+     * @param node the sub-tree root
+     * @return the depth (0 for a leaf)
+     */
+    int depth(int node) {
+        if (isLeaf(node)) return 0;
+        return 1 + Math.max(depth(node + 1), depth(nodeData[node * 2]));
+    }
+
+    /**
+     * Intersects a ray with the box of a node (slabs method)
+     *
+     * @param nodeBounds  the node bounds array (6 numbers per node)
+     * @param node        the node index
+     * @param ox          ray origin x
+     * @param oy          ray origin y
+     * @param oz          ray origin z
+     * @param dx          ray direction x
+     * @param dy          ray direction y
+     * @param dz          ray direction z
+     * @param ix          inverse of ray direction x
+     * @param iy          inverse of ray direction y
+     * @param iz          inverse of ray direction z
+     * @param maxDistance the maximum distance along the ray
+     * @return the distance where the ray enters the box (0 if it starts inside),
+     * or positive infinity if the ray misses the box within the distance
+     */
+    static double entryDistance(double[] nodeBounds, int node, double ox, double oy, double oz,
+                                double dx, double dy, double dz,
+                                double ix, double iy, double iz, double maxDistance) {
+        int b = node * 6;
+        double tNear = 0, tFar = maxDistance;
+
+        if (dx == 0) {
+            if (ox < nodeBounds[b] || ox > nodeBounds[b + 3]) return Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (nodeBounds[b] - ox) * ix, t2 = (nodeBounds[b + 3] - ox) * ix;
+            if (t1 > t2) { double t = t1; t1 = t2; t2 = t; }
+            if (t1 > tNear) tNear = t1;
+            if (t2 < tFar) tFar = t2;
+            if (tNear > tFar) return Double.POSITIVE_INFINITY;
+        }
+
+        if (dy == 0) {
+            if (oy < nodeBounds[b + 1] || oy > nodeBounds[b + 4]) return Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (nodeBounds[b + 1] - oy) * iy, t2 = (nodeBounds[b + 4] - oy) * iy;
+            if (t1 > t2) { double t = t1; t1 = t2; t2 = t; }
+            if (t1 > tNear) tNear = t1;
+            if (t2 < tFar) tFar = t2;
+            if (tNear > tFar) return Double.POSITIVE_INFINITY;
+        }
+
+        if (dz == 0) {
+            if (oz < nodeBounds[b + 2] || oz > nodeBounds[b + 5]) return Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (nodeBounds[b + 2] - oz) * iz, t2 = (nodeBounds[b + 5] - oz) * iz;
+            if (t1 > t2) { double t = t1; t1 = t2; t2 = t; }
+            if (t1 > tNear) tNear = t1;
+            if (t2 < tFar) tFar = t2;
+            if (tNear > tFar) return Double.POSITIVE_INFINITY;
+        }
+        return tNear;
+    }
+
+    /**
+     * Recursively builds the sub-tree of the primitives in the given range of {@link #order}
+     *
+     * @param start first primitive (inclusive)
+     * @param end   last primitive (exclusive)
+     * @param depth depth of the node in the tree
+     * @return the index of the sub-tree root node
+     */
+    private int build(int start, int end, int depth) {
+        int node = nodesCount++;
+        int count = end - start;
+
+        // node bounds and centroid bounds
+        double[] centroidBounds = {
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        int b = node * 6;
+        for (int axis = 0; axis < 3; ++axis) {
+            nodeBounds[b + axis] = Double.POSITIVE_INFINITY;
+            nodeBounds[b + 3 + axis] = Double.NEGATIVE_INFINITY;
+        }
+        for (int i = start; i < end; ++i) {
+            int p = order[i];
+            for (int axis = 0; axis < 3; ++axis) {
+                nodeBounds[b + axis] = Math.min(nodeBounds[b + axis], boxes[p * 6 + axis]);
+                nodeBounds[b + 3 + axis] = Math.max(nodeBounds[b + 3 + axis], boxes[p * 6 + 3 + axis]);
+                double c = centroids[p * 3 + axis];
+                centroidBounds[axis] = Math.min(centroidBounds[axis], c);
+                centroidBounds[3 + axis] = Math.max(centroidBounds[3 + axis], c);
+            }
+        }
+
+        if (count == 1)
+            return makeLeaf(node, start, count);
+
+        // find the best binned SAH split over all three axes
+        double bestCost = Double.POSITIVE_INFINITY;
+        int bestAxis = -1, bestBin = -1;
+        for (int axis = 0; axis < 3 && depth < MAX_SAH_DEPTH; ++axis) {
+            double cMin = centroidBounds[axis], extent = centroidBounds[3 + axis] - cMin;
+            if (extent <= 0) continue;
+            fillBins(start, end, axis, cMin, extent);
+
+            // sweep from the right to get the areas of the right sides
+            double[] acc = emptyBounds();
+            int accCount = 0;
+            for (int i = BINS - 1; i > 0; --i) {
+                accCount += binCounts[i];
+                grow(acc, binBounds, i * 6);
+                rightCounts[i] = accCount;
+                rightAreas[i] = accCount == 0 ? 0 : area(acc, 0);
+            }
+            // sweep from the left and evaluate every split plane
+            acc = emptyBounds();
+            accCount = 0;
+            for (int i = 0; i < BINS - 1; ++i) {
+                accCount += binCounts[i];
+                grow(acc, binBounds, i * 6);
+                if (accCount == 0 || rightCounts[i + 1] == 0) continue;
+                double cost = accCount * area(acc, 0) + rightCounts[i + 1] * rightAreas[i + 1];
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestAxis = axis;
+                    bestBin = i;
+                }
+            }
+        }
+
+        double nodeArea = area(nodeBounds, b);
+        double leafCost = count;
+        double splitCost = nodeArea > 0 ? TRAVERSAL_COST + bestCost / nodeArea : Double.POSITIVE_INFINITY;
+
+        int mid;
+        if (bestAxis >= 0 && (splitCost < leafCost || count > MAX_LEAF_SIZE)) {
+            double cMin = centroidBounds[bestAxis];
+            mid = partition(start, end, bestAxis, bestBin, cMin, centroidBounds[3 + bestAxis] - cMin);
+        } else if (count > MAX_LEAF_SIZE) {
+            // too deep, or all the centroids coincide - split by the object median of the longest axis
+            bestAxis = longestAxis(centroidBounds);
+            mid = start + count / 2;
+            selectMedian(start, end, mid, bestAxis);
+        } else {
+            return makeLeaf(node, start, count);
+        }
+
+        build(start, mid, depth + 1);
+        int right = build(mid, end, depth + 1);
+        nodeData[node * 2] = right;
+        nodeData[node * 2 + 1] = -(bestAxis + 1);
+        return node;
+    }
+
+    /**
+     * Turns a node into a leaf
+     *
+     * @param node  the node index
+     * @param start offset of the first primitive
+     * @param count amount of primitives
+     * @return the node index
+     */
+    private int makeLeaf(int node, int start, int count) {
+        nodeData[node * 2] = start;
+        nodeData[node * 2 + 1] = count;
+        return node;
+    }
+
+    /**
+     * Distributes the primitives of a range into the bins of an axis
+     *
+     * @param start  first primitive (inclusive)
+     * @param end    last primitive (exclusive)
+     * @param axis   the axis
+     * @param cMin   minimal centroid coordinate along the axis
+     * @param extent extent of the centroids along the axis
+     */
+    private void fillBins(int start, int end, int axis, double cMin, double extent) {
+        for (int i = 0; i < BINS; ++i) {
+            binCounts[i] = 0;
+            for (int k = 0; k < 3; ++k) {
+                binBounds[i * 6 + k] = Double.POSITIVE_INFINITY;
+                binBounds[i * 6 + 3 + k] = Double.NEGATIVE_INFINITY;
+            }
+        }
+        for (int i = start; i < end; ++i) {
+            int p = order[i];
+            int bin = binOf(centroids[p * 3 + axis], cMin, extent);
+            ++binCounts[bin];
+            grow(binBounds, bin * 6, boxes, p * 6);
+        }
+    }
+
+    /**
+     * Partitions a range of primitives according to a split bin
+     *
+     * @param start first primitive (inclusive)
+     * @param end   last primitive (exclusive)
+     * @param axis   the split axis
+     * @param bin    the last bin of the left side
+     * @param cMin   minimal centroid coordinate along the axis
+     * @param extent extent of the centroids along the axis
+     * @return the index of the first primitive of the right side
+     */
+    private int partition(int start, int end, int axis, int bin, double cMin, double extent) {
+        int left = start, right = end - 1;
+        while (left <= right) {
+            if (binOf(centroids[order[left] * 3 + axis], cMin, extent) <= bin) {
+                ++left;
+            } else {
+                int temp = order[left];
+                order[left] = order[right];
+                order[right--] = temp;
+            }
+        }
+        return left == start || left == end ? start + (end - start) / 2 : left;
+    }
+
+    /**
+     * Reorders a range of primitives so that the primitive at the given position has the
+     * median centroid along an axis, with smaller centroids before it and larger after it
+     * (quick-select)
+     *
+     * @param start first primitive (inclusive)
+     * @param end   last primitive (exclusive)
+     * @param nth   the position of the median
+     * @param axis  the axis
+     */
+    private void selectMedian(int start, int end, int nth, int axis) {
+        int lo = start, hi = end - 1;
+        while (lo < hi) {
+            double pivot = centroids[order[(lo + hi) >>> 1] * 3 + axis];
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (centroids[order[i] * 3 + axis] < pivot) ++i;
+                while (centroids[order[j] * 3 + axis] > pivot) --j;
+                if (i <= j) {
+                    int temp = order[i];
+                    order[i++] = order[j];
+                    order[j--] = temp;
+                }
+            }
+            if (nth <= j) hi = j;
+            else if (nth >= i) lo = i;
+            else return;
+        }
+    }
+
+    /**
+     * Finds the longest axis of bounds
+     *
+     * @param bounds the bounds (6 numbers)
+     * @return the axis index (0 - x, 1 - y, 2 - z)
+     */
+    private static int longestAxis(double[] bounds) {
+        double x = bounds[3] - bounds[0], y = bounds[4] - bounds[1], z = bounds[5] - bounds[2];
+        if (x > y && x > z) return 0;
+        return y > z ? 1 : 2;
+    }
+
+    /**
+     * Finds the bin of a centroid coordinate
+     *
+     * @param c      the centroid coordinate
+     * @param cMin   minimal centroid coordinate
+     * @param extent extent of the centroids
+     * @return the bin index
+     */
+    private static int binOf(double c, double cMin, double extent) {
+        int bin = (int) (BINS * (c - cMin) / extent);
+        return bin >= BINS ? BINS - 1 : bin;
+    }
+
+    /**
+     * Creates empty (inverted) bounds
+     *
+     * @return bounds array that any box grows
+     */
+    private static double[] emptyBounds() {
+        return new double[]{
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    }
+
+    /**
+     * Grows bounds to contain other bounds
+     *
+     * @param bounds the bounds to grow (at offset 0)
+     * @param other  array of the other bounds
+     * @param offset offset of the other bounds
+     */
+    private static void grow(double[] bounds, double[] other, int offset) {
+        grow(bounds, 0, other, offset);
+    }
+
+    /**
+     * Grows bounds to contain other bounds
+     *
+     * @param bounds      array of the bounds to grow
+     * @param offset      offset of the bounds to grow
+     * @param other       array of the other bounds
+     * @param otherOffset offset of the other bounds
+     */
+    private static void grow(double[] bounds, int offset, double[] other, int otherOffset) {
+        for (int axis = 0; axis < 3; ++axis) {
+            bounds[offset + axis] = Math.min(bounds[offset + axis], other[otherOffset + axis]);
+            bounds[offset + 3 + axis] = Math.max(bounds[offset + 3 + axis], other[otherOffset + 3 + axis]);
+        }
+    }
+
+    /**
+     * Calculates the (half) surface area of bounds
+     *
+     * @param bounds bounds array
+     * @param offset offset of the bounds
+     * @return half of the surface area, 0 for empty bounds
+     */
+    private static double area(double[] bounds, int offset) {
+        double dx = bounds[offset + 3] - bounds[offset];
+        double dy = bounds[offset + 4] - bounds[offset + 1];
+        double dz = bounds[offset + 5] - bounds[offset + 2];
+        if (dx < 0 || dy < 0 || dz < 0) return 0;
+        return dx * dy + dy * dz + dz * dx;
+    }
+}
@@ -4,12 +4,12 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 
 import static primitives.Util.alignZero;
-import static primitives.Util.isZero;
 
 /**
  * Class Cylinder represents a finite cylinder in 3D space.
@@ -17,6 +17,10 @@ import static primitives.Util.isZero;
  * The class extends {@link Tube}, adding the height field and adapting the normal calculation.
  */
 public class Cylinder extends Tube {
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The finite height of the cylinder.
      */
@@ -81,8 +85,8 @@ public class Cylinder extends Tube {
 
         // Special case: ray starts at bottom center and goes exactly along the axis direction
         if (rayAlongAxis && axisDir.equals(v)) {
-            if (alignZero(axisP1.distance(p0) - maxDistance) <= 0) {
-                result.add(new Intersection(this, axisP1));
+            if (alignZero(height - maxDistance) <= 0) {
+                result.add(new Intersection(this, axisP1, height));
             }
             return result.isEmpty() ? null : result;
         }
@@ -91,10 +95,9 @@ public class Cylinder extends Tube {
         List<Intersection> sideHits = super.calculateIntersectionsHelper(ray, maxDistance);
         if (sideHits != null) {
             for (Intersection hit : sideHits) {
-                double t = alignZero(hit.point.subtract(axisP0).dotProduct(axisDir));
-                if (t >= 0 && t <= height &&
-                        alignZero(p0.distance(hit.point) - maxDistance) <= 0) {
-                    result.add(new Intersection(this, hit.point));
+                double t = alignZero(hit.getPoint().subtract(axisP0).dotProduct(axisDir));
+                if (t >= 0 && t <= height && alignZero(hit.t - maxDistance) <= 0) {
+                    result.add(new Intersection(this, hit.getPoint(), hit.t));
                 }
             }
         }
@@ -102,38 +105,32 @@ public class Cylinder extends Tube {
         // === 2. Intersection with bottom base ===
         if (!rayStartsAtBottomCenter) {
             Plane bottom = new Plane(axisP0, axisDir);
-            List<Point> bottomHits = bottom.findIntersections(ray);
+            List<Intersection> bottomHits = bottom.calculateIntersectionsHelper(ray, maxDistance);
             if (bottomHits != null) {
-                Point p = bottomHits.getFirst();
-                if (!isZero(p.subtract(p0).lengthSquared()) &&
-                        alignZero(p.subtract(axisP0).lengthSquared() - radius * radius) <= 0 &&
-                        alignZero(p0.distance(p) - maxDistance) <= 0) {
-                    result.add(new Intersection(this, p));
+                Intersection hit = bottomHits.getFirst();
+                if (alignZero(hit.getPoint().distanceSquared(axisP0) - radius * radius) <= 0) {
+                    result.add(new Intersection(this, hit.getPoint(), hit.t));
                 }
             }
         } else if (!rayAlongAxis) {
             // Special case: ray starts at center but not along axis – consider it as hitting bottom
-            if (alignZero(p0.distance(axisP0) - maxDistance) <= 0) {
-                result.add(new Intersection(this, axisP0));
-            }
+            result.add(new Intersection(this, axisP0, 0));
         }
 
         // === 3. Intersection with top base ===
         Plane top = new Plane(axisP1, axisDir);
-        List<Point> topHits = top.findIntersections(ray);
+        List<Intersection> topHits = top.calculateIntersectionsHelper(ray, maxDistance);
         if (topHits != null) {
-            Point p = topHits.getFirst();
-            if (!isZero(p.subtract(p0).lengthSquared()) &&
-                    alignZero(p.subtract(axisP1).lengthSquared() - radius * radius) <= 0 &&
-                    alignZero(p0.distance(p) - maxDistance) <= 0) {
-                result.add(new Intersection(this, p));
+            Intersection hit = topHits.getFirst();
+            if (alignZero(hit.getPoint().distanceSquared(axisP1) - radius * radius) <= 0) {
+                result.add(new Intersection(this, hit.getPoint(), hit.t));
             }
         }
 
         // Sort results by distance from ray origin
         if (result.isEmpty()) return null;
 
-        result.sort(Comparator.comparingDouble(i -> i.point.distance(p0)));
+        result.sort(Comparator.comparingDouble(i -> i.t));
         return result;
     }
 
@@ -0,0 +1,260 @@
+package geometries;
+
+import primitives.Double3;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static geometries.BvhBuilder.entryDistance;
+import static primitives.Util.alignZero;
+
+/**
+ * FlatBvh is a compiled, array-backed bounding volume hierarchy.<br>
+ * Instead of a tree of nested {@link Geometries} objects, the nodes are stored in depth-first
+ * order in flat arrays (see {@link BvhBuilder}): the node bounds in a {@code double[]},
+ * the child and primitive offsets in an {@code int[]}, and the primitives themselves in a flat
+ * array ordered by the leaves. The traversal is an iterative loop with a small explicit stack,
+ * which avoids the pointer chasing and the recursive virtual calls of the nested hierarchy.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class FlatBvh extends Intersectable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** The primitives, ordered so that every leaf covers a contiguous range */
+    private final Intersectable[] primitives;
+
+    /**
+     * The primitives that are triangles (at the same positions as in {@link #primitives}, null for others),
+     * their closest hit is tracked as a distance and only the final one becomes an {@link Intersection}
+     */
+    private final Triangle[] triangles;
+
+    /** Node bounds - 6 numbers per node: minX, minY, minZ, maxX, maxY, maxZ */
+    private final double[] nodeBounds;
+
+    /**
+     * Node data - 2 numbers per node: for a leaf - offset of the first primitive and amount of primitives,
+     * for an inner node - index of the right child (the left child follows its parent) and -(split axis + 1)
+     */
+    private final int[] nodeData;
+
+    /** Size of the traversal stack (the depth of the tree) */
+    private final int stackSize;
+
+    /**
+     * Builds a flat hierarchy over bounded primitives
+     *
+     * @param primitives the primitives, all of them must have a bounding box
+     * @throws IllegalArgumentException if there are no primitives or some of them are unbounded
+     */
+    public FlatBvh(List<Intersectable> primitives) {
+        if (primitives.isEmpty())
+            throw new IllegalArgumentException("A BVH must have at least one primitive");
+        Intersectable[] array = primitives.toArray(new Intersectable[0]);
+        for (Intersectable primitive : array)
+            if (primitive.boundingBox == null)
+                throw new IllegalArgumentException("All the primitives of a BVH must be bounded");
+
+        BvhBuilder builder = BvhBuilder.of(array);
+        this.primitives = new Intersectable[array.length];
+        triangles = new Triangle[array.length];
+        for (int i = 0; i < array.length; ++i) {
+            this.primitives[i] = array[builder.order[i]];
+            if (this.primitives[i] instanceof Triangle triangle)
+                triangles[i] = triangle;
+        }
+        nodeBounds = Arrays.copyOf(builder.nodeBounds, builder.nodesCount * 6);
+        nodeData = Arrays.copyOf(builder.nodeData, builder.nodesCount * 2);
+        stackSize = builder.depth(0) + 1;
+        boundingBox = rootBox();
+    }
+
+    /**
+     * Returns the primitives stored in the hierarchy
+     *
+     * @return unmodifiable list of the primitives
+     */
+    public List<Intersectable> getPrimitives() {
+        return List.of(primitives);
+    }
+
+    @Override
+    public void setBoundingBox() {
+        boundingBox = rootBox();
+    }
+
+    /**
+     * Creates the bounding box of the root node of the hierarchy
+     *
+     * @return the bounding box of the root node
+     */
+    private BoundingBox rootBox() {
+        return new BoundingBox(
+                new Point(nodeBounds[0], nodeBounds[1], nodeBounds[2]),
+                new Point(nodeBounds[3], nodeBounds[4], nodeBounds[5]));
+    }
+
+    @Override
+    protected List<Intersection> calculateIntersectionsHelper(Ray ray, double maxDistance) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = alignZero(dir.getX()), dy = alignZero(dir.getY()), dz = alignZero(dir.getZ());
+        double ix = 1 / dx, iy = 1 / dy, iz = 1 / dz;
+
+        List<Intersection> intersections = null;
+        int[] stack = new int[stackSize];
+        int top = 0;
+        int node = 0;
+        int visits = 0;
+        while (true) {
+            if (entryDistance(nodeBounds, node, ox, oy, oz, dx, dy, dz, ix, iy, iz, maxDistance) < maxDistance) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) { // inner node - visit the left child, postpone the right one
+                    stack[top++] = first;
+                    ++node;
+                    continue;
+                }
+                for (int i = first; i < first + second; ++i) {
+                    var hits = primitives[i].calculateIntersections(ray, maxDistance);
+                    if (hits == null) continue;
+                    if (intersections == null)
+                        intersections = new LinkedList<>(hits);
+                    else
+                        intersections.addAll(hits);
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, Triangle.class, 0);
+        return intersections;
+    }
+
+    /**
+     * Accumulates the transmittance along a ray with an iterative traversal,
+     * which stops as soon as the light is blocked completely.
+     */
+    @Override
+    protected Double3 calculateTransmittanceHelper(Ray ray, double maxDistance, Double3 kT, double minK) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = alignZero(dir.getX()), dy = alignZero(dir.getY()), dz = alignZero(dir.getZ());
+        double ix = 1 / dx, iy = 1 / dy, iz = 1 / dz;
+
+        int[] stack = new int[stackSize];
+        int top = 0;
+        int node = 0;
+        int visits = 0;
+        while (true) {
+            if (entryDistance(nodeBounds, node, ox, oy, oz, dx, dy, dz, ix, iy, iz, maxDistance) < maxDistance) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) {
+                    stack[top++] = first;
+                    ++node;
+                    continue;
+                }
+                for (int i = first; i < first + second; ++i) {
+                    kT = primitives[i].calculateTransmittance(ray, maxDistance, kT, minK);
+                    if (kT.lowerThan(minK)) {
+                        if (TraversalCounters.enabled) TraversalCounters.add(visits, Triangle.class, 0);
+                        return kT;
+                    }
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, Triangle.class, 0);
+        return kT;
+    }
+
+    /**
+     * Finds the closest intersection with an iterative front-to-back traversal:
+     * at every inner node the nearer child is visited first and the farther one is pushed
+     * to the stack together with its entry distance, so it is dropped when popped
+     * if a closer intersection was found meanwhile.
+     * The hits of triangles are kept as distances, and only the final closest one is materialized.
+     */
+    @Override
+    protected Intersection calculateClosestIntersectionHelper(Ray ray, double maxDistance) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = alignZero(dir.getX()), dy = alignZero(dir.getY()), dz = alignZero(dir.getZ());
+        double ix = 1 / dx, iy = 1 / dy, iz = 1 / dz;
+
+        Intersection closest = null;
+        Triangle closestTriangle = null;
+        double limit = maxDistance;
+        int[] stack = new int[stackSize];
+        double[] stackEntries = new double[stackSize];
+        int top = 0;
+        int visits = 0, tests = 0;
+
+        int node = 0;
+        double entry = entryDistance(nodeBounds, 0, ox, oy, oz, dx, dy, dz, ix, iy, iz, limit);
+        while (true) {
+            if (entry < limit) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) { // inner node - continue with the nearer child
+                    int left = node + 1;
+                    double leftEntry = entryDistance(nodeBounds, left, ox, oy, oz, dx, dy, dz, ix, iy, iz, limit);
+                    double rightEntry = entryDistance(nodeBounds, first, ox, oy, oz, dx, dy, dz, ix, iy, iz, limit);
+                    if (leftEntry <= rightEntry) {
+                        if (rightEntry < limit) {
+                            stack[top] = first;
+                            stackEntries[top++] = rightEntry;
+                        }
+                        node = left;
+                        entry = leftEntry;
+                    } else {
+                        if (leftEntry < limit) {
+                            stack[top] = left;
+                            stackEntries[top++] = leftEntry;
+                        }
+                        node = first;
+                        entry = rightEntry;
+                    }
+                    continue;
+                }
+                for (int i = first; i < first + second; ++i) {
+                    if (triangles[i] != null) {
+                        ++tests;
+                        double t = triangles[i].intersectionDistance(ray, limit);
+                        if (t != Double.POSITIVE_INFINITY) {
+                            closestTriangle = triangles[i];
+                            closest = null;
+                            limit = t;
+                        }
+                        continue;
+                    }
+                    Intersection intersection = primitives[i].calculateClosestIntersection(ray, limit);
+                    if (intersection != null) {
+                        closest = intersection;
+                        closestTriangle = null;
+                        limit = intersection.t;
+                    }
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+            entry = stackEntries[top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, Triangle.class, tests);
+        return closestTriangle == null ? closest : new Intersection(closestTriangle, ray, limit);
+    }
+}
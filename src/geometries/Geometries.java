@@ -1,11 +1,14 @@
 package geometries;
 
+import primitives.Double3;
 import primitives.Point;
 import primitives.Ray;
 
+import java.io.Serial;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Geometries class represents a collection of {@link Intersectable} geometries,
@@ -16,10 +19,25 @@ import java.util.List;
  */
 public class Geometries extends Intersectable {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * Internal list of geometries that implement {@link Intersectable}.
      */
-    private final List<Intersectable> IntersectableList = new LinkedList<>();
+    private final LinkedList<Intersectable> IntersectableList = new LinkedList<>();
+
+    /**
+     * Source of the change stamps of all the composites - the stamps grow with every change of any composite
+     */
+    private static final AtomicLong STAMPS = new AtomicLong();
+
+    /**
+     * Stamp of the last change of the list (by adding, removing, flattening or building a hierarchy),
+     * see {@link #getVersion()}
+     */
+    private long stamp = STAMPS.incrementAndGet();
 
     /**
      * Default constructor - creates an empty list of geometries.
@@ -53,6 +71,7 @@ public class Geometries extends Intersectable {
     public void add(Intersectable... geometries) {
         // Add all given geometries to the list
         IntersectableList.addAll(List.of(geometries));
+        stamp = STAMPS.incrementAndGet();
     }
 
     /**
@@ -62,6 +81,38 @@ public class Geometries extends Intersectable {
      */
     public void add(List<Intersectable> geometries) {
         IntersectableList.addAll(geometries);
+        stamp = STAMPS.incrementAndGet();
+    }
+
+    /**
+     * Calculates the version of the geometries hierarchy - the latest change stamp of this composite
+     * and of the composites nested in it. The stamps are taken from a single growing source, so the version
+     * grows on every change of the hierarchy (made by the methods of the composites, and not through
+     * {@link #getIntersectableList()}), even when a nested composite is removed, and a structure built
+     * over the hierarchy may detect that it is stale
+     *
+     * @return the version of the hierarchy
+     */
+    public long getVersion() {
+        long version = stamp;
+        for (Intersectable geometry : IntersectableList)
+            if (geometry instanceof Geometries inner)
+                version = Math.max(version, inner.getVersion());
+        return version;
+    }
+
+    /**
+     * Copies the hierarchy of the composites (recursively, with their bounding boxes) and shares the geometries,
+     * so a hierarchy built over the copy (e.g. by {@link #buildSahBvhTree()}) does not change this one
+     *
+     * @return the copy of the hierarchy
+     */
+    public Geometries copyHierarchy() {
+        Geometries copy = new Geometries();
+        for (Intersectable geometry : IntersectableList)
+            copy.IntersectableList.add(geometry instanceof Geometries inner ? inner.copyHierarchy() : geometry);
+        copy.boundingBox = boundingBox;
+        return copy;
     }
 
     /**
@@ -85,6 +136,89 @@ public class Geometries extends Intersectable {
         return intersections;
     }
 
+    /**
+     * Finds the closest intersection of a ray with the geometries in the collection.
+     * The distance of the closest intersection found so far limits the search in the rest
+     * of the children, and the children whose bounding box is entered beyond it are skipped.
+     * In a binary hierarchy node the nearer child is visited first.
+     *
+     * @param ray         the ray to intersect with the geometries
+     * @param maxDistance the maximum distance to consider for the intersection
+     * @return the closest intersection, or null if no intersection was found
+     */
+    @Override
+    protected Intersection calculateClosestIntersectionHelper(Ray ray, double maxDistance) {
+        if (IntersectableList.size() == 2) {
+            Intersectable first = IntersectableList.getFirst(), second = IntersectableList.getLast();
+            double firstEntry = entryDistance(first, ray, maxDistance);
+            double secondEntry = entryDistance(second, ray, maxDistance);
+            if (secondEntry < firstEntry) {
+                Intersectable geometry = first;
+                first = second;
+                second = geometry;
+                double entry = firstEntry;
+                firstEntry = secondEntry;
+                secondEntry = entry;
+            }
+            if (firstEntry == Double.POSITIVE_INFINITY)
+                return null;
+            if (TraversalCounters.enabled) TraversalCounters.count(first);
+            Intersection closest = first.calculateClosestIntersectionHelper(ray, maxDistance);
+            double limit = closest == null ? maxDistance : closest.t;
+            if (secondEntry >= limit)
+                return closest;
+            if (TraversalCounters.enabled) TraversalCounters.count(second);
+            Intersection other = second.calculateClosestIntersectionHelper(ray, limit);
+            return other == null ? closest : other;
+        }
+
+        Intersection closest = null;
+        double limit = maxDistance;
+        for (Intersectable child : IntersectableList) {
+            if (entryDistance(child, ray, limit) >= limit)
+                continue;
+            if (TraversalCounters.enabled) TraversalCounters.count(child);
+            Intersection intersection = child.calculateClosestIntersectionHelper(ray, limit);
+            if (intersection != null) {
+                closest = intersection;
+                limit = intersection.t;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Accumulates the transmittance along a ray through all the geometries in the collection,
+     * stopping at the first child that blocks the light completely.
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the maximum distance to consider
+     * @param kT          the transmittance accumulated so far
+     * @param minK        the threshold below which the light is considered fully blocked
+     * @return the accumulated transmittance, or {@link Double3#ZERO} if the light is fully blocked
+     */
+    @Override
+    protected Double3 calculateTransmittanceHelper(Ray ray, double maxDistance, Double3 kT, double minK) {
+        for (Intersectable child : IntersectableList) {
+            kT = child.calculateTransmittance(ray, maxDistance, kT, minK);
+            if (kT.lowerThan(minK))
+                return kT;
+        }
+        return kT;
+    }
+
+    /**
+     * Calculates where a ray enters the bounding box of a geometry
+     *
+     * @param geometry    the geometry
+     * @param ray         the ray
+     * @param maxDistance the maximum distance along the ray
+     * @return the entry distance (0 for an unbounded geometry), or positive infinity if the box is missed
+     */
+    private static double entryDistance(Intersectable geometry, Ray ray, double maxDistance) {
+        return geometry.boundingBox == null ? 0 : geometry.boundingBox.entryDistance(ray, maxDistance);
+    }
+
     /**
      * remove method allow to remove (even zero) geometries from the composite class
      *
@@ -93,6 +227,7 @@ public class Geometries extends Intersectable {
      */
     public Geometries remove(Intersectable... geometries) {
         IntersectableList.removeAll(List.of(geometries));
+        stamp = STAMPS.incrementAndGet();
         return this;
     }
 
@@ -105,6 +240,7 @@ public class Geometries extends Intersectable {
         // call the second function which will make sure we only
         // have Intersectables with simple instances of geometry
         flatten(new_geometries);
+        stamp = STAMPS.incrementAndGet();
     }
 
     /**
@@ -118,6 +254,8 @@ public class Geometries extends Intersectable {
             if (Intersectable instanceof Geometries geometries) {
 
                 flatten(geometries);
+            } else if (Intersectable instanceof FlatBvh bvh) {
+                IntersectableList.addAll(bvh.getPrimitives());
             } else {
                 IntersectableList.add(Intersectable);
             }
@@ -302,6 +440,91 @@ public class Geometries extends Intersectable {
         }
     }
 
+    /**
+     * Builds a bounding volume hierarchy (BVH) tree top-down, using binned Surface Area Heuristic
+     * splits (see {@link BvhBuilder}). The build time is about O(n log n), so it is suitable
+     * for scenes with a huge amount of geometries.<br>
+     * The geometries list is flattened first; the unbounded geometries (e.g. planes) stay
+     * at the top level next to the root of the tree.
+     */
+    public void buildSahBvhTree() {
+        flatten();
+        List<Intersectable> bounded = new LinkedList<>();
+        List<Intersectable> unbounded = new LinkedList<>();
+        for (Intersectable geometry : IntersectableList) {
+            if (geometry.boundingBox == null)
+                geometry.setBoundingBox();
+            if (geometry.boundingBox == null)
+                unbounded.add(geometry);
+            else
+                bounded.add(geometry);
+        }
+        if (bounded.size() < 2)
+            return;
+
+        Intersectable[] primitives = bounded.toArray(new Intersectable[0]);
+        BvhBuilder builder = BvhBuilder.of(primitives);
+        IntersectableList.clear();
+        add(buildSahNode(builder, primitives, 0));
+        add(unbounded);
+        boundingBox = unbounded.isEmpty() ? IntersectableList.getFirst().boundingBox : null;
+    }
+
+    /**
+     * Builds a compiled, array-backed bounding volume hierarchy (see {@link FlatBvh})
+     * over all the bounded geometries. The geometries list is flattened first, and after the build
+     * it holds the compiled hierarchy and the unbounded geometries (e.g. planes).
+     */
+    public void buildFlatBvh() {
+        flatten();
+        List<Intersectable> bounded = new LinkedList<>();
+        List<Intersectable> unbounded = new LinkedList<>();
+        for (Intersectable geometry : IntersectableList) {
+            if (geometry.boundingBox == null)
+                geometry.setBoundingBox();
+            if (geometry.boundingBox == null)
+                unbounded.add(geometry);
+            else
+                bounded.add(geometry);
+        }
+        if (bounded.isEmpty())
+            return;
+
+        IntersectableList.clear();
+        add(new FlatBvh(bounded));
+        add(unbounded);
+        boundingBox = unbounded.isEmpty() ? IntersectableList.getFirst().boundingBox : null;
+    }
+
+    /**
+     * Creates the composite of a node of a built hierarchy (recursively)
+     *
+     * @param builder    the builder holding the hierarchy
+     * @param primitives the primitives the hierarchy was built over
+     * @param node       the node index
+     * @return the intersectable representing the node sub-tree
+     */
+    private static Intersectable buildSahNode(BvhBuilder builder, Intersectable[] primitives, int node) {
+        int first = builder.nodeData[node * 2], second = builder.nodeData[node * 2 + 1];
+        if (builder.isLeaf(node) && second == 1)
+            return primitives[builder.order[first]];
+
+        Geometries geometries = new Geometries();
+        if (builder.isLeaf(node)) {
+            for (int i = first; i < first + second; ++i)
+                geometries.add(primitives[builder.order[i]]);
+        } else {
+            geometries.add(buildSahNode(builder, primitives, node + 1),
+                    buildSahNode(builder, primitives, first));
+        }
+        double[] bounds = builder.nodeBounds;
+        int b = node * 6;
+        geometries.boundingBox = new BoundingBox(
+                new Point(bounds[b], bounds[b + 1], bounds[b + 2]),
+                new Point(bounds[b + 3], bounds[b + 4], bounds[b + 5]));
+        return geometries;
+    }
+
     @Override
     public void setBoundingBox() {
         if (!setImperfectBoundingBox())
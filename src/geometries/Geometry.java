@@ -5,12 +5,18 @@ import primitives.Material;
 import primitives.Point;
 import primitives.Vector;
 
+import java.io.Serial;
+
 /**
  * Abstract class representing a geometric shape in 3D space.
  * All geometric shapes must implement a method to return the normal vector at a given point.
  */
 public abstract class Geometry extends Intersectable {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     protected Color emission = Color.BLACK; // Default emission color
 
     private Material material = new Material(); // Default material
@@ -61,4 +67,15 @@ public abstract class Geometry extends Intersectable {
      * @return the normal vector at the given point
      */
     public abstract Vector getNormal(Point p1);
-}
\ No newline at end of file
+
+    /**
+     * Returns the normal vector to the geometry at an intersection.
+     * Geometries made of faces use the intersected face, the others - only the point.
+     *
+     * @param intersection the intersection with the geometry
+     * @return the normal vector at the intersection
+     */
+    public Vector getNormal(Intersectable.Intersection intersection) {
+        return getNormal(intersection.getPoint());
+    }
+}
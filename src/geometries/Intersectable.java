@@ -3,6 +3,8 @@ package geometries;
 import lighting.LightSource;
 import primitives.*;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
 
@@ -11,7 +13,11 @@ import java.util.Objects;
  * It defines the interface and shared logic for finding intersections.
  * Concrete classes (like Sphere, Triangle, etc.) must implement the intersection logic.
  */
-public abstract class Intersectable {
+public abstract class Intersectable implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * every Intersectable composite have his bounding volume, which represented by a bounding box
@@ -24,6 +30,15 @@ public abstract class Intersectable {
      */
     public abstract void setBoundingBox();
 
+    /**
+     * Returns the bounding volume of the intersectable component
+     *
+     * @return the bounding box, or null if the component is not bounded (or the box was not set yet)
+     */
+    public BoundingBox getBoundingBox() {
+        return boundingBox;
+    }
+
     /**
      * Finds the intersection points (as Point objects) of a ray with this geometry.
      * This method is a wrapper that returns only the points, not full intersection details.
@@ -33,7 +48,7 @@ public abstract class Intersectable {
      */
     public final List<Point> findIntersections(Ray ray) {
         var list = calculateIntersections(ray);
-        return list == null ? null : list.stream().map(intersection -> intersection.point).toList();
+        return list == null ? null : list.stream().map(Intersection::getPoint).toList();
     }
 
     /**
@@ -71,9 +86,99 @@ public abstract class Intersectable {
      * @return A list of intersection points, or an empty list if there are no intersections.
      */
     public final List<Intersection> calculateIntersections(Ray ray, double maxDistance) {
-        return boundingBox != null && !boundingBox.intersectBV(ray, maxDistance)
-                ? null
-                : calculateIntersectionsHelper(ray, maxDistance);
+        if (boundingBox != null && !boundingBox.intersectBV(ray, maxDistance))
+            return null;
+        if (TraversalCounters.enabled) TraversalCounters.count(this);
+        return calculateIntersectionsHelper(ray, maxDistance);
+    }
+
+    /**
+     * Finds the closest intersection of a ray with the geometry.
+     *
+     * @param ray the ray to check
+     * @return the closest intersection, or null if none
+     */
+    public final Intersection calculateClosestIntersection(Ray ray) {
+        return calculateClosestIntersection(ray, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Finds the closest intersection of a ray with the geometry within a specified maximum distance.
+     * Composites pass the distance of the closest intersection found so far down the traversal,
+     * so that the bounding volumes and the geometries beyond it are skipped.
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the maximum distance to consider for the intersection
+     * @return the closest intersection, or null if none
+     */
+    public final Intersection calculateClosestIntersection(Ray ray, double maxDistance) {
+        if (boundingBox != null && !boundingBox.intersectBV(ray, maxDistance))
+            return null;
+        if (TraversalCounters.enabled) TraversalCounters.count(this);
+        return calculateClosestIntersectionHelper(ray, maxDistance);
+    }
+
+    /**
+     * Helper method that finds the closest intersection up to a max distance.
+     * The default implementation picks the closest of all the intersections;
+     * composites override it to prune their traversal.
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the maximum allowed distance for the intersection
+     * @return the closest intersection or null if none
+     */
+    protected Intersection calculateClosestIntersectionHelper(Ray ray, double maxDistance) {
+        List<Intersection> intersections = calculateIntersectionsHelper(ray, maxDistance);
+        if (intersections == null)
+            return null;
+
+        Intersection closest = null;
+        for (Intersection intersection : intersections)
+            if (closest == null || intersection.t < closest.t)
+                closest = intersection;
+        return closest;
+    }
+
+    /**
+     * Calculates how much light passes along a ray (typically a shadow ray) up to a given distance.
+     * The transparency coefficients (kT) of all the blocking geometries are multiplied into the
+     * given transmittance one by one, and the query stops as soon as the transmittance becomes
+     * negligible (e.g. an opaque blocker was found) - without gathering the rest of the intersections.
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the maximum distance to consider (e.g. the distance to the light)
+     * @param kT          the transmittance accumulated before this geometry
+     * @param minK        the threshold below which the light is considered fully blocked
+     * @return the accumulated transmittance, or {@link Double3#ZERO} if the light is fully blocked
+     */
+    public final Double3 calculateTransmittance(Ray ray, double maxDistance, Double3 kT, double minK) {
+        if (boundingBox != null && !boundingBox.intersectBV(ray, maxDistance))
+            return kT;
+        if (TraversalCounters.enabled) TraversalCounters.count(this);
+        return calculateTransmittanceHelper(ray, maxDistance, kT, minK);
+    }
+
+    /**
+     * Helper method that accumulates the transmittance along a ray up to a max distance.
+     * The default implementation multiplies the transparency of the geometry for each of its intersections;
+     * composites override it to stop their traversal at the first opaque blocker.
+     *
+     * @param ray         the ray to check
+     * @param maxDistance the maximum distance to consider
+     * @param kT          the transmittance accumulated so far
+     * @param minK        the threshold below which the light is considered fully blocked
+     * @return the accumulated transmittance, or {@link Double3#ZERO} if the light is fully blocked
+     */
+    protected Double3 calculateTransmittanceHelper(Ray ray, double maxDistance, Double3 kT, double minK) {
+        List<Intersection> intersections = calculateIntersectionsHelper(ray, maxDistance);
+        if (intersections == null)
+            return kT;
+        for (Intersection intersection : intersections) {
+            kT = kT.product(intersection.material.kT);
+            if (kT.lowerThan(minK))
+                return Double3.ZERO;
+        }
+        return kT;
     }
 
     /**
@@ -89,18 +194,30 @@ public abstract class Intersectable {
     /**
      * Intersection represents a detailed result of a ray intersecting a geometry.
      * It stores not only the point and the geometry, but also lighting-related fields
-     * required for computing shading (added in Stage 6).
+     * required for computing shading (added in Stage 6).<br>
+     * The distance of the intersection along the ray ({@link #t}) is stored as computed by the geometry,
+     * so the closest intersection is chosen without recomputing distances, and the intersection point
+     * is derived from the ray lazily - only when it is needed (for the shading of the closest one).
      */
     public static class Intersection {
         /** The geometry object that was intersected */
         public final Geometry geometry;
 
-        /** The intersection point on the geometry */
-        public final Point point;
+        /** The distance of the intersection point from the ray head (the ray parameter) */
+        public final double t;
+
+        /** The intersected ray (null if the point was given) */
+        private final Ray ray;
+
+        /** The intersection point on the geometry (calculated on demand if the ray was given) */
+        private Point point;
 
         /** The material at the intersection point (null if geometry is null) */
         public final Material material;
 
+        /** Index of the intersected face in a geometry made of faces (e.g. {@link TriangleMesh}), -1 otherwise */
+        public final int face;
+
         /** The direction vector of the incoming ray */
         public Vector v;
 
@@ -122,30 +239,81 @@ public abstract class Intersectable {
 
 
         /**
-         * Constructs an Intersection object with the given geometry and point.
+         * Constructs an Intersection object at a distance along a ray - the point is calculated on demand.
          * Also stores the material of the geometry if available.
          *
          * @param geometry the geometry that was intersected
+         * @param ray      the intersected ray
+         * @param t        the distance of the intersection point from the ray head
+         */
+        public Intersection(Geometry geometry, Ray ray, double t) {
+            this(geometry, ray, t, -1);
+        }
+
+        /**
+         * Constructs an Intersection object with a face of the given geometry at a distance along a ray.
+         *
+         * @param geometry the geometry that was intersected
+         * @param ray      the intersected ray
+         * @param t        the distance of the intersection point from the ray head
+         * @param face     the index of the intersected face in the geometry
+         */
+        public Intersection(Geometry geometry, Ray ray, double t, int face) {
+            this(geometry, ray, t, null, face);
+        }
+
+        /**
+         * Constructs an Intersection object with a known point (e.g. a special case of a geometry).
+         *
+         * @param geometry the geometry that was intersected
          * @param point    the intersection point
+         * @param t        the distance of the intersection point from the ray head
          */
-        public Intersection(Geometry geometry, Point point) {
+        public Intersection(Geometry geometry, Point point, double t) {
+            this(geometry, null, t, point, -1);
+        }
+
+        /**
+         * Constructs an Intersection object
+         *
+         * @param geometry the geometry that was intersected
+         * @param ray      the intersected ray, or null if the point is given
+         * @param t        the distance of the intersection point from the ray head
+         * @param point    the intersection point, or null if it is calculated from the ray
+         * @param face     the index of the intersected face in the geometry
+         */
+        private Intersection(Geometry geometry, Ray ray, double t, Point point, int face) {
             this.geometry = geometry;
+            this.ray = ray;
+            this.t = t;
             this.point = point;
+            this.face = face;
             this.material = geometry == null ? null : geometry.getMaterial();
         }
 
+        /**
+         * Getter for the intersection point - calculated from the ray at the first call
+         *
+         * @return the intersection point
+         */
+        public Point getPoint() {
+            if (point == null) point = ray.getPoint(t);
+            return point;
+        }
+
         @Override
         public boolean equals(Object object) {
             if (this == object) return true;
             if (!(object instanceof Intersection that)) return false;
-            return Objects.equals(geometry, that.geometry) && Objects.equals(point, that.point);
+            return Objects.equals(geometry, that.geometry) && Objects.equals(getPoint(), that.getPoint());
         }
 
         @Override
         public String toString() {
             return "Intersection{" +
                     "geometry=" + geometry +
-                    ", point=" + point +
+                    ", point=" + getPoint() +
+                    ", t=" + t +
                     '}';
         }
     }
@@ -4,6 +4,7 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
 import java.util.List;
 
 import static primitives.Util.alignZero;
@@ -17,6 +18,10 @@ import static primitives.Util.isZero;
  */
 public class Plane extends Geometry {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * A reference point on the plane (not necessarily unique).
      */
@@ -133,9 +138,8 @@ public class Plane extends Geometry {
         if (t <= 0 || alignZero(t - maxDistance) > 0) return null;
 
 
-        // Calculate the actual intersection point on the ray
-        Point intersection = ray.getPoint(t);
-        return List.of(new Intersection(this, intersection));
+        // The intersection point on the ray is calculated on demand
+        return List.of(new Intersection(this, ray, t));
         }
 
     @Override
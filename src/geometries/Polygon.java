@@ -4,6 +4,10 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
 import java.util.List;
 
 import static primitives.Util.alignZero;
@@ -16,10 +20,14 @@ import static primitives.Util.isZero;
  * @author Dan
  */
 public class Polygon extends Geometry {
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
-     * List of polygon's vertices
+     * List of polygon's vertices (serialized as an array, see {@link #writeObject})
      */
-    protected final List<Point> vertices;
+    protected transient List<Point> vertices;
     /**
      * Associated plane in which the polygon lays
      */
@@ -89,9 +97,34 @@ public class Polygon extends Geometry {
         }
     }
 
+    /**
+     * Writes the polygon to a serialization stream, with its vertices as an array
+     *
+     * @param out the object output stream
+     * @throws IOException if the stream cannot be written
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(vertices.toArray(new Point[0]));
+    }
+
+    /**
+     * Reads the polygon from a serialization stream and rebuilds the list of its vertices
+     *
+     * @param in the object input stream
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a class of the stream is not found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        vertices = List.of((Point[]) in.readObject());
+    }
+
     @Override
     public Vector getNormal(Point point) {
-        return plane.getNormal(null);
+        return plane.getNormal((Point) null);
     }
 
 
@@ -149,11 +182,12 @@ public class Polygon extends Geometry {
         }
 
         // Check if the intersection is within the allowed distance
-        double distance = alignZero(intersections.getFirst().distance(ray.getHead()));
+        Point point = intersections.getFirst();
+        double distance = alignZero(point.distance(ray.getHead()));
         if (distance > maxDistance) return null;
 
-        // Return the valid intersection
-        return List.of(new Intersection(this, intersections.getFirst()));
+        // Return the valid intersection (the point is needed anyway for the boundaries check)
+        return List.of(new Intersection(this, point, distance));
     }
 
     @Override
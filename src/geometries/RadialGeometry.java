@@ -1,5 +1,7 @@
 package geometries;
 
+import java.io.Serial;
+
 /**
  * Represents a radial geometry — a geometric shape defined by a radius,
  * such as spheres, tubes, and cylinders.
@@ -7,6 +9,10 @@ package geometries;
  */
 public abstract class RadialGeometry extends Geometry {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The radius of the geometry.
      */
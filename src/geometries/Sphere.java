@@ -4,6 +4,7 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -15,6 +16,10 @@ import static primitives.Util.alignZero;
  */
 public class Sphere extends RadialGeometry {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The center point of the sphere.
      */
@@ -46,7 +51,7 @@ public class Sphere extends RadialGeometry {
 
         // Special case: the ray starts exactly at the sphere center
         if (p0.equals(center))
-            return List.of(new Intersection(this, center.add(v.scale(radius)))); // returns one point on the surface
+            return List.of(new Intersection(this, center.add(v.scale(radius)), radius)); // returns one point on the surface
 
         Vector u = center.subtract(p0); // vector from ray origin to sphere center
         double tm = v.dotProduct(u); // projection of u on the ray direction
@@ -64,10 +69,10 @@ public class Sphere extends RadialGeometry {
         List<Intersection> intersections = new LinkedList<>();
 
         if (t1 > 0 && alignZero(t1 - maxDistance) <= 0)
-            intersections.add(new Intersection(this, ray.getPoint(t1)));
+            intersections.add(new Intersection(this, ray, t1));
 
         if (t2 > 0 && alignZero(t2 - maxDistance) <= 0)
-            intersections.add(new Intersection(this, ray.getPoint(t2)));
+            intersections.add(new Intersection(this, ray, t2));
 
         return intersections.isEmpty() ? null : intersections;
     }
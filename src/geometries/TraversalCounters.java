@@ -0,0 +1,133 @@
+package geometries;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TraversalCounters counts the work of the ray intersection queries: the visited nodes of the
+ * hierarchies (the bounding boxes entered by the rays) and the intersection tests of the primitives,
+ * per geometry class.<br>
+ * The counting is off by default and costs a single static flag check per query. When it is on,
+ * a traversal counts in local variables and adds the totals once at its end to {@link LongAdder}s,
+ * so the rendering threads do not contend on the counters. The node visits of every thread are
+ * also kept apart (see {@link #getThreadNodeVisits()}), e.g. for the cost of a single pixel.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public final class TraversalCounters {
+
+    /** Whether the counting is on */
+    static volatile boolean enabled = false;
+
+    /** Amount of the visited hierarchy nodes */
+    private static final LongAdder NODE_VISITS = new LongAdder();
+
+    /** Amount of the visited hierarchy nodes by the current thread */
+    private static final ThreadLocal<long[]> THREAD_NODE_VISITS = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** Amount of the primitive tests per geometry class */
+    private static final Map<Class<?>, LongAdder> PRIMITIVE_TESTS = new ConcurrentHashMap<>();
+
+    /** Counter of the primitive tests of every geometry class (cached without a map lookup) */
+    private static final ClassValue<LongAdder> TESTS_COUNTER = new ClassValue<>() {
+        @Override
+        protected LongAdder computeValue(Class<?> type) {
+            return PRIMITIVE_TESTS.computeIfAbsent(type, key -> new LongAdder());
+        }
+    };
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private TraversalCounters() {
+    }
+
+    /**
+     * Turns the counting on or off
+     *
+     * @param enabled true to count
+     */
+    public static void setEnabled(boolean enabled) {
+        TraversalCounters.enabled = enabled;
+    }
+
+    /**
+     * Checks whether the counting is on
+     *
+     * @return true if the counting is on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Resets all the counters
+     */
+    public static void reset() {
+        NODE_VISITS.reset();
+        for (LongAdder counter : PRIMITIVE_TESTS.values())
+            counter.reset();
+    }
+
+    /**
+     * Getter for the amount of the visited hierarchy nodes
+     *
+     * @return the amount of the visited nodes
+     */
+    public static long getNodeVisits() {
+        return NODE_VISITS.sum();
+    }
+
+    /**
+     * Getter for the amount of the hierarchy nodes visited by the current thread
+     * since it started (it is not reset by {@link #reset()} - a user takes the difference)
+     *
+     * @return the amount of the visited nodes
+     */
+    public static long getThreadNodeVisits() {
+        return THREAD_NODE_VISITS.get()[0];
+    }
+
+    /**
+     * Getter for the amount of the primitive tests per geometry class
+     *
+     * @return the amounts by the simple names of the classes (sorted by name, without the classes not tested)
+     */
+    public static Map<String, Long> getPrimitiveTests() {
+        Map<String, Long> tests = new TreeMap<>();
+        PRIMITIVE_TESTS.forEach((type, counter) -> {
+            long sum = counter.sum();
+            if (sum > 0) tests.merge(type.getSimpleName(), sum, Long::sum);
+        });
+        return tests;
+    }
+
+    /**
+     * Counts an intersection query of a geometry that got past its bounding box - a node visit for
+     * a collection ({@link Geometries}, {@link FlatBvh}), or a primitive test for a single geometry.
+     * A {@link TriangleMesh} counts its nodes and faces itself.
+     *
+     * @param geometry the queried geometry
+     */
+    static void count(Intersectable geometry) {
+        if (geometry instanceof Geometries || geometry instanceof FlatBvh) {
+            NODE_VISITS.increment();
+            ++THREAD_NODE_VISITS.get()[0];
+        } else if (!(geometry instanceof TriangleMesh)) TESTS_COUNTER.get(geometry.getClass()).increment();
+    }
+
+    /**
+     * Adds the work of a traversal of a flat hierarchy
+     *
+     * @param nodes the amount of the visited nodes
+     * @param type  the class of the primitives tested directly by the traversal
+     * @param tests the amount of the primitive tests
+     */
+    static void add(int nodes, Class<?> type, int tests) {
+        NODE_VISITS.add(nodes);
+        THREAD_NODE_VISITS.get()[0] += nodes;
+        if (tests > 0) TESTS_COUNTER.get(type).add(tests);
+    }
+}
@@ -1,21 +1,39 @@
 package geometries;
 
+import primitives.Double3;
 import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
 import java.util.List;
 
-import static geometries.BoundingBox.*;
 import static primitives.Util.alignZero;
+import static primitives.Util.isZero;
 
 /**
  * Represents a triangle in 3D space.
  * A triangle is a specific type of polygon with exactly three vertices.
- * Inherits from {@link Polygon}.
+ * Inherits from {@link Polygon}.<br>
+ * The intersections are calculated by the Möller–Trumbore algorithm over the edge vectors
+ * that are precomputed at construction, as primitive numbers - so that a ray test does not
+ * allocate anything, and an {@link Intersection} is created only for a hit that is actually reported.
  */
 public class Triangle extends Polygon {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Coordinates of the first vertex */
+    private final double v0x, v0y, v0z;
+
+    /** Coordinates of the first edge (second vertex - first vertex) */
+    private final double e1x, e1y, e1z;
+
+    /** Coordinates of the second edge (third vertex - first vertex) */
+    private final double e2x, e2y, e2z;
+
     /**
      * Constructs a triangle from three vertices.
      * The vertices must be ordered in a way that preserves a convex shape.
@@ -26,42 +44,73 @@ public class Triangle extends Polygon {
      */
     public Triangle(Point p1, Point p2, Point p3) {
         super(p1, p2, p3);
+        v0x = p1.getX();
+        v0y = p1.getY();
+        v0z = p1.getZ();
+        e1x = p2.getX() - v0x;
+        e1y = p2.getY() - v0y;
+        e1z = p2.getZ() - v0z;
+        e2x = p3.getX() - v0x;
+        e2y = p3.getY() - v0y;
+        e2z = p3.getZ() - v0z;
+    }
+
+    /**
+     * Calculates the distance along the ray to its intersection with the triangle (Möller–Trumbore).
+     * Intersections on the edges and the vertices of the triangle are not counted.
+     *
+     * @param ray         the ray
+     * @param maxDistance the maximum distance along the ray
+     * @return the distance to the intersection, or positive infinity if there is no intersection
+     * within the distance
+     */
+    double intersectionDistance(Ray ray, double maxDistance) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+
+        // p = dir x e2
+        double px = dy * e2z - dz * e2y;
+        double py = dz * e2x - dx * e2z;
+        double pz = dx * e2y - dy * e2x;
+        double det = e1x * px + e1y * py + e1z * pz;
+        if (isZero(det)) return Double.POSITIVE_INFINITY; // the ray is parallel to the triangle
+        double invDet = 1 / det;
+
+        // s = head - v0, u = (s . p) / det
+        double sx = head.getX() - v0x, sy = head.getY() - v0y, sz = head.getZ() - v0z;
+        double u = (sx * px + sy * py + sz * pz) * invDet;
+        if (alignZero(u) <= 0) return Double.POSITIVE_INFINITY;
+
+        // q = s x e1, v = (dir . q) / det
+        double qx = sy * e1z - sz * e1y;
+        double qy = sz * e1x - sx * e1z;
+        double qz = sx * e1y - sy * e1x;
+        double v = (dx * qx + dy * qy + dz * qz) * invDet;
+        if (alignZero(v) <= 0 || alignZero(u + v - 1) >= 0) return Double.POSITIVE_INFINITY;
+
+        // t = (e2 . q) / det - the direction is normalized, so it is the distance
+        double t = alignZero((e2x * qx + e2y * qy + e2z * qz) * invDet);
+        return t <= 0 || alignZero(t - maxDistance) > 0 ? Double.POSITIVE_INFINITY : t;
     }
 
     @Override
     protected List<Intersection> calculateIntersectionsHelper(Ray ray, double maxDistance) {
-        // First, check intersection with the triangle's supporting plane
-        Point intersection = plane.findIntersectionsPoint(ray);
-        if (intersection == null) {
-            return null; // No intersection with the plane → no intersection with triangle
-        }
-
-        // Check if intersection is within maxDistance
-        double t = ray.getHead().distance(intersection);
-        if (alignZero(t - maxDistance) > 0) {
-            return null; // Intersection is beyond maxDistance
-        }
-
-        Point p0 = ray.getHead();      // Ray origin
-        Vector dir = ray.getDirection(); // Ray direction
-
-        Vector v1 = vertices.get(0).subtract(p0);
-        Vector v2 = vertices.get(1).subtract(p0);
-        Vector v3 = vertices.get(2).subtract(p0);
-
-        Vector n1 = v1.crossProduct(v2).normalize();
-        Vector n2 = v2.crossProduct(v3).normalize();
-        Vector n3 = v3.crossProduct(v1).normalize();
-
-        double s1 = alignZero(dir.dotProduct(n1));
-        double s2 = alignZero(dir.dotProduct(n2));
-        double s3 = alignZero(dir.dotProduct(n3));
-
-        if ((s1 > 0 && s2 > 0 && s3 > 0) || (s1 < 0 && s2 < 0 && s3 < 0)) {
-            return List.of(new Intersection(this, intersection));
-        }
-
-        return null;
+        double t = intersectionDistance(ray, maxDistance);
+        return t == Double.POSITIVE_INFINITY ? null : List.of(new Intersection(this, ray, t));
+    }
+
+    @Override
+    protected Intersection calculateClosestIntersectionHelper(Ray ray, double maxDistance) {
+        double t = intersectionDistance(ray, maxDistance);
+        return t == Double.POSITIVE_INFINITY ? null : new Intersection(this, ray, t);
+    }
+
+    @Override
+    protected Double3 calculateTransmittanceHelper(Ray ray, double maxDistance, Double3 kT, double minK) {
+        if (intersectionDistance(ray, maxDistance) == Double.POSITIVE_INFINITY) return kT;
+        kT = kT.product(getMaterial().kT);
+        return kT.lowerThan(minK) ? Double3.ZERO : kT;
     }
 
 }
@@ -0,0 +1,422 @@
+package geometries;
+
+import primitives.Double3;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static geometries.BvhBuilder.entryDistance;
+import static primitives.Util.alignZero;
+import static primitives.Util.isZero;
+
+/**
+ * TriangleMesh is an indexed mesh of triangles that share a single material.<br>
+ * Instead of a {@link Triangle} object per face (with its vertices list, plane and bounding box),
+ * the vertex coordinates are stored in one {@code double[]} (3 numbers per vertex) and the faces
+ * in one {@code int[]} (3 vertex indices per face). The mesh has its own internal SAH hierarchy
+ * over the faces (see {@link BvhBuilder}), and it is intersected as a single {@link Intersectable}.
+ * The faces are ordered by the leaves of the hierarchy, so that every leaf covers a contiguous range.
+ * <p>
+ * The intersections are calculated by the Möller–Trumbore algorithm. Unlike a single triangle,
+ * the edges of the faces are counted as part of the mesh - so that a ray cannot slip between two
+ * adjacent faces, and a ray through an edge (or a vertex) shared by several faces crosses the mesh once:
+ * the hits of the adjacent faces at the same distance are dropped. The intersection keeps the face that was hit (see {@link Intersection#face}),
+ * which is used for the normal.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class TriangleMesh extends Geometry {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Vertex coordinates - 3 numbers per vertex: x, y, z */
+    private final double[] vertices;
+
+    /** Faces - 3 vertex indices per face, ordered by the leaves of the hierarchy */
+    private final int[] faces;
+
+    /** Node bounds of the hierarchy - 6 numbers per node (see {@link BvhBuilder}) */
+    private final double[] nodeBounds;
+
+    /** Node data of the hierarchy - 2 numbers per node (see {@link BvhBuilder}) */
+    private final int[] nodeData;
+
+    /** Size of the traversal stack (the depth of the hierarchy) */
+    private final int stackSize;
+
+    /**
+     * Constructs a mesh from vertex coordinates and face indices
+     *
+     * @param vertices the vertex coordinates, 3 numbers per vertex (x, y, z)
+     * @param faces    the faces, 3 vertex indices per face (in the order of the face edge path)
+     * @throws IllegalArgumentException if there are no faces, if the array lengths are not multiples of 3,
+     *                                  or if a face refers to a vertex that does not exist
+     */
+    public TriangleMesh(double[] vertices, int[] faces) {
+        if (vertices.length % 3 != 0)
+            throw new IllegalArgumentException("Vertices array must contain 3 coordinates per vertex");
+        if (faces.length == 0 || faces.length % 3 != 0)
+            throw new IllegalArgumentException("Faces array must contain 3 indices per face");
+        int verticesCount = vertices.length / 3;
+        for (int index : faces)
+            if (index < 0 || index >= verticesCount)
+                throw new IllegalArgumentException("Face refers to a non-existing vertex " + index);
+
+        this.vertices = vertices.clone();
+        int facesCount = faces.length / 3;
+        double[] boxes = new double[facesCount * 6];
+        for (int face = 0; face < facesCount; ++face)
+            for (int axis = 0; axis < 3; ++axis) {
+                double a = vertices[faces[face * 3] * 3 + axis];
+                double b = vertices[faces[face * 3 + 1] * 3 + axis];
+                double c = vertices[faces[face * 3 + 2] * 3 + axis];
+                boxes[face * 6 + axis] = Math.min(a, Math.min(b, c));
+                boxes[face * 6 + 3 + axis] = Math.max(a, Math.max(b, c));
+            }
+
+        BvhBuilder builder = new BvhBuilder(boxes);
+        this.faces = new int[faces.length];
+        for (int i = 0; i < facesCount; ++i)
+            System.arraycopy(faces, builder.order[i] * 3, this.faces, i * 3, 3);
+        nodeBounds = Arrays.copyOf(builder.nodeBounds, builder.nodesCount * 6);
+        nodeData = Arrays.copyOf(builder.nodeData, builder.nodesCount * 2);
+        stackSize = builder.depth(0) + 1;
+        boundingBox = rootBox();
+    }
+
+    /**
+     * Constructs a mesh from vertex points and face indices
+     *
+     * @param vertices the vertices
+     * @param faces    the faces, 3 vertex indices per face (in the order of the face edge path)
+     * @throws IllegalArgumentException if there are no faces, if the faces array length is not a multiple of 3,
+     *                                  or if a face refers to a vertex that does not exist
+     */
+    public TriangleMesh(List<Point> vertices, int[] faces) {
+        this(toCoordinates(vertices), faces);
+    }
+
+    /**
+     * Converts vertex points into a coordinates array
+     *
+     * @param points the vertices
+     * @return the coordinates, 3 numbers per vertex
+     */
+    private static double[] toCoordinates(List<Point> points) {
+        double[] coordinates = new double[points.size() * 3];
+        int i = 0;
+        for (Point point : points) {
+            coordinates[i++] = point.getX();
+            coordinates[i++] = point.getY();
+            coordinates[i++] = point.getZ();
+        }
+        return coordinates;
+    }
+
+    /**
+     * Returns the amount of faces in the mesh
+     *
+     * @return the amount of faces
+     */
+    public int getFacesCount() {
+        return faces.length / 3;
+    }
+
+    @Override
+    public void setBoundingBox() {
+        boundingBox = rootBox();
+    }
+
+    /**
+     * Creates the bounding box of the root node of the hierarchy
+     *
+     * @return the bounding box of the root node
+     */
+    private BoundingBox rootBox() {
+        return new BoundingBox(
+                new Point(nodeBounds[0], nodeBounds[1], nodeBounds[2]),
+                new Point(nodeBounds[3], nodeBounds[4], nodeBounds[5]));
+    }
+
+    /**
+     * Calculates the normal of a face (by the order of its vertices)
+     *
+     * @param face the face index
+     * @return the unit normal of the face
+     */
+    private Vector faceNormal(int face) {
+        int a = faces[face * 3] * 3, b = faces[face * 3 + 1] * 3, c = faces[face * 3 + 2] * 3;
+        Vector e1 = new Vector(vertices[b] - vertices[a], vertices[b + 1] - vertices[a + 1], vertices[b + 2] - vertices[a + 2]);
+        Vector e2 = new Vector(vertices[c] - vertices[a], vertices[c + 1] - vertices[a + 1], vertices[c + 2] - vertices[a + 2]);
+        return e1.crossProduct(e2).normalize();
+    }
+
+    @Override
+    public Vector getNormal(Intersection intersection) {
+        return intersection.face < 0 ? getNormal(intersection.getPoint()) : faceNormal(intersection.face);
+    }
+
+    /**
+     * Returns the normal of the face containing the point.
+     * The face is searched over all the faces - when an intersection is available,
+     * {@link #getNormal(Intersection)} is much faster.
+     *
+     * @param point a point on the mesh
+     * @return the normal of the face containing the point
+     * @throws IllegalArgumentException if the point is not on the mesh
+     */
+    @Override
+    public Vector getNormal(Point point) {
+        for (int face = 0; face < faces.length / 3; ++face) {
+            int a = faces[face * 3] * 3;
+            Vector normal;
+            try {
+                normal = faceNormal(face);
+            } catch (IllegalArgumentException degenerate) {
+                continue;
+            }
+            double offset = (point.getX() - vertices[a]) * normal.getX()
+                    + (point.getY() - vertices[a + 1]) * normal.getY()
+                    + (point.getZ() - vertices[a + 2]) * normal.getZ();
+            if (!isZero(offset)) continue;
+            // a ray from above the point backwards along the normal must hit the face
+            double nx = normal.getX(), ny = normal.getY(), nz = normal.getZ();
+            if (faceDistance(face, point.getX() + nx, point.getY() + ny, point.getZ() + nz,
+                    -nx, -ny, -nz, 2) != Double.POSITIVE_INFINITY)
+                return normal;
+        }
+        throw new IllegalArgumentException("The point is not on the mesh");
+    }
+
+    /**
+     * Calculates the distance along a ray to its intersection with a face (Möller–Trumbore)
+     *
+     * @param face        the face index
+     * @param ox          ray origin x
+     * @param oy          ray origin y
+     * @param oz          ray origin z
+     * @param dx          ray direction x
+     * @param dy          ray direction y
+     * @param dz          ray direction z
+     * @param maxDistance the maximum distance along the ray
+     * @return the distance to the intersection, or positive infinity if there is no intersection
+     * within the distance
+     */
+    private double faceDistance(int face, double ox, double oy, double oz,
+                                double dx, double dy, double dz, double maxDistance) {
+        int a = faces[face * 3] * 3, b = faces[face * 3 + 1] * 3, c = faces[face * 3 + 2] * 3;
+        double v0x = vertices[a], v0y = vertices[a + 1], v0z = vertices[a + 2];
+        double e1x = vertices[b] - v0x, e1y = vertices[b + 1] - v0y, e1z = vertices[b + 2] - v0z;
+        double e2x = vertices[c] - v0x, e2y = vertices[c + 1] - v0y, e2z = vertices[c + 2] - v0z;
+
+        double px = dy * e2z - dz * e2y;
+        double py = dz * e2x - dx * e2z;
+        double pz = dx * e2y - dy * e2x;
+        double det = e1x * px + e1y * py + e1z * pz;
+        if (isZero(det)) return Double.POSITIVE_INFINITY;
+        double invDet = 1 / det;
+
+        double sx = ox - v0x, sy = oy - v0y, sz = oz - v0z;
+        double u = (sx * px + sy * py + sz * pz) * invDet;
+        if (u < 0 || u > 1) return Double.POSITIVE_INFINITY;
+
+        double qx = sy * e1z - sz * e1y;
+        double qy = sz * e1x - sx * e1z;
+        double qz = sx * e1y - sy * e1x;
+        double v = (dx * qx + dy * qy + dz * qz) * invDet;
+        if (v < 0 || u + v > 1) return Double.POSITIVE_INFINITY;
+
+        double t = alignZero((e2x * qx + e2y * qy + e2z * qz) * invDet);
+        return t <= 0 || alignZero(t - maxDistance) > 0 ? Double.POSITIVE_INFINITY : t;
+    }
+
+    /**
+     * Checks whether a hit is at the same distance as a hit found before - the same crossing of the mesh
+     * through an edge or a vertex shared by the faces
+     *
+     * @param intersections the intersections found before
+     * @param t             the distance of the hit
+     * @return true if the hit was already found by an adjacent face
+     */
+    private static boolean isSharedHit(List<Intersection> intersections, double t) {
+        for (Intersection intersection : intersections)
+            if (isZero(intersection.t - t)) return true;
+        return false;
+    }
+
+    /**
+     * Checks whether a hit is at the same distance as a hit found before - the same crossing of the mesh
+     * through an edge or a vertex shared by the faces
+     *
+     * @param hits  the distances of the hits found before
+     * @param count the amount of the hits found before
+     * @param t     the distance of the hit
+     * @return true if the hit was already found by an adjacent face
+     */
+    private static boolean isSharedHit(double[] hits, int count, double t) {
+        for (int i = 0; i < count; ++i)
+            if (isZero(hits[i] - t)) return true;
+        return false;
+    }
+
+    @Override
+    protected List<Intersection> calculateIntersectionsHelper(Ray ray, double maxDistance) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        double ax = alignZero(dx), ay = alignZero(dy), az = alignZero(dz);
+        double ix = 1 / ax, iy = 1 / ay, iz = 1 / az;
+
+        List<Intersection> intersections = null;
+        int[] stack = new int[stackSize];
+        int top = 0;
+        int node = 0;
+        int visits = 0, tests = 0;
+        while (true) {
+            if (entryDistance(nodeBounds, node, ox, oy, oz, ax, ay, az, ix, iy, iz, maxDistance) < maxDistance) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) {
+                    stack[top++] = first;
+                    ++node;
+                    continue;
+                }
+                tests += second;
+                for (int face = first; face < first + second; ++face) {
+                    double t = faceDistance(face, ox, oy, oz, dx, dy, dz, maxDistance);
+                    if (t == Double.POSITIVE_INFINITY) continue;
+                    if (intersections == null) intersections = new LinkedList<>();
+                    else if (isSharedHit(intersections, t)) continue;
+                    intersections.add(new Intersection(this, ray, t, face));
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, TriangleMesh.class, tests);
+        return intersections;
+    }
+
+    /**
+     * Finds the closest intersection with an iterative front-to-back traversal
+     * of the hierarchy (see {@link FlatBvh}). Only the final closest hit becomes an {@link Intersection}.
+     */
+    @Override
+    protected Intersection calculateClosestIntersectionHelper(Ray ray, double maxDistance) {
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        double ax = alignZero(dx), ay = alignZero(dy), az = alignZero(dz);
+        double ix = 1 / ax, iy = 1 / ay, iz = 1 / az;
+
+        int closest = -1;
+        double limit = maxDistance;
+        int[] stack = new int[stackSize];
+        double[] stackEntries = new double[stackSize];
+        int top = 0;
+        int visits = 0, tests = 0;
+
+        int node = 0;
+        double entry = entryDistance(nodeBounds, 0, ox, oy, oz, ax, ay, az, ix, iy, iz, limit);
+        while (true) {
+            if (entry < limit) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) { // inner node - continue with the nearer child
+                    int left = node + 1;
+                    double leftEntry = entryDistance(nodeBounds, left, ox, oy, oz, ax, ay, az, ix, iy, iz, limit);
+                    double rightEntry = entryDistance(nodeBounds, first, ox, oy, oz, ax, ay, az, ix, iy, iz, limit);
+                    if (leftEntry <= rightEntry) {
+                        if (rightEntry < limit) {
+                            stack[top] = first;
+                            stackEntries[top++] = rightEntry;
+                        }
+                        node = left;
+                        entry = leftEntry;
+                    } else {
+                        if (leftEntry < limit) {
+                            stack[top] = left;
+                            stackEntries[top++] = leftEntry;
+                        }
+                        node = first;
+                        entry = rightEntry;
+                    }
+                    continue;
+                }
+                tests += second;
+                for (int face = first; face < first + second; ++face) {
+                    double t = faceDistance(face, ox, oy, oz, dx, dy, dz, limit);
+                    if (t < limit) {
+                        closest = face;
+                        limit = t;
+                    }
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+            entry = stackEntries[top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, TriangleMesh.class, tests);
+        return closest < 0 ? null : new Intersection(this, ray, limit, closest);
+    }
+
+    /**
+     * Accumulates the transmittance along a ray - the transparency of the mesh material
+     * for every face hit, and stops as soon as the light is blocked completely.
+     */
+    @Override
+    protected Double3 calculateTransmittanceHelper(Ray ray, double maxDistance, Double3 kT, double minK) {
+        Double3 faceKT = getMaterial().kT;
+
+        Point head = ray.getHead();
+        Vector dir = ray.getDirection();
+        double ox = head.getX(), oy = head.getY(), oz = head.getZ();
+        double dx = dir.getX(), dy = dir.getY(), dz = dir.getZ();
+        double ax = alignZero(dx), ay = alignZero(dy), az = alignZero(dz);
+        double ix = 1 / ax, iy = 1 / ay, iz = 1 / az;
+
+        int[] stack = new int[stackSize];
+        int top = 0;
+        int node = 0;
+        int visits = 0, tests = 0;
+        double[] hits = new double[4];
+        int hitsCount = 0;
+        while (true) {
+            if (entryDistance(nodeBounds, node, ox, oy, oz, ax, ay, az, ix, iy, iz, maxDistance) < maxDistance) {
+                ++visits;
+                int first = nodeData[node * 2], second = nodeData[node * 2 + 1];
+                if (second < 0) {
+                    stack[top++] = first;
+                    ++node;
+                    continue;
+                }
+                for (int face = first; face < first + second; ++face) {
+                    ++tests;
+                    double t = faceDistance(face, ox, oy, oz, dx, dy, dz, maxDistance);
+                    if (t == Double.POSITIVE_INFINITY || isSharedHit(hits, hitsCount, t))
+                        continue;
+                    if (hitsCount == hits.length) hits = Arrays.copyOf(hits, hitsCount * 2);
+                    hits[hitsCount++] = t;
+                    kT = kT.product(faceKT);
+                    if (kT.lowerThan(minK)) {
+                        if (TraversalCounters.enabled) TraversalCounters.add(visits, TriangleMesh.class, tests);
+                        return Double3.ZERO;
+                    }
+                }
+            }
+            if (top == 0) break;
+            node = stack[--top];
+        }
+        if (TraversalCounters.enabled) TraversalCounters.add(visits, TriangleMesh.class, tests);
+        return kT;
+    }
+}
@@ -4,6 +4,7 @@ import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 
+import java.io.Serial;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -17,6 +18,10 @@ import static primitives.Util.isZero;
  */
 public class Tube extends RadialGeometry {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The central axis ray of the tube.
      */
@@ -121,7 +126,7 @@ public class Tube extends RadialGeometry {
 
         for (double t : ts) {
             if (alignZero(t - maxDistance) <= 0) {
-                intersections.add(new Intersection(this, ray.getPoint(t)));
+                intersections.add(new Intersection(this, ray, t));
             }
         }
 
@@ -2,6 +2,8 @@ package lighting;
 
 import primitives.Color;
 
+import java.io.Serial;
+
 /**
  * Represents ambient light in a 3D scene.
  * Ambient light provides a uniform base illumination that affects all objects equally,
@@ -9,6 +11,10 @@ import primitives.Color;
  */
 public class AmbientLight extends Light{
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * A constant representing no ambient light (black color).
      * Can be used as a default value when no ambient illumination is desired.
@@ -3,6 +3,8 @@ package lighting;
 import primitives.Color;
 import primitives.*;
 
+import java.io.Serial;
+
 /**
  * DirectionalLight represents a light source that shines in a constant direction,
  * like sunlight. It has no position (i.e., it's considered to be infinitely far away),
@@ -11,6 +13,10 @@ import primitives.*;
  */
 public class DirectionalLight extends Light implements LightSource {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /** The fixed direction of the light (normalized) */
     private final Vector direction;
 
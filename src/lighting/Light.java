@@ -2,12 +2,19 @@ package lighting;
 
 import primitives.Color;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * Abstract class representing a light source in a 3D scene.
  * All light sources should extend this class and implement their specific behavior.
  * @author Hila Rosental & Miller
  */
-abstract class Light {
+abstract class Light implements Serializable {
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * The intensity of the light.
      */
@@ -3,6 +3,8 @@ package lighting;
 import primitives.Color;
 import primitives.*;
 
+import java.io.Serial;
+
 /**
  * PointLight represents a light source that emits light equally in all directions
  * from a specific position in space. Its intensity diminishes with distance
@@ -11,6 +13,10 @@ import primitives.*;
  */
 public class PointLight extends Light implements LightSource {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /** The position of the point light in space */
     private final Point position;
 
@@ -3,6 +3,8 @@ package lighting;
 import primitives.Color;
 import primitives.*;
 
+import java.io.Serial;
+
 import static primitives.Util.alignZero;
 
 /**
@@ -13,6 +15,10 @@ import static primitives.Util.alignZero;
  */
 public class SpotLight extends PointLight {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /** The central direction of the spotlight beam (normalized) */
     private final Vector direction;
 
@@ -1,5 +1,8 @@
 package primitives;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * Wrapper class for java.jwt.Color The constructors operate with any
  * non-negative RGB values. The colors are maintained without upper limit of
@@ -8,7 +11,11 @@ package primitives;
  *
  * @author Dan Zilberstein
  */
-public class Color {
+public class Color implements Serializable {
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * Black color = (0,0,0)
      */
@@ -75,6 +82,19 @@ public class Color {
         return new java.awt.Color(ir > 255 ? 255 : ir, ig > 255 ? 255 : ig, ib > 255 ? 255 : ib);
     }
 
+    /**
+     * Converts the color into a packed RGB integer (0xRRGGBB) without creating a java.awt.Color object.
+     * During the conversion any component bigger than 255 is set to 255 (as in {@link #getColor()})
+     *
+     * @return the packed RGB value of the color
+     */
+    public int getRGB() {
+        int ir = (int) rgb.d1();
+        int ig = (int) rgb.d2();
+        int ib = (int) rgb.d3();
+        return (ir > 255 ? 255 : ir) << 16 | (ig > 255 ? 255 : ig) << 8 | (ib > 255 ? 255 : ib);
+    }
+
     /**
      * Operation of adding this and one or more other colors (by component)
      *
@@ -1,12 +1,19 @@
 package primitives;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * The Material class represents the optical properties of a surface material
  * including ambient, diffuse, specular reflection, shininess,
  * transparency, and reflection attenuation.
  * @author Hila Rosental & Miller
  */
-public class Material {
+public class Material implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * Ambient reflection coefficient (kA).
@@ -1,12 +1,18 @@
 package primitives;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
  * Represents a point in 3D space using a {@link Double3} to hold the coordinates.
  * Provides operations such as vector subtraction, vector addition, and distance calculations.
  */
-public class Point {
+public class Point implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * Constant representing the origin point (0, 0, 0).
@@ -2,6 +2,8 @@ package primitives;
 
 import geometries.Intersectable. Intersection;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.List;
 
 import static primitives.Util.isZero;
@@ -10,7 +12,11 @@ import static primitives.Util.isZero;
  * Represents a ray in 3D space.
  * A ray is defined by a starting point (head) and a normalized direction vector.
  */
-public class Ray {
+public class Ray implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * The starting point (origin) of the ray.
@@ -107,9 +113,9 @@ public class Ray {
     public Point findClosestPoint(List<Point> points) {
         if (points == null || points.isEmpty()) return null;
         Intersection closest = findClosestIntersection(
-                points.stream().map(p -> new Intersection(null, p)).toList()
+                points.stream().map(p -> new Intersection(null, p, p.distance(head))).toList()
         );
-        return closest == null ? null : closest.point;
+        return closest == null ? null : closest.getPoint();
     }
 
     /**
@@ -133,8 +139,8 @@ public class Ray {
 
         // Iterate over all intersections in the list
         for (Intersection intersection : intersections) {
-            // Calculate the squared distance from the ray's head to the current intersection point
-            double distance = intersection.point.distanceSquared(head);
+            // The distance from the ray's head is kept in the intersection
+            double distance = intersection.t;
 
             // Update the closest intersection if a closer one is found
             if (distance < minDistance) {
@@ -1,5 +1,7 @@
 package primitives;
 
+import java.io.Serial;
+
 
 import static primitives.Util.isZero;
 
@@ -10,6 +12,10 @@ import static primitives.Util.isZero;
  */
 public class Vector extends Point {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     /**
      * Constant unit vector in the X direction (1, 0, 0).
      */
@@ -0,0 +1,113 @@
+package renderer;
+
+import geometries.Geometries;
+import geometries.Intersectable;
+import scene.Scene;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Acceleration structure is the hierarchy of the geometries of a scene that the rays are traced against,
+ * built by a {@link Camera.BvhMode}.<br>
+ * The structure is built over a copy of the scene composites (see {@link Geometries#copyHierarchy()}),
+ * so the scene geometries are never changed by a build, and it is not changed after the build, so any amount
+ * of cameras and renderings may read it at once. The structures are cached per scene and mode - the cameras
+ * of the same scene (e.g. the views of a multi-view or an animation job) share a single build.
+ * A structure is built again if the scene geometries have changed since its build
+ * (see {@link Geometries#getVersion()}). The cache keeps the scenes weakly.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public final class AccelerationStructure {
+    /** The cached structures of the scenes by the modes (the scenes are kept weakly) */
+    private static final Map<Scene, Map<Camera.BvhMode, AccelerationStructure>> CACHE = new WeakHashMap<>();
+
+    /** The scene geometries the structure was built over */
+    private final Geometries source;
+    /** The version of the scene geometries at the build */
+    private final long version;
+    /** The root of the structure */
+    private final Intersectable root;
+
+    /**
+     * Constructs a built structure
+     *
+     * @param source  the scene geometries the structure was built over
+     * @param version the version of the scene geometries at the build
+     * @param root    the root of the structure
+     */
+    private AccelerationStructure(Geometries source, long version, Intersectable root) {
+        this.source = source;
+        this.version = version;
+        this.root = root;
+    }
+
+    /**
+     * Provides the acceleration structure of a scene - the cached one, or a new one if there is none
+     * or the scene geometries have changed. Thread-safe: a structure of a scene is built only once
+     * even if several cameras are built at once, and the builds of different scenes do not wait for each other
+     *
+     * @param scene the scene
+     * @param mode  the mode of the structure
+     * @return the acceleration structure
+     */
+    public static AccelerationStructure of(Scene scene, Camera.BvhMode mode) {
+        Map<Camera.BvhMode, AccelerationStructure> structures;
+        synchronized (CACHE) {
+            structures = CACHE.computeIfAbsent(scene, key -> new EnumMap<>(Camera.BvhMode.class));
+        }
+        synchronized (structures) {
+            Geometries geometries = scene.geometries;
+            long current = geometries.getVersion();
+            AccelerationStructure structure = structures.get(mode);
+            if (structure == null || structure.source != geometries || structure.version != current) {
+                structure = new AccelerationStructure(geometries, current, build(geometries, mode));
+                structures.put(mode, structure);
+            }
+            return structure;
+        }
+    }
+
+    /**
+     * Builds a structure over a copy of the scene geometries
+     *
+     * @param geometries the scene geometries
+     * @param mode       the mode of the structure
+     * @return the root of the structure
+     */
+    private static Intersectable build(Geometries geometries, Camera.BvhMode mode) {
+        Geometries root = geometries.copyHierarchy();
+        switch (mode) {
+            case OFF -> root.turnOnOffBvh(false);
+            case CBR -> {
+                root.turnOnOffBvh(true);
+                root.flatten(); // Flat list, no hierarchy
+            }
+            case HIERARCHY_MANUAL -> root.turnOnOffBvh(true); // No flatten, manual hierarchy
+            case HIERARCHY_AUTO -> {
+                root.turnOnOffBvh(true);
+                root.buildBinaryBvhTree();
+            }
+            case HIERARCHY_SAH -> {
+                root.turnOnOffBvh(true);
+                root.buildSahBvhTree();
+            }
+            case HIERARCHY_FLAT -> {
+                root.turnOnOffBvh(true);
+                root.buildFlatBvh();
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Getter for the root of the structure (it must not be changed)
+     *
+     * @return the root of the structure
+     */
+    public Intersectable getRoot() {
+        return root;
+    }
+}
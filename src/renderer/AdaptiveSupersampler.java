@@ -0,0 +1,174 @@
+package renderer;
+
+import primitives.Color;
+
+import java.util.Arrays;
+
+/**
+ * Adaptive supersampler calculates the anti-aliased colors of the pixels by an adaptive recursive
+ * supersampling: the corners of a pixel are sampled, and a square is divided into 4 sub-squares
+ * only if the colors of its corners differ beyond a threshold, up to a maximal depth
+ * (depth 2 - up to a 4x4 grid of sub-squares, like 16 samples per pixel).<br>
+ * The samples lie on a lattice of the pixel corners, refined by 2<sup>depth</sup>. The corners of the
+ * pixels are shared by the neighbouring pixels through a cache of two rows of corners, and the
+ * samples inside a pixel are shared by its sub-squares - so a flat region costs about a single
+ * sample per pixel, and the extra samples are spent only on the edges.<br>
+ * A supersampler keeps the samples of a single thread - a rendering thread has its own supersampler.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class AdaptiveSupersampler {
+    /**
+     * Tracer of a sample on the refined lattice of the pixel corners
+     */
+    @FunctionalInterface
+    interface SampleTracer {
+        /**
+         * Traces a sample
+         *
+         * @param x the sample column on the lattice (the pixel corner column times the scale)
+         * @param y the sample row on the lattice (the pixel corner row times the scale)
+         * @return the color of the sample
+         */
+        Color trace(int x, int y);
+    }
+
+    /** The maximal depth of the subdivision */
+    private final int maxDepth;
+    /** The maximal difference of a color component (0-255) between the corners of a square without a subdivision */
+    private final double threshold;
+    /** The refinement of the lattice - 2<sup>maxDepth</sup> */
+    private final int scale;
+    /** The tracer of the samples */
+    private final SampleTracer tracer;
+
+    /** The rows of the pixel corners in the cache (-1 if a row is empty) */
+    private final int[] cachedRows = {-1, -1};
+    /** The cached colors of the pixel corners of the two rows, null if not sampled yet */
+    private final Color[][] cachedCorners;
+
+    /** The samples inside the current pixel (a (scale + 1)<sup>2</sup> lattice), null if not sampled yet */
+    private final Color[] pixelSamples;
+    /** The column of the current pixel */
+    private int pixelX;
+    /** The row of the current pixel */
+    private int pixelY;
+
+    /**
+     * Constructs a supersampler of an image
+     *
+     * @param nX        amount of pixels by Width
+     * @param maxDepth  the maximal depth of the subdivision
+     * @param threshold the maximal difference of a color component (0-255) without a subdivision
+     * @param tracer    the tracer of the samples
+     */
+    AdaptiveSupersampler(int nX, int maxDepth, double threshold, SampleTracer tracer) {
+        this.maxDepth = maxDepth;
+        this.threshold = threshold;
+        this.scale = 1 << maxDepth;
+        this.tracer = tracer;
+        cachedCorners = new Color[2][nX + 1];
+        pixelSamples = new Color[(scale + 1) * (scale + 1)];
+    }
+
+    /**
+     * Calculates the anti-aliased color of a pixel
+     *
+     * @param ix the column of the pixel
+     * @param iy the row of the pixel
+     * @return the color of the pixel
+     */
+    Color pixel(int ix, int iy) {
+        pixelX = ix;
+        pixelY = iy;
+        Arrays.fill(pixelSamples, null);
+        int last = scale * (scale + 1);
+        pixelSamples[0] = corner(ix, iy);
+        pixelSamples[scale] = corner(ix + 1, iy);
+        pixelSamples[last] = corner(ix, iy + 1);
+        pixelSamples[last + scale] = corner(ix + 1, iy + 1);
+        return square(0, 0, scale, 0);
+    }
+
+    /**
+     * Provides the color of a pixel corner from the rows cache, sampled on a miss
+     *
+     * @param x the corner column
+     * @param y the corner row
+     * @return the color of the corner
+     */
+    private Color corner(int x, int y) {
+        int slot = cachedRows[0] == y ? 0 : cachedRows[1] == y ? 1 : -1;
+        if (slot < 0) {
+            // replace the row farther from the requested one
+            slot = Math.abs(cachedRows[0] - y) > Math.abs(cachedRows[1] - y) ? 0 : 1;
+            cachedRows[slot] = y;
+            Arrays.fill(cachedCorners[slot], null);
+        }
+        Color color = cachedCorners[slot][x];
+        if (color == null) {
+            color = tracer.trace(x * scale, y * scale);
+            cachedCorners[slot][x] = color;
+        }
+        return color;
+    }
+
+    /**
+     * Calculates the color of a square of the current pixel - the average of its corners,
+     * or the average of its sub-squares if the corners differ
+     *
+     * @param x     the left column of the square inside the pixel lattice
+     * @param y     the top row of the square inside the pixel lattice
+     * @param size  the side of the square (in the lattice units)
+     * @param depth the depth of the square
+     * @return the color of the square
+     */
+    private Color square(int x, int y, int size, int depth) {
+        Color c00 = sample(x, y), c10 = sample(x + size, y);
+        Color c01 = sample(x, y + size), c11 = sample(x + size, y + size);
+        if (depth == maxDepth || similar(c00.getRGB(), c10.getRGB(), c01.getRGB(), c11.getRGB()))
+            return c00.add(c10, c01, c11).reduce(4);
+        int half = size / 2;
+        return square(x, y, half, depth + 1).add(
+                square(x + half, y, half, depth + 1),
+                square(x, y + half, half, depth + 1),
+                square(x + half, y + half, half, depth + 1)).reduce(4);
+    }
+
+    /**
+     * Provides a sample inside the current pixel, traced on its first use
+     *
+     * @param x the sample column inside the pixel lattice
+     * @param y the sample row inside the pixel lattice
+     * @return the color of the sample
+     */
+    private Color sample(int x, int y) {
+        int index = y * (scale + 1) + x;
+        Color color = pixelSamples[index];
+        if (color == null) {
+            color = tracer.trace(pixelX * scale + x, pixelY * scale + y);
+            pixelSamples[index] = color;
+        }
+        return color;
+    }
+
+    /**
+     * Checks whether the colors of the corners of a square are similar - every component
+     * (as written to the image) differs by no more than the threshold
+     *
+     * @param c1 the packed RGB value of the first corner
+     * @param c2 the packed RGB value of the second corner
+     * @param c3 the packed RGB value of the third corner
+     * @param c4 the packed RGB value of the fourth corner
+     * @return true if the colors are similar
+     */
+    private boolean similar(int c1, int c2, int c3, int c4) {
+        for (int shift = 0; shift <= 16; shift += 8) {
+            int v1 = c1 >> shift & 0xFF, v2 = c2 >> shift & 0xFF, v3 = c3 >> shift & 0xFF, v4 = c4 >> shift & 0xFF;
+            int min = Math.min(Math.min(v1, v2), Math.min(v3, v4));
+            int max = Math.max(Math.max(v1, v2), Math.max(v3, v4));
+            if (max - min > threshold) return false;
+        }
+        return true;
+    }
+}
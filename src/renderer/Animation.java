@@ -0,0 +1,235 @@
+package renderer;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Animation renders a sequence of frames of a camera moving along a path (see {@link CameraPath}),
+ * e.g. a turntable of a scene, and writes them as numbered image files.<br>
+ * The camera is built once, and every frame is a copy of it moved to its pose (see {@link Camera#atPose}),
+ * so all the frames share the ray tracer and the acceleration structure of the scene, which is built only once.
+ * The tiles of all the frames are rendered by a single set of workers (run by the execution strategy
+ * or the multithreading setting of the camera, see {@link Camera#runTasks}): the tiles are handed out in the frames order, and a thread that finds no more tiles
+ * in the current frame starts the next one, so the threads are kept busy while the last tiles
+ * of a frame are finished. A finished frame is written by a background encoder thread.
+ * A limited amount of frames are in flight (rendered or waiting for the encoder) at once, so the memory
+ * is bounded however long the animation is
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public final class Animation {
+    /** Minimal amount of digits of the frame numbers */
+    private static final int FRAME_DIGITS = 4;
+    /** Frame that tells the encoder there are no more frames */
+    private static final Frame END = new Frame(-1, null, null, null);
+
+    /** The camera (built) - the frames are its copies moved along the path */
+    private final Camera camera;
+    /** The path of the camera */
+    private final CameraPath path;
+    /** Amount of the frames */
+    private final int frames;
+    /** Maximal amount of the frames in flight (rendered or waiting for the encoder) */
+    private int framesInFlight = 3;
+
+    /**
+     * Frame of the animation being rendered
+     *
+     * @param index  the frame number
+     * @param camera the camera of the frame
+     * @param tiles  the tiles scheduler of the frame
+     * @param left   the amount of the tiles of the frame not rendered yet
+     */
+    private record Frame(int index, Camera camera, TileScheduler tiles, AtomicInteger left) {}
+
+    /**
+     * Tile of a frame to render
+     *
+     * @param frame the frame
+     * @param tile  the tile
+     */
+    private record Work(Frame frame, TileScheduler.Tile tile) {}
+
+    /**
+     * Constructs an animation of a camera moving along a path
+     *
+     * @param camera the camera (built) - its view plane, resolution and rendering settings are used for all the frames
+     * @param path   the path of the camera
+     * @param frames the amount of the frames
+     * @throws IllegalArgumentException if the camera or the path is missing, or the amount of the frames is not positive
+     */
+    public Animation(Camera camera, CameraPath path, int frames) {
+        if (camera == null || path == null)
+            throw new IllegalArgumentException("Camera and path must not be null");
+        if (frames <= 0) throw new IllegalArgumentException("Amount of frames must be positive");
+        this.camera = camera;
+        this.path = path;
+        this.frames = frames;
+    }
+
+    /**
+     * Sets the maximal amount of the frames in flight - rendered or waiting for the encoder (3 by default).
+     * More frames keep the threads busier when the encoder is slow, at the cost of their images memory
+     *
+     * @param framesInFlight the maximal amount of the frames in flight
+     * @return the animation object itself
+     */
+    public Animation setFramesInFlight(int framesInFlight) {
+        if (framesInFlight <= 0) throw new IllegalArgumentException("Amount of frames in flight must be positive");
+        this.framesInFlight = framesInFlight;
+        return this;
+    }
+
+    /**
+     * Calculates the time of a frame on the path - the frames are evenly spaced from 0 to 1
+     * (to one step before 1 on a closed path)
+     *
+     * @param frame the frame number
+     * @return the time of the frame
+     */
+    double frameTime(int frame) {
+        if (path.isClosed()) return (double) frame / frames;
+        return frames == 1 ? 0 : (double) frame / (frames - 1);
+    }
+
+    /**
+     * Calculates the name of the image file of a frame - the animation name and the frame number
+     * (e.g. turntable_0007)
+     *
+     * @param fileName the name of the animation
+     * @param frame    the frame number
+     * @return the name of the image file of the frame (without extension)
+     */
+    String frameName(String fileName, int frame) {
+        int digits = Math.max(FRAME_DIGITS, Integer.toString(frames - 1).length());
+        return fileName + '_' + String.format("%0" + digits + "d", frame);
+    }
+
+    /**
+     * Renders all the frames and writes them as numbered image files (see {@link #frameName})
+     *
+     * @param fileName the name of the animation
+     * @return the animation object itself
+     * @throws IllegalStateException if the rendering or the writing of a frame failed, or it was interrupted
+     */
+    public Animation render(String fileName) {
+        camera.prepareAccelerationStructure();
+        camera.prepareTrace(null);
+        Job job = new Job(fileName);
+        Thread encoder = Thread.ofPlatform().start(job::encode);
+        try {
+            camera.runTasks(camera.renderThreadsCount(), worker -> job.renderTiles());
+            job.finished.add(END);
+            encoder.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail(new IllegalStateException("Rendering was interrupted", e));
+            encoder.interrupt();
+        } catch (IllegalStateException e) {
+            // the workers were interrupted - the failure stops them
+            job.fail(e);
+            encoder.interrupt();
+        }
+        if (job.failure.get() != null) throw job.failure.get();
+        return this;
+    }
+
+    /**
+     * Rendering of the animation - hands out the tiles of the frames to the rendering threads
+     * and the finished frames to the encoder thread
+     */
+    private final class Job {
+        /** The name of the animation */
+        private final String fileName;
+        /** Permits of the frames in flight - taken by a started frame and returned by the encoder */
+        private final Semaphore window = new Semaphore(framesInFlight);
+        /** Frames finished and waiting for the encoder */
+        private final BlockingQueue<Frame> finished = new LinkedBlockingQueue<>();
+        /** Number of the next frame to start */
+        private int nextFrame = 0;
+        /** The frame whose tiles are being handed out */
+        private Frame current = null;
+        /** The first failure of the rendering or the writing, null if none */
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        /**
+         * Constructs the rendering of the animation
+         *
+         * @param fileName the name of the animation
+         */
+        Job(String fileName) {
+            this.fileName = fileName;
+        }
+
+        /**
+         * Provides the next tile to render - of the current frame, or of the next frame if the tiles
+         * of the current frame are all handed out (waits until there are less frames in flight than allowed)
+         *
+         * @return the next tile of a frame, or null if there are no more tiles or the rendering failed
+         * @throws InterruptedException if interrupted while waiting for a frame to be written
+         */
+        synchronized Work nextTile() throws InterruptedException {
+            while (failure.get() == null) {
+                if (current != null) {
+                    TileScheduler.Tile tile = current.tiles().nextTile(0);
+                    if (tile != null) return new Work(current, tile);
+                }
+                if (nextFrame == frames) return null;
+                // all the tiles of the frames in flight are handed out, so they are finished without this lock
+                window.acquire();
+                Camera frameCamera = camera.atPose(path.at(frameTime(nextFrame)));
+                TileScheduler tiles = frameCamera.createTileScheduler();
+                current = new Frame(nextFrame++, frameCamera, tiles, new AtomicInteger(tiles.tilesCount()));
+            }
+            return null;
+        }
+
+        /**
+         * Renders the tiles until there are no more tiles, and hands out the finished frames to the encoder
+         */
+        void renderTiles() {
+            try {
+                for (Work work; (work = nextTile()) != null; ) {
+                    Frame frame = work.frame();
+                    frame.camera().renderTile(frame.tiles(), work.tile());
+                    if (frame.left().decrementAndGet() == 0) finished.add(frame);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IllegalStateException("Rendering was interrupted", e));
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Writes the finished frames until there are no more frames (the encoder thread)
+         */
+        void encode() {
+            try {
+                for (Frame frame; (frame = finished.take()) != END; ) {
+                    if (failure.get() == null) frame.camera().writeToImage(frameName(fileName, frame.index()));
+                    window.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new IllegalStateException("Writing was interrupted", e));
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        /**
+         * Fails the rendering - keeps the first failure and releases the threads waiting for a frame to be written
+         *
+         * @param e the failure
+         */
+        void fail(RuntimeException e) {
+            failure.compareAndSet(null, e);
+            window.release(frames);
+        }
+    }
+}
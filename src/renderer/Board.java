@@ -6,12 +6,12 @@ import primitives.Vector;
 import java.util.LinkedList;
 import java.util.List;
 
-import static java.lang.Math.random;
 import static primitives.Util.isZero;
 
 /**
  * The Board class represents a board in a 3D space, allowing for the generation of points
- * in either a square or circular pattern based on specified parameters.
+ * in either a square or circular pattern based on specified parameters.<br>
+ * The ray tracer itself samples the lights by the precomputed patterns of {@link Sampler}.
  *
  * @author Hila Rosental and Hila Miller
  */
@@ -71,34 +71,40 @@ public class Board {
     /**
      * Generates a list of points evenly distributed in a square pattern on the board,
      * with a small random offset inside each sub-square for soft shadow sampling.
+     * The random offsets are taken from the {@link Sampler} of the current thread and pixel.
+     * For a circular board, only the points inside the inscribed circle are created.
      *
      * @param numberOfSamplesInRow the number of samples per row (and column)
-     * @return a list of points in a square pattern centered around the light source
+     * @return a list of points in a square (or circular) pattern centered around the light source
      */
-    private List<Point> getPointsSquare(int numberOfSamplesInRow) {
+    private List<Point> getPointsGrid(int numberOfSamplesInRow) {
         // Size of each sub-square within the main square area
         double subPixelSize = size / numberOfSamplesInRow;
 
+        // The inscribed circle radius is size / 2 → and radius^2 = size^2 / 4
+        double radiusSquared = size * size / 4d;
+
         // List to hold the generated sample points
         List<Point> points = new LinkedList<>();
 
-        Point point;
-        double x, y;
-
         // Loop through the rows and columns of the square grid
         for (int i = 0; i < numberOfSamplesInRow; i++) {
             for (int j = 0; j < numberOfSamplesInRow; j++) {
                 // Compute y-offset from the center (in world units), flipped vertically
                 // and add random jitter within the sub-square to break symmetry
-                y = (-(i - (numberOfSamplesInRow - 1.0) / 2.0) * subPixelSize)
-                        + (random() - 0.5) * subPixelSize;
+                double y = (-(i - (numberOfSamplesInRow - 1.0) / 2.0) * subPixelSize)
+                        + (Sampler.nextDouble() - 0.5) * subPixelSize;
 
                 // Compute x-offset from the center (in world units) with random jitter
-                x = ((j - (numberOfSamplesInRow - 1.0) / 2.0) * subPixelSize)
-                        + (random() - 0.5) * subPixelSize;
+                double x = ((j - (numberOfSamplesInRow - 1.0) / 2.0) * subPixelSize)
+                        + (Sampler.nextDouble() - 0.5) * subPixelSize;
+
+                // Skip the points outside the circle before creating them
+                if (circle && x * x + y * y >= radiusSquared)
+                    continue;
 
                 // Start from the center of the light source
-                point = center;
+                Point point = center;
 
                 // Add horizontal offset along VRight direction
                 if (!isZero(x)) {
@@ -120,37 +126,6 @@ public class Board {
     }
 
 
-    /**
-     * Filters a square-distributed set of points and returns only those
-     * that lie within a circular area centered at the light source.
-     *
-     * @param numberOfSamplesPerRow the number of samples per row (and column)
-     * @return a list of points within a circular pattern
-     */
-    private List<Point> getPointsCircle(int numberOfSamplesPerRow) {
-        // Generate a square grid of points with random jitter
-        List<Point> pointsSquare = getPointsSquare(numberOfSamplesPerRow);
-
-        // Prepare a list to hold only the points that fall inside the circle
-        List<Point> pointsCircled = new LinkedList<>();
-
-        // Calculate the squared radius of the circle
-        // Since the circle is inscribed in a square of size 'size',
-        // its radius is size / 2 → and radius^2 = size^2 / 4
-        double radiusSquared = size * size / 4d;
-
-        // Iterate through all points in the square
-        for (Point point : pointsSquare)
-            // Check if the point is inside the circle (by comparing squared distances)
-            if (point.distanceSquared(center) < radiusSquared)
-                // Add the point to the circular list if it falls inside the radius
-                pointsCircled.add(point);
-
-        // Return only the points within the circular area
-        return pointsCircled;
-    }
-
-
     /**
      * Generates a list of points based on the number of samples per row.
      * The pattern can be either square or circular depending on the circle property.
@@ -159,10 +134,7 @@ public class Board {
      * @return a list of points in either a square or circular pattern
      */
     public List<Point> getPoints(int numberOfSamplesPerRow) {
-        if (circle)
-            return getPointsCircle(numberOfSamplesPerRow);
-        else
-            return getPointsSquare(numberOfSamplesPerRow);
+        return getPointsGrid(numberOfSamplesPerRow);
     }
 
 }
@@ -1,13 +1,25 @@
 package renderer;
 
+import geometries.Intersectable;
+import geometries.TraversalCounters;
 import primitives.Color;
 import primitives.Point;
 import primitives.Ray;
 import primitives.Vector;
 import scene.Scene;
 
+import java.awt.image.BufferedImage;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.MissingResourceException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
 
@@ -20,7 +32,11 @@ import static primitives.Util.isZero;
  *
  * @author Hila Rosental & Hila Miller
  */
-public class Camera implements Cloneable {
+public class Camera implements Cloneable, Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /** Amount of threads to use fore rendering image by the camera */
     private int threadsCount = 0;
@@ -29,6 +45,8 @@ public class Camera implements Cloneable {
      * Spare threads if trying to use all the cores
      */
     private static final int SPARE_THREADS = 2;
+    /** Maximal depth of the adaptive supersampling - up to 256x256 sub-squares per pixel */
+    private static final int MAX_SUPER_SAMPLING_DEPTH = 8;
     /**
      * Debug print interval in seconds (for progress percentage)<br>
      * if it is zero - there is no progress output
@@ -41,7 +59,61 @@ public class Camera implements Cloneable {
      * <li>debug print of progress percentage in Console window/tab</li>
      * </ul>
      */
-    private PixelManager pixelManager;
+    private transient PixelManager pixelManager;
+
+    /** Size of the side of the image tiles (in pixels) that the rendering threads process */
+    private int tileSize = 16;
+
+    /** Seed of the random samples - the same seed renders the same image (see {@link Sampler}) */
+    private long samplingSeed = 0;
+
+    /** Maximal depth of the adaptive supersampling (anti-aliasing), 0 if it is off */
+    private int superSamplingDepth = 0;
+
+    /** Maximal difference of a color component (0-255) between the corners of a square without a subdivision */
+    private double superSamplingThreshold = 0;
+
+    /** The adaptive supersamplers of the rendering threads (created for every rendering, null if off) */
+    private transient ThreadLocal<AdaptiveSupersampler> supersamplers = null;
+
+    /** Pixel stride of the first preview pass of the progressive rendering */
+    private int progressiveStride = 8;
+
+    /** Listener of the passes of the progressive rendering, null if the rendering is not progressive */
+    private transient ProgressListener progressListener = null;
+
+    /** Whether the render statistics are collected */
+    private boolean collectStats = false;
+
+    /** The statistics of the last rendering (null if not collected) */
+    private transient RenderStats renderStats = null;
+
+    /** Whether the costs of every pixel are recorded */
+    private boolean recordCosts = false;
+
+    /** The pixel costs of the last rendering (null if not recorded) */
+    private transient PixelCosts pixelCosts = null;
+
+    /**
+     * Execution strategy of the rendering - the image tiles are rendered as tasks of:
+     * <ul>
+     * <li>a caller-supplied executor service (shared between renders, never shut down by the camera)</li>
+     * <li>a new virtual thread per tile</li>
+     * <li>a caller-supplied fork-join pool (tiles are split by fork-join in this pool)</li>
+     * </ul>
+     * If it is null - the strategy is chosen by the threads count
+     */
+    private transient ExecutionStrategy executionStrategy = null;
+
+    /**
+     * Execution strategy of the rendering, see {@link Builder#setExecutor(ExecutorService)},
+     * {@link Builder#setVirtualThreads()} and {@link Builder#setForkJoinPool(ForkJoinPool)}
+     *
+     * @param executor the shared executor service (for executor strategy)
+     * @param pool     the fork-join pool (for fork-join strategy)
+     */
+    private record ExecutionStrategy(ExecutorService executor, ForkJoinPool pool) {
+    }
 
     /** The forward direction vector of the camera */
     private Vector vTo = null;
@@ -70,8 +142,48 @@ public class Camera implements Cloneable {
     /** The ray tracer used for rendering the scene */
     private RayTracerBase rayTracerBase;
 
-    /** The image writer used for rendering the image */
-    private ImageWriter imageWriter;
+    /** The image writer used for rendering the image (null if the image is streamed to a file) */
+    private transient ImageWriter imageWriter;
+
+    /** Name of the image file that the image is streamed to while rendering, null if not streamed */
+    private String streamImageName = null;
+
+    /** File format of the streamed image */
+    private ImageFormat streamFormat = ImageFormat.PNG;
+
+    /** Writer of the image streamed while rendering (only during the rendering) */
+    private transient StreamingImageWriter streamingWriter = null;
+
+    /** Name of the checkpoint file of the rendering, null if the rendering is not checkpointed */
+    private String checkpointName = null;
+
+    /** Interval between the forces of the checkpoint to the storage in seconds */
+    private double checkpointInterval = 0;
+
+    /** Whether the rendering resumes from the checkpoint (only during the rendering) */
+    private boolean resuming = false;
+
+    /** Checkpoint of the rendering (only during the rendering) */
+    private transient RenderCheckpoint checkpoint = null;
+
+    /** Amount of the worker processes of the render farm, 0 if the image is rendered in this process */
+    private int farmWorkers = 0;
+
+    /** Amount of the tiles rendered by the first farm worker before it quits, 0 for no limit (for testing the failures) */
+    private int farmWorkerTileLimit = 0;
+
+    /** The mode of the acceleration structure of the scene geometries */
+    private BvhMode bvhMode = BvhMode.OFF;
+
+    /**
+     * The root of the acceleration structure of the scene by the mode (see {@link AccelerationStructure}),
+     * that the rays are traced against - it is kept by the camera and not by the ray tracer, since the ray tracer
+     * is shared by all the cameras of the builder, and their modes may differ
+     */
+    private Intersectable geometries = null;
+
+    /** The settings of the rays traced by the current rendering (see {@link RayTracerBase.Trace}) */
+    private transient RayTracerBase.Trace trace = null;
 
     /** The number of pixels in the x-axis */
     private int nX = 1;
@@ -101,7 +213,45 @@ public class Camera implements Cloneable {
          * Automatically constructed BVH tree.
          * This enables the camera to use a binary BVH tree for efficient ray-geometry intersections.
          */
-        HIERARCHY_AUTO
+        HIERARCHY_AUTO,
+        /**
+         * Automatically constructed BVH tree, built top-down with Surface Area Heuristic splits.
+         * The build is about O(n log n), suitable for scenes with a huge amount of geometries.
+         */
+        HIERARCHY_SAH,
+        /**
+         * Automatically constructed SAH BVH tree, compiled into flat arrays
+         * and traversed iteratively (see {@link geometries.FlatBvh}).
+         */
+        HIERARCHY_FLAT
+    }
+
+    /**
+     * Listener of the passes of a progressive rendering (see {@link Builder#setProgressive(int, ProgressListener)})
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called after every pass of a progressive rendering, with a snapshot of the image
+         *
+         * @param stride the pixel stride of the pass - more than 1 for a preview (every stride-th pixel
+         *               in every stride-th row is traced with a cheap shading, and the other pixels
+         *               repeat it), 1 for the final full image
+         * @param image  a snapshot of the image after the pass (the listener may keep it)
+         * @return true to continue the rendering, false to abort it (ignored after the final pass)
+         */
+        boolean passDone(int stride, BufferedImage image);
+    }
+
+    /**
+     * File formats of an image streamed to a file while rendering
+     * (see {@link Builder#setStreamingOutput(String, ImageFormat)})
+     */
+    public enum ImageFormat {
+        /** PNG image (compressed) */
+        PNG,
+        /** Binary PPM image (uncompressed) */
+        PPM
     }
 
     /**
@@ -145,11 +295,25 @@ public class Camera implements Cloneable {
      * @return A ray from the camera through the specified pixel
      */
     public Ray constructRay(int nX, int nY, int j, int i) {
+        return constructRay(nX, nY, (double) j, (double) i);
+    }
+
+    /**
+     * Constructs a ray through a point of the view plane given in pixel units - e.g. through a pixel
+     * corner or a sub-pixel sample (the center of the pixel (j, i) is at (j, i), its corners are at &plusmn;0.5).
+     *
+     * @param nX The number of pixels in the x-axis
+     * @param nY The number of pixels in the y-axis
+     * @param j  The column coordinate of the point
+     * @param i  The row coordinate of the point
+     * @return A ray from the camera through the specified point
+     */
+    public Ray constructRay(int nX, int nY, double j, double i) {
         // Calculate the size of each pixel in the view plane
         double pixelWidth = width / nX;
         double pixelHeight = height / nY;
 
-        // Calculate the center offset of the pixel in the view plane
+        // Calculate the offset of the point in the view plane
         double xJ = (j - (nX - 1) / 2.0) * pixelWidth;
         double yI = (i - (nY - 1) / 2.0) * pixelHeight;
 
@@ -254,6 +418,7 @@ public class Camera implements Cloneable {
      * @return the Camera instance for method chaining
      */
     public Camera printGrid(int interval, Color color) {
+        checkImageKept();
         // Loop through all rows and columns of the view plane
         for (int i = 0; i < nY; i++) {
             for (int j = 0; j < nX; j++) {
@@ -274,20 +439,152 @@ public class Camera implements Cloneable {
      * @return the Camera instance for method chaining
      */
     public Camera writeToImage(String fileName) {
+        checkImageKept();
         // Delegate the writing operation to the image writer
         imageWriter.writeToImage(fileName);
         return this;
     }
 
+    /**
+     * Checks that the image is kept by the camera (and not streamed to a file while rendering)
+     */
+    private void checkImageKept() {
+        if (imageWriter == null)
+            throw new IllegalStateException("The image is streamed to the file " + streamImageName + " while rendering");
+    }
+
     //=========================== Rendering ===========================
 
     /** This function renders image's pixel color map from the scene
      * included in the ray tracer object
      * @return the camera object itself
+     * @throws IllegalStateException if the render statistics are collected, and another rendering
+     *                               is collecting them (see {@link RenderStats})
      */
     public Camera renderImage() {
+        if (!collectStats && !recordCosts) return renderImageByStrategy(null);
+        RenderStats stats = new RenderStats();
+        if (recordCosts) stats.countPerThread();
+        stats.start();
+        if (collectStats) renderStats = stats;
+        if (recordCosts) pixelCosts = new PixelCosts(nX, nY);
+        try {
+            return renderImageByStrategy(stats);
+        } finally {
+            stats.finish();
+        }
+    }
 
-        pixelManager = new PixelManager(nY, nX, printInterval);
+    /**
+     * Resumes a checkpointed rendering (see {@link Builder#setCheckpoint(String, double)}) killed in the middle:
+     * the tiles finished by the killed rendering are restored from the checkpoint file, and only the rest
+     * of the tiles are rendered. If there is no checkpoint file, the whole image is rendered
+     * @return the camera object itself
+     * @throws IllegalStateException if the rendering is not checkpointed, or the checkpoint file
+     *                               does not match the resolution and the tile size of the camera
+     */
+    public Camera resumeImage() {
+        if (checkpointName == null) throw new IllegalStateException("The rendering is not checkpointed");
+        resuming = true;
+        try {
+            return renderImage();
+        } finally {
+            resuming = false;
+        }
+    }
+
+    /**
+     * Getter for the statistics of the last rendering
+     * (collected if the camera was built with {@link Builder#setRenderStats(boolean)})
+     * @return the render statistics, null if not collected
+     */
+    public RenderStats getRenderStats() {
+        return renderStats;
+    }
+
+    /**
+     * Getter for the costs of the pixels in the last rendering
+     * (recorded if the camera was built with {@link Builder#setPixelCosts(boolean)})
+     * @return the pixel costs, null if not recorded
+     */
+    public PixelCosts getPixelCosts() {
+        return pixelCosts;
+    }
+
+    /**
+     * Renders the image by the execution strategy or the multithreading setting of the camera
+     * @param stats the statistics of the rendering, null if not collected
+     * @return the camera object itself
+     */
+    private Camera renderImageByStrategy(RenderStats stats) {
+        prepareAccelerationStructure();
+        prepareTrace(stats);
+        prepareSupersamplers();
+        if (farmWorkers > 0) return renderImageFarm();
+        if (streamImageName != null) return renderImageStreaming();
+        if (checkpointName != null) return renderImageCheckpointed();
+        if (progressListener != null) return renderImageProgressive();
+        return renderImageFull();
+    }
+
+    /**
+     * Sets the shared acceleration structure of the scene by the mode to the camera
+     * (see {@link AccelerationStructure}) - it is built once per scene and mode, and built again
+     * only if the scene geometries have changed since (the scene itself is never changed).
+     * A {@link GridRayTracer} traces the rays through its own grid of the scene geometries, so no hierarchy
+     * is built for it, and its grid is built again if the scene geometries have changed
+     */
+    void prepareAccelerationStructure() {
+        Scene scene = rayTracerBase.scene;
+        if (scene == null || scene.geometries == null) return;
+        if (rayTracerBase instanceof GridRayTracer grid) {
+            grid.prepareGrid();
+            geometries = scene.geometries;
+        } else
+            geometries = AccelerationStructure.of(scene, bvhMode).getRoot();
+    }
+
+    /**
+     * Creates the settings of the rays traced by a rendering - they are given to the shared ray tracer
+     * with every traced ray (see {@link RayTracerBase#traceRay(Ray, RayTracerBase.Trace)})
+     * @param stats the statistics of the rendering, null if not collected
+     */
+    void prepareTrace(RenderStats stats) {
+        trace = new RayTracerBase.Trace(geometries, false, stats);
+    }
+
+    /**
+     * Creates the adaptive supersamplers of the rendering threads (if the supersampling is on)
+     */
+    void prepareSupersamplers() {
+        supersamplers = superSamplingDepth == 0 ? null : ThreadLocal.withInitial(() ->
+                new AdaptiveSupersampler(nX, superSamplingDepth, superSamplingThreshold, this::traceSample));
+    }
+
+    /**
+     * Renders the image by the worker processes of a render farm (see {@link RenderFarm}),
+     * and writes the tiles received from the workers to the image
+     * @return the camera object itself
+     */
+    private Camera renderImageFarm() {
+        new RenderFarm(this, farmWorkers, farmWorkerTileLimit).render(
+                new TileScheduler(nY, nX, tileSize, 1, printInterval),
+                (tile, rgb) -> imageWriter.writeTile(tile.col0(), tile.row0(), tile.col1() - tile.col0(), rgb));
+        return this;
+    }
+
+    /**
+     * Renders the full image by the execution strategy or the multithreading setting of the camera
+     * @return the camera object itself
+     */
+    private Camera renderImageFull() {
+        if (executionStrategy != null) {
+            if (executionStrategy.pool() != null) return renderImageForkJoin(executionStrategy.pool());
+            if (executionStrategy.executor() != null) return renderImageExecutor(executionStrategy.executor());
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                return renderImageExecutor(executor);
+            }
+        }
         return switch (threadsCount) {
             case 0 -> renderImageNoThreads();
             case -1 -> renderImageStream();
@@ -296,14 +593,169 @@ public class Camera implements Cloneable {
     }
 
 
+    /**
+     * Renders the image progressively: preview passes of decreasing pixel strides (e.g. 8, 4, 2)
+     * traced with a cheap shading (see {@link RayTracerBase.Trace#preview()}), and then the full image.
+     * Every pass traces only the pixels that the previous passes did not, fills the rest of the image
+     * by repeating them, and publishes a snapshot of the image to the listener, which may abort the rendering
+     * (the image is left with the last preview)
+     * @return the camera object itself
+     */
+    private Camera renderImageProgressive() {
+        // the preview mode is given with the traced rays, the shared ray tracer is not changed
+        RayTracerBase.Trace preview = new RayTracerBase.Trace(trace.geometries(), true, trace.stats());
+        for (int stride = progressiveStride; stride > 1; stride /= 2) {
+            renderPreviewPass(stride, stride == progressiveStride, preview);
+            imageWriter.fillBlocks(stride);
+            if (!progressListener.passDone(stride, imageWriter.snapshot()))
+                return this;
+        }
+        renderImageFull();
+        progressListener.passDone(1, imageWriter.snapshot());
+        return this;
+    }
+
+    /**
+     * Renders a preview pass - the pixels in every stride-th column and row that were not traced by
+     * the previous (coarser) passes, by a single ray through their centers.
+     * The rows are rendered by the execution strategy or the multithreading setting of the camera
+     * (see {@link #runTasks(int, IntConsumer)})
+     * @param stride  the pixel stride of the pass
+     * @param first   whether it is the first pass
+     * @param preview the settings of the preview rays
+     */
+    private void renderPreviewPass(int stride, boolean first, RayTracerBase.Trace preview) {
+        runTasks((nY + stride - 1) / stride, row -> {
+            int i = row * stride;
+            // the rows of the previous pass have only the odd multiples of the stride left
+            boolean previousRow = !first && i % (2 * stride) == 0;
+            int step = previousRow ? 2 * stride : stride;
+            for (int j = previousRow ? stride : 0; j < nX; j += step)
+                imageWriter.writePixel(j, i, tracePixelCenter(j, i, preview));
+        });
+    }
+
+    /**
+     * Runs independent tasks by the execution strategy of the camera (the executor, the virtual threads
+     * or the fork-join pool), or else by the multithreading setting - the raw threads, the common fork-join pool
+     * (for the parallel streaming) or without multi-threading
+     * @param count the amount of the tasks
+     * @param task  the task by its number
+     * @throws IllegalStateException if the running was interrupted
+     */
+    void runTasks(int count, IntConsumer task) {
+        if (executionStrategy != null) {
+            if (executionStrategy.pool() != null)
+                executionStrategy.pool().submit(() -> IntStream.range(0, count).parallel().forEach(task)).join();
+            else if (executionStrategy.executor() != null) runTasks(executionStrategy.executor(), count, task);
+            else try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                runTasks(executor, count, task);
+            }
+        } else if (threadsCount > 0) {
+            AtomicInteger next = new AtomicInteger();
+            var threads = new LinkedList<Thread>();
+            for (int worker = 0; worker < threadsCount; ++worker)
+                threads.add(new Thread(() -> {
+                    for (int i; (i = next.getAndIncrement()) < count; ) task.accept(i);
+                }));
+            for (var thread : threads) thread.start();
+            try {
+                for (var thread : threads) thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Rendering was interrupted", e);
+            }
+        } else if (threadsCount == -1) IntStream.range(0, count).parallel().forEach(task);
+        else IntStream.range(0, count).forEach(task);
+    }
+
+    /**
+     * Runs independent tasks by submitting them to an executor service and waits for them
+     * @param executor the executor service
+     * @param count    the amount of the tasks
+     * @param task     the task by its number
+     */
+    private static void runTasks(ExecutorService executor, int count, IntConsumer task) {
+        var tasks = new LinkedList<Future<?>>();
+        for (int i = 0; i < count; ++i) {
+            int index = i;
+            tasks.add(executor.submit(() -> task.accept(index)));
+        }
+        try {
+            for (var future : tasks) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rendering was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rendering failed", e.getCause());
+        }
+    }
+
+    /**
+     * Renders the image by tiles in rows order and streams the finished bands of tiles to the image file,
+     * so the whole image is never kept in the memory. The execution strategy is kept; otherwise the tiles
+     * are rendered by the raw threads (sharing a single queue), by the common fork-join pool
+     * (instead of the parallel streaming) or without multi-threading
+     * @return the camera object itself
+     */
+    private Camera renderImageStreaming() {
+        try (StreamingImageWriter writer = new StreamingImageWriter(nX, nY, tileSize, streamImageName, streamFormat)) {
+            streamingWriter = writer;
+            renderImageTiled();
+            writer.finish();
+        } finally {
+            streamingWriter = null;
+        }
+        return this;
+    }
+
+    /**
+     * Renders the image by tiles and writes every finished tile to the checkpoint file as well,
+     * so a killed rendering may be resumed by {@link #resumeImage()}. A resumed rendering restores
+     * the finished tiles from the checkpoint and renders only the rest of the tiles
+     * (the pixels do not depend on the rendering order, so the image is the same as rendered at once)
+     * @return the camera object itself
+     */
+    private Camera renderImageCheckpointed() {
+        try (RenderCheckpoint cp = new RenderCheckpoint(nX, nY, tileSize, checkpointName, checkpointInterval, resuming)) {
+            checkpoint = cp;
+            if (resuming) cp.restore(imageWriter);
+            renderImageTiled();
+        } finally {
+            checkpoint = null;
+        }
+        return this;
+    }
+
+    /**
+     * Renders the image by tiles. The execution strategy is kept; otherwise the tiles are rendered
+     * by the raw threads, by the common fork-join pool (instead of the parallel streaming)
+     * or without multi-threading
+     */
+    private void renderImageTiled() {
+        if (executionStrategy != null) {
+            if (executionStrategy.pool() != null) renderImageForkJoin(executionStrategy.pool());
+            else if (executionStrategy.executor() != null) renderImageExecutor(executionStrategy.executor());
+            else try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                renderImageExecutor(executor);
+            }
+        } else if (threadsCount > 0) renderImageRawThreads();
+        else if (threadsCount == -1) renderImageForkJoin(ForkJoinPool.commonPool());
+        else renderTiles(new TileScheduler(nY, nX, tileSize, 1, printInterval), 0);
+    }
+
     /**
      * Render image using multi-threading by parallel streaming
      * @return the camera object itself
      */
     private Camera renderImageStream() {
+        pixelManager = new PixelManager(nY, nX, printInterval);
         IntStream.range(0, nY).parallel()
                 .forEach(i -> IntStream.range(0, nX).parallel()
-                        .forEach(j -> castRay(j, i)));
+                        .forEach(j -> {
+                            imageWriter.writePixel(j, i, castRay(j, i));
+                            pixelManager.pixelDone();
+                        }));
         return this;
     }
     /**
@@ -311,23 +763,28 @@ public class Camera implements Cloneable {
      * @return the camera object itself
      */
     private Camera renderImageNoThreads() {
+        pixelManager = new PixelManager(nY, nX, printInterval);
         for (int i = 0; i < nY; ++i)
-            for (int j = 0; j < nX; ++j)
-                castRay(j, i);
+            for (int j = 0; j < nX; ++j) {
+                imageWriter.writePixel(j, i, castRay(j, i));
+                pixelManager.pixelDone();
+            }
         return this;
     }
     /**
-     * Render image using multi-threading by creating and running raw threads
+     * Render image using multi-threading by creating and running raw threads.
+     * The threads get image tiles from a work-stealing {@link TileScheduler}
      * @return the camera object itself
      */
     private Camera renderImageRawThreads() {
+        // a streamed image is rendered from a single queue, so the bands of tiles are finished in order
+        int queues = streamingWriter == null ? threadsCount : 1;
+        TileScheduler scheduler = new TileScheduler(nY, nX, tileSize, queues, printInterval);
         var threads = new LinkedList<Thread>();
-        while (threadsCount-- > 0)
-            threads.add(new Thread(() -> {
-                PixelManager.Pixel pixel;
-                while ((pixel = pixelManager.nextPixel()) != null)
-                    castRay(pixel.col(), pixel.row());
-            }));
+        for (int worker = 0; worker < threadsCount; ++worker) {
+            int id = worker % queues;
+            threads.add(new Thread(() -> renderTiles(scheduler, id)));
+        }
         for (var thread : threads) thread.start();
         try {
             for (var thread : threads) thread.join();
@@ -336,28 +793,213 @@ public class Camera implements Cloneable {
     }
 
     /**
-     * Casts a ray through the specified pixel and sets the pixel color
+     * Render image by submitting a task per tile to an executor service
+     * @param executor the executor service
+     * @return the camera object itself
+     */
+    private Camera renderImageExecutor(ExecutorService executor) {
+        TileScheduler scheduler = new TileScheduler(nY, nX, tileSize, 1, printInterval);
+        var tasks = new LinkedList<Future<?>>();
+        for (int i = scheduler.tilesCount(); i > 0; --i)
+            tasks.add(executor.submit(() -> renderTile(scheduler, scheduler.nextTile(0))));
+        try {
+            for (var task : tasks) task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rendering was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Rendering failed", e.getCause());
+        }
+        return this;
+    }
+
+    /**
+     * Render image by fork-join splitting of the tiles inside the given pool
+     * (instead of the common pool used by parallel streams)
+     * @param pool the fork-join pool
+     * @return the camera object itself
+     */
+    private Camera renderImageForkJoin(ForkJoinPool pool) {
+        TileScheduler scheduler = new TileScheduler(nY, nX, tileSize, 1, printInterval);
+        pool.submit(() -> IntStream.range(0, scheduler.tilesCount()).parallel()
+                        .forEach(i -> renderTile(scheduler, scheduler.nextTile(0))))
+                .join();
+        return this;
+    }
+
+    /**
+     * Renders a single tile into a local buffer, writes the buffer to the image at once
+     * and reports the tile to the scheduler
+     *
+     * @param scheduler the tiles scheduler
+     * @param tile      the tile to render
+     */
+    void renderTile(TileScheduler scheduler, TileScheduler.Tile tile) {
+        // a tile restored from the checkpoint is not rendered again
+        if (checkpoint != null && checkpoint.isDone(tile)) {
+            scheduler.tileDone(tile);
+            return;
+        }
+        int[] rgb = renderTilePixels(tile);
+        if (streamingWriter != null)
+            streamingWriter.writeTile(tile.col0(), tile.row0(), tile.col1() - tile.col0(), rgb);
+        else
+            imageWriter.writeTile(tile.col0(), tile.row0(), tile.col1() - tile.col0(), rgb);
+        if (checkpoint != null) checkpoint.tileDone(tile, rgb);
+        scheduler.tileDone(tile);
+    }
+
+    /**
+     * Renders the pixels of a tile
+     *
+     * @param tile the tile to render
+     * @return the packed RGB values of the tile pixels, row by row
+     */
+    int[] renderTilePixels(TileScheduler.Tile tile) {
+        int[] rgb = new int[tile.size()];
+        int index = 0;
+        for (int i = tile.row0(); i < tile.row1(); ++i)
+            for (int j = tile.col0(); j < tile.col1(); ++j)
+                rgb[index++] = castRay(j, i).getRGB();
+        return rgb;
+    }
+
+    /**
+     * Renders the tiles provided by the scheduler until there are no more tiles
+     *
+     * @param scheduler the tiles scheduler
+     * @param worker    the worker number in the scheduler
+     */
+    private void renderTiles(TileScheduler scheduler, int worker) {
+        TileScheduler.Tile tile;
+        while ((tile = scheduler.nextTile(worker)) != null)
+            renderTile(scheduler, tile);
+    }
+
+    /**
+     * Casts a ray through the specified pixel and calculates the pixel color
      * according to the ray tracer's result.
      *
      * @param ix the x-coordinate (column) of the pixel
      * @param iy the y-coordinate (row) of the pixel
+     * @return the color of the pixel
+     */
+    private Color castRay(int ix, int iy) {
+        if (pixelCosts == null)
+            return castRayUncounted(ix, iy);
+        long rays = RenderStats.getThreadRays();
+        long nodes = TraversalCounters.getThreadNodeVisits();
+        long start = System.nanoTime();
+        Color color = castRayUncounted(ix, iy);
+        long time = System.nanoTime() - start;
+        pixelCosts.record(ix, iy, time, RenderStats.getThreadRays() - rays,
+                TraversalCounters.getThreadNodeVisits() - nodes);
+        return color;
+    }
+
+    /**
+     * Casts a ray through the specified pixel and calculates the pixel color
+     * according to the ray tracer's result (without recording the pixel costs).
+     *
+     * @param ix the x-coordinate (column) of the pixel
+     * @param iy the y-coordinate (row) of the pixel
+     * @return the color of the pixel
      */
-    private void castRay(int ix, int iy) {
+    private Color castRayUncounted(int ix, int iy) {
+        // Anti-aliased pixel by the adaptive supersampling
+        if (supersamplers != null)
+            return supersamplers.get().pixel(ix, iy);
+        return tracePixelCenter(ix, iy, trace);
+    }
+
+    /**
+     * Traces a single ray through the center of the specified pixel
+     *
+     * @param ix the x-coordinate (column) of the pixel
+     * @param iy the y-coordinate (row) of the pixel
+     * @param trace the settings of the traced ray
+     * @return the color of the pixel
+     */
+    private Color tracePixelCenter(int ix, int iy, RayTracerBase.Trace trace) {
+        // Start the random samples of the pixel (independent of the thread rendering it)
+        Sampler.startPixel(samplingSeed, ix, iy);
+
         // Construct a ray through the pixel
         Ray ray = constructRay(nX, nY, ix, iy);
 
         // Trace the ray to get the color at the intersection point
-        Color color = rayTracerBase.traceRay(ray);
+        return rayTracerBase.traceRay(ray, trace);
+    }
 
-        // Color the pixel using the traced color
-        imageWriter.writePixel(ix, iy, color);
+    /**
+     * Traces a sample of the adaptive supersampling through a point on the refined lattice of the pixel corners
+     *
+     * @param x the sample column on the lattice
+     * @param y the sample row on the lattice
+     * @return the color of the sample
+     */
+    private Color traceSample(int x, int y) {
+        // Start the random samples of the sample point (independent of the pixel and the thread tracing it)
+        Sampler.startPixel(samplingSeed, x, y);
+        double scale = 1 << superSamplingDepth;
+        return rayTracerBase.traceRay(constructRay(nX, nY, x / scale - 0.5, y / scale - 0.5), trace);
+    }
 
-        // Update pixel manager with the current pixel
-        pixelManager.pixelDone();
+    // ================================ Camera rotation methods ================================
 
+    /**
+     * Creates a copy of the camera moved to a pose (see {@link CameraPath}) - the frame of an animation.
+     * The copy keeps the view plane, the resolution and the rendering settings, and shares the ray tracer
+     * (and the acceleration structure), without building it again; only the image is its own.
+     * The up direction is the Y axis, as in {@link Builder#setDirection(Point)}
+     *
+     * @param pose the pose of the copy
+     * @return the moved copy of the camera
+     * @throws IllegalStateException if the image of the camera is streamed to a file
+     */
+    Camera atPose(CameraPath.Pose pose) {
+        checkImageKept();
+        Camera frame;
+        try {
+            frame = (Camera) clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+        frame.p0 = pose.location();
+        frame.vTo = pose.target().subtract(frame.p0).normalize();
+        frame.vUp = isZero(Math.abs(frame.vTo.dotProduct(Vector.AXIS_Y)) - 1) ? Vector.AXIS_X : Vector.AXIS_Y;
+        if (!isZero(frame.vTo.dotProduct(frame.vUp)))
+            frame.vUp = frame.vTo.crossProduct(frame.vUp).crossProduct(frame.vTo).normalize();
+        frame.vRight = frame.vTo.crossProduct(frame.vUp).normalize();
+        frame.pcenter = frame.p0.add(frame.vTo.scale(distance));
+        frame.imageWriter = new ImageWriter(nX, nY);
+        frame.prepareSupersamplers();
+        return frame;
     }
 
-    // ================================ Camera rotation methods ================================
+    /**
+     * Creates a scheduler of the tiles of the image with a single queue and without progress printing
+     *
+     * @return the tiles scheduler
+     */
+    TileScheduler createTileScheduler() {
+        return new TileScheduler(nY, nX, tileSize, 1, 0);
+    }
+
+    /**
+     * Calculates the amount of the threads rendering by the execution strategy or the multithreading setting
+     * of the camera (the parallelism of a fork-join pool, or a thread per core for an executor,
+     * the virtual threads and the parallel streaming)
+     *
+     * @return the amount of the rendering threads
+     */
+    int renderThreadsCount() {
+        if (executionStrategy != null)
+            return executionStrategy.pool() != null ? executionStrategy.pool().getParallelism()
+                    : Runtime.getRuntime().availableProcessors();
+        if (threadsCount > 0) return threadsCount;
+        return threadsCount == -1 ? Runtime.getRuntime().availableProcessors() : 1;
+    }
 
     /**
      * Rotates the camera around a target point on the horizontal (Y) axis.
@@ -433,8 +1075,10 @@ public class Camera implements Cloneable {
 
         /**
          * Set the BVH acceleration mode for the scene geometries.
+         * The acceleration structure is shared by all the cameras of the scene with the same mode
+         * (see {@link AccelerationStructure}), and the scene geometries are not changed by it.
          *
-         * @param mode the BVH mode to use (OFF, CBR, HIERARCHY_MANUAL, HIERARCHY_AUTO)
+         * @param mode the BVH mode to use (OFF, CBR, HIERARCHY_MANUAL, HIERARCHY_AUTO, HIERARCHY_SAH, HIERARCHY_FLAT)
          * @return this builder instance
          */
         public Builder setBvhMode(BvhMode mode) {
@@ -453,10 +1097,12 @@ public class Camera implements Cloneable {
          * <li>0 - multi-threading is not activated</li>
          * <li>1 and more - literally number of threads</li>
          * </ul>
+         * Overrides an execution strategy set before (executor, virtual threads or fork-join pool)
          * @param threads number of threads
          * @return builder object itself
          */
         public Builder setMultithreading(int threads) {
+            camera.executionStrategy = null;
             if (threads < -3)
                 throw new IllegalArgumentException("Multithreading parameter must be -2 or higher");
             if (threads == -2) {
@@ -477,6 +1123,188 @@ public class Camera implements Cloneable {
             return this;
         }
 
+        /**
+         * Set the size of the image tiles that the rendering threads process
+         * (used when rendering with raw threads)
+         * @param tileSize the tile side size in pixels (e.g. 16 or 32)
+         * @return builder object itself
+         */
+        public Builder setTileSize(int tileSize) {
+            if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive");
+            camera.tileSize = tileSize;
+            return this;
+        }
+
+        /**
+         * Set the seed of the random samples (e.g. soft shadows) - the same seed renders the same image
+         * @param seed the seed
+         * @return builder object itself
+         */
+        public Builder setSamplingSeed(long seed) {
+            camera.samplingSeed = seed;
+            return this;
+        }
+
+        /**
+         * Render the image progressively: first preview passes - every stride-th pixel in every stride-th row
+         * with a cheap shading, then every half of the stride and so on, and finally the full image.
+         * A snapshot of the image is published to the listener after every pass, and the listener may abort
+         * the rendering (e.g. to fix the framing or the lighting without waiting for the full image)
+         * @param stride   the pixel stride of the first preview pass - a power of 2 (e.g. 8), 1 for no previews
+         * @param listener the listener of the passes, null to render the image at once
+         * @return builder object itself
+         */
+        public Builder setProgressive(int stride, ProgressListener listener) {
+            if (stride < 1 || Integer.bitCount(stride) != 1)
+                throw new IllegalArgumentException("Progressive stride must be a power of 2");
+            camera.progressiveStride = stride;
+            camera.progressListener = listener;
+            return this;
+        }
+
+        /**
+         * Set the adaptive supersampling (anti-aliasing) of the pixels: the corners of a pixel are sampled
+         * (shared with the neighbouring pixels), and a square is divided into 4 sub-squares only
+         * where the colors of its corners differ beyond the threshold
+         * @param maxDepth  the maximal depth of the subdivision (e.g. 2 - up to 4x4 sub-squares per pixel),
+         *                  0 to turn the supersampling off (a single ray through the pixel center)
+         * @param threshold the maximal difference of a color component (0-255) between the corners
+         *                  of a square without a subdivision
+         * @return builder object itself
+         */
+        public Builder setAdaptiveSuperSampling(int maxDepth, double threshold) {
+            if (maxDepth < 0 || maxDepth > MAX_SUPER_SAMPLING_DEPTH)
+                throw new IllegalArgumentException("Supersampling depth must be between 0 and " + MAX_SUPER_SAMPLING_DEPTH);
+            if (threshold < 0) throw new IllegalArgumentException("Supersampling threshold must be non-negative");
+            camera.superSamplingDepth = maxDepth;
+            camera.superSamplingThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Collect the statistics of the renderings - the traced rays, the hierarchy node visits,
+         * the primitive tests and the time (see {@link Camera#getRenderStats()})
+         * @param collect true to collect the statistics
+         * @return builder object itself
+         */
+        public Builder setRenderStats(boolean collect) {
+            camera.collectStats = collect;
+            return this;
+        }
+
+        /**
+         * Record the costs of every pixel - the time, the traced rays and the hierarchy node visits
+         * (see {@link Camera#getPixelCosts()})
+         * @param record true to record the pixel costs
+         * @return builder object itself
+         */
+        public Builder setPixelCosts(boolean record) {
+            camera.recordCosts = record;
+            return this;
+        }
+
+        /**
+         * Render the image tiles as tasks of a shared executor service.
+         * Several cameras may share the same bounded pool instead of oversubscribing the cores.
+         * The camera never shuts the executor down.
+         * Overrides the multithreading setting.
+         * @param executor the executor service
+         * @return builder object itself
+         */
+        public Builder setExecutor(ExecutorService executor) {
+            if (executor == null) throw new IllegalArgumentException("Executor cannot be null");
+            camera.executionStrategy = new ExecutionStrategy(executor, null);
+            return this;
+        }
+
+        /**
+         * Render every image tile in its own virtual thread.
+         * Overrides the multithreading setting.
+         * @return builder object itself
+         */
+        public Builder setVirtualThreads() {
+            camera.executionStrategy = new ExecutionStrategy(null, null);
+            return this;
+        }
+
+        /**
+         * Render the image tiles by fork-join splitting inside a caller-supplied pool
+         * (and not in the common pool).
+         * Overrides the multithreading setting.
+         * @param pool the fork-join pool
+         * @return builder object itself
+         */
+        public Builder setForkJoinPool(ForkJoinPool pool) {
+            if (pool == null) throw new IllegalArgumentException("Fork-join pool cannot be null");
+            camera.executionStrategy = new ExecutionStrategy(null, pool);
+            return this;
+        }
+
+        /**
+         * Stream the image to a file while rendering, instead of keeping it in the memory:
+         * the rows of the image tiles are encoded as soon as they are finished, so the memory is bounded
+         * by a few rows of tiles and not by the image size (e.g. for huge poster images).
+         * The image file is written by {@link Camera#renderImage()}, and the camera cannot write
+         * the image or print a grid on it afterward
+         * @param imageName the name of the image file (without the extension), null to keep the image in the memory
+         * @param format    the file format of the image
+         * @return builder object itself
+         */
+        public Builder setStreamingOutput(String imageName, ImageFormat format) {
+            if (imageName != null && format == null) throw new IllegalArgumentException("Image format cannot be null");
+            camera.streamImageName = imageName;
+            camera.streamFormat = format;
+            camera.imageWriter = null;
+            return this;
+        }
+
+        /**
+         * Checkpoint the rendering: every finished tile is written to a memory-mapped checkpoint file
+         * in the images folder, which is forced to the storage at the given interval. A rendering killed
+         * in the middle (e.g. a high-sample poster rendering of hours) may be resumed by
+         * {@link Camera#resumeImage()} without rendering the finished tiles again.
+         * {@link Camera#renderImage()} starts a new checkpoint. The file is kept after the rendering
+         * (a resumed rendering of a finished checkpoint only restores the image)
+         * @param fileName the name of the checkpoint file (without the extension), null for no checkpoint
+         * @param interval the interval between the forces of the checkpoint to the storage in seconds
+         *                 (0 - after every tile)
+         * @return builder object itself
+         */
+        public Builder setCheckpoint(String fileName, double interval) {
+            if (interval < 0) throw new IllegalArgumentException("Checkpoint interval must be non-negative");
+            camera.checkpointName = fileName;
+            camera.checkpointInterval = interval;
+            return this;
+        }
+
+
+        /**
+         * Render the image by a render farm: the camera and its scene are serialized once and shipped
+         * over local sockets to worker processes (see {@link RenderWorker}), which render the tiles handed out
+         * to them and send the pixels back. The tiles of a worker that dies are handed out to the other workers.
+         * Every worker renders its tiles by the threads of the multithreading setting
+         * (the execution strategy is not used by the workers)
+         * @param workers the amount of the worker processes, 0 to render the image in this process
+         * @return builder object itself
+         */
+        public Builder setRenderFarm(int workers) {
+            return setRenderFarm(workers, 0);
+        }
+
+        /**
+         * Render the image by a render farm of worker processes, whose first worker quits after a limited
+         * amount of tiles (for testing the reassigning of the tiles of the dead workers)
+         * @param workers   the amount of the worker processes, 0 to render the image in this process
+         * @param tileLimit the amount of the tiles rendered by the first worker before it quits, 0 for no limit
+         * @return builder object itself
+         */
+        Builder setRenderFarm(int workers, int tileLimit) {
+            if (workers < 0) throw new IllegalArgumentException("Amount of the farm workers must be non-negative");
+            if (tileLimit < 0) throw new IllegalArgumentException("Farm worker tile limit must be non-negative");
+            camera.farmWorkers = workers;
+            camera.farmWorkerTileLimit = tileLimit;
+            return this;
+        }
 
         //=========================== Camera direction setup (3 overloads)===========================
         /**
@@ -665,30 +1493,8 @@ public class Camera implements Cloneable {
                 validate(camera);
 
                     Camera cam = (Camera) camera.clone();
-                    // Apply BVH mode to scene/geometries if possible:
-                    Scene scene = null;
-                    if (cam.rayTracerBase instanceof SimpleRayTracer simple) {
-                        scene = simple.getScene();
-                    }
-                    if (scene != null && scene.geometries != null) {
-                        switch (bvhMode) {
-                            case OFF:
-                                scene.geometries.turnOnOffBvh(false);
-                                break;
-                            case CBR:
-                                scene.geometries.turnOnOffBvh(true);
-                                scene.geometries.flatten(); // Flat list, no hierarchy
-                                break;
-                            case HIERARCHY_MANUAL:
-                                scene.geometries.turnOnOffBvh(true);
-                                // No flatten, manual hierarchy
-                                break;
-                            case HIERARCHY_AUTO:
-                                scene.geometries.turnOnOffBvh(true);
-                                scene.geometries.buildBinaryBvhTree();
-                                break;
-                        }
-                    }
+                    cam.bvhMode = bvhMode;
+                    cam.prepareAccelerationStructure();
                     return cam;
                 } catch (CloneNotSupportedException ignored) {
                 return null;
@@ -781,8 +1587,16 @@ public class Camera implements Cloneable {
                 camera.rayTracerBase = new SimpleRayTracer(new Scene(null));
             }
 
-            // Initialize image writer
-            if (camera.imageWriter == null) {
+            if (camera.streamImageName != null && camera.progressListener != null)
+                throw new IllegalStateException("A streamed image cannot be rendered progressively");
+            if (camera.checkpointName != null && (camera.streamImageName != null || camera.progressListener != null))
+                throw new IllegalStateException("A streamed or progressive rendering cannot be checkpointed");
+            if (camera.farmWorkers > 0
+                    && (camera.streamImageName != null || camera.progressListener != null || camera.checkpointName != null))
+                throw new IllegalStateException("A streamed, progressive or checkpointed image cannot be rendered by a farm");
+
+            // Initialize image writer (unless the image is streamed)
+            if (camera.imageWriter == null && camera.streamImageName == null) {
                 camera.imageWriter = new ImageWriter(camera.nX, camera.nY);
             }
         }
@@ -819,8 +1633,8 @@ public class Camera implements Cloneable {
          * @return the Builder instance
          */
         public Builder setResolution(int nx, int ny) {
-            // Save values to camera
-            camera.imageWriter = new ImageWriter(nx, ny);
+            // Save values to camera (the image writer is created by build)
+            camera.imageWriter = null;
             camera.nX = nx;
             camera.nY = ny;
             return this;
@@ -852,11 +1666,28 @@ public class Camera implements Cloneable {
                     camera.rayTracerBase = new SimpleRayTracer(scene)
                             .setSoftShadowSamples(softShadowSamples);
                     break;
+                case GRID:
+                    camera.rayTracerBase = new GridRayTracer(scene)
+                            .setSoftShadowSamples(softShadowSamples);
+                    break;
                 default:
                     throw new IllegalArgumentException("Invalid ray tracer type");
             }
             return this;
         }
 
+        /**
+         * Sets a ready (and configured) ray tracer for the camera,
+         * e.g. a {@link SimpleRayTracer} with adaptive soft shadows.
+         *
+         * @param rayTracer the ray tracer
+         * @return the Builder instance
+         */
+        public Builder setRayTracer(RayTracerBase rayTracer) {
+            if (rayTracer == null) throw new IllegalArgumentException("Ray tracer cannot be null");
+            camera.rayTracerBase = rayTracer;
+            return this;
+        }
+
     }
 }
@@ -0,0 +1,189 @@
+package renderer;
+
+import primitives.Point;
+
+/**
+ * Camera path is the movement of a camera along an animation (see {@link Animation}) - the location
+ * of the camera and the point it looks at, by the animation time from 0 (the first frame) to 1 (the last frame).
+ * The paths are an orbit around a target (a turntable), a linear interpolation of keyframes
+ * and a smooth (Catmull-Rom) spline through keyframes.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+@FunctionalInterface
+public interface CameraPath {
+    /**
+     * Pose of the camera - its location and the point it looks at
+     * (the up direction is the Y axis, as in {@link Camera.Builder#setDirection(Point)})
+     *
+     * @param location the location of the camera
+     * @param target   the point the camera looks at
+     */
+    record Pose(Point location, Point target) {
+        /**
+         * Constructs a pose, checking that the camera is not located at the target
+         *
+         * @param location the location of the camera
+         * @param target   the point the camera looks at
+         * @throws IllegalArgumentException if a point is missing or the camera is located at the target
+         */
+        public Pose {
+            if (location == null || target == null)
+                throw new IllegalArgumentException("Location and target must not be null");
+            if (location.equals(target))
+                throw new IllegalArgumentException("Camera cannot be located at the target point");
+        }
+    }
+
+    /**
+     * Calculates the pose of the camera at a time of the animation
+     *
+     * @param t the time, from 0 (the first frame) to 1 (the last frame)
+     * @return the pose of the camera
+     */
+    Pose at(double t);
+
+    /**
+     * Checks whether the path returns to its start at time 1 (e.g. a full turn around the target) -
+     * then the last frame is one step before the time 1, so the start is not rendered twice in a loop
+     *
+     * @return true if the path is closed
+     */
+    default boolean isClosed() {
+        return false;
+    }
+
+    /**
+     * Creates an orbit of the camera around a vertical axis through the target, at the height of the start
+     * (the rotation is clockwise, as in {@link Camera#rotateCameraAroundTarget})
+     *
+     * @param target  the point in the focus of the camera
+     * @param start   the location of the camera at the first frame
+     * @param degrees the total rotation angle in degrees (e.g. 360 for a turntable)
+     * @return the orbit path
+     * @throws IllegalArgumentException if a point is missing, or the start is straight above or below the target
+     */
+    static CameraPath orbit(Point target, Point start, double degrees) {
+        if (target == null || start == null)
+            throw new IllegalArgumentException("Target and start must not be null");
+        double x = start.getX() - target.getX();
+        double z = start.getZ() - target.getZ();
+        if (x == 0 && z == 0)
+            throw new IllegalArgumentException("The orbit start must not be straight above or below the target");
+        boolean closed = degrees != 0 && degrees % 360 == 0;
+        return new CameraPath() {
+            @Override
+            public Pose at(double t) {
+                double angle = Math.toRadians(degrees * t);
+                double cos = Math.cos(angle);
+                double sin = Math.sin(angle);
+                return new Pose(new Point(target.getX() + x * cos + z * sin, start.getY(),
+                        target.getZ() - x * sin + z * cos), target);
+            }
+
+            @Override
+            public boolean isClosed() {
+                return closed;
+            }
+        };
+    }
+
+    /**
+     * Creates a path moving linearly between keyframes evenly spaced in time
+     *
+     * @param keys the poses of the keyframes (at least two)
+     * @return the keyframes path
+     * @throws IllegalArgumentException if there are less than two keyframes
+     */
+    static CameraPath keyframes(Pose... keys) {
+        Pose[] poses = checkKeys(keys);
+        return t -> {
+            int segments = poses.length - 1;
+            double position = Math.clamp(t, 0, 1) * segments;
+            int i = Math.min((int) position, segments - 1);
+            double u = position - i;
+            return new Pose(lerp(poses[i].location(), poses[i + 1].location(), u),
+                    lerp(poses[i].target(), poses[i + 1].target(), u));
+        };
+    }
+
+    /**
+     * Creates a path moving smoothly through keyframes evenly spaced in time, by a uniform Catmull-Rom spline
+     * (the end keyframes are repeated for the end segments)
+     *
+     * @param keys the poses of the keyframes (at least two)
+     * @return the spline path
+     * @throws IllegalArgumentException if there are less than two keyframes
+     */
+    static CameraPath spline(Pose... keys) {
+        Pose[] poses = checkKeys(keys);
+        return t -> {
+            int segments = poses.length - 1;
+            double position = Math.clamp(t, 0, 1) * segments;
+            int i = Math.min((int) position, segments - 1);
+            double u = position - i;
+            Pose p0 = poses[Math.max(i - 1, 0)], p1 = poses[i], p2 = poses[i + 1];
+            Pose p3 = poses[Math.min(i + 2, segments)];
+            return new Pose(catmullRom(p0.location(), p1.location(), p2.location(), p3.location(), u),
+                    catmullRom(p0.target(), p1.target(), p2.target(), p3.target(), u));
+        };
+    }
+
+    /**
+     * Checks the keyframes of a path
+     *
+     * @param keys the poses of the keyframes
+     * @return a copy of the keyframes
+     * @throws IllegalArgumentException if there are less than two keyframes
+     */
+    private static Pose[] checkKeys(Pose[] keys) {
+        if (keys == null || keys.length < 2)
+            throw new IllegalArgumentException("A camera path needs at least two keyframes");
+        return keys.clone();
+    }
+
+    /**
+     * Interpolates linearly between two points
+     *
+     * @param a the point at 0
+     * @param b the point at 1
+     * @param u the interpolation parameter
+     * @return the interpolated point
+     */
+    private static Point lerp(Point a, Point b, double u) {
+        return new Point(a.getX() + (b.getX() - a.getX()) * u,
+                a.getY() + (b.getY() - a.getY()) * u,
+                a.getZ() + (b.getZ() - a.getZ()) * u);
+    }
+
+    /**
+     * Interpolates between the two middle points of a uniform Catmull-Rom spline segment
+     *
+     * @param p0 the point before the segment
+     * @param p1 the point at 0
+     * @param p2 the point at 1
+     * @param p3 the point after the segment
+     * @param u  the interpolation parameter
+     * @return the interpolated point
+     */
+    private static Point catmullRom(Point p0, Point p1, Point p2, Point p3, double u) {
+        return new Point(catmullRom(p0.getX(), p1.getX(), p2.getX(), p3.getX(), u),
+                catmullRom(p0.getY(), p1.getY(), p2.getY(), p3.getY(), u),
+                catmullRom(p0.getZ(), p1.getZ(), p2.getZ(), p3.getZ(), u));
+    }
+
+    /**
+     * Interpolates a coordinate of a uniform Catmull-Rom spline segment
+     *
+     * @param c0 the coordinate before the segment
+     * @param c1 the coordinate at 0
+     * @param c2 the coordinate at 1
+     * @param c3 the coordinate after the segment
+     * @param u  the interpolation parameter
+     * @return the interpolated coordinate
+     */
+    private static double catmullRom(double c0, double c1, double c2, double c3, double u) {
+        return 0.5 * (2 * c1 + (c2 - c0) * u + (2 * c0 - 5 * c1 + 4 * c2 - c3) * u * u
+                + (3 * (c1 - c2) + c3 - c0) * u * u * u);
+    }
+}
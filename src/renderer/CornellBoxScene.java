@@ -10,7 +10,12 @@ import primitives.*;
 import scene.Scene;
 
 public class CornellBoxScene {
-    public static void main(String[] args) {
+    /**
+     * Prepares the Cornell box scene with all geometries, materials, lights and the camera.
+     *
+     * @return a Camera.Builder object configured for the Cornell box scene
+     */
+    public static Camera.Builder prepareCornellBox() {
         Scene scene = new Scene("Cornell Box Inspired")
         .setBackground(new Color(5, 5, 15)); // רקע כמעט שחור כחול עמוק
         scene.setAmbientLight(new AmbientLight(new Color(10, 10, 10)));
@@ -225,15 +230,22 @@ public class CornellBoxScene {
                 .setKl(0.01).setKq(0.005).setRadius(3));
 
         // Camera
-        Camera camera = new Camera.Builder()
+        return new Camera.Builder()
                 .setLocation(new Point(0, 0, 100))
                 .setDirection(new Vector(0, 0, -1), new Vector(0, 1, 0))
                 .setVpDistance(300)
                 .setVpSize(300, 400)
                 .setResolution(400, 600)
-                .setRayTracer(scene, RayTracerType.SIMPLE)
-                .build();
+                .setRayTracer(scene, RayTracerType.SIMPLE);
+    }
 
+    /**
+     * Renders the Cornell box scene
+     *
+     * @param args not used
+     */
+    public static void main(String[] args) {
+        Camera camera = prepareCornellBox().build();
         camera.renderImage();
         camera.writeToImage("cornell_box_scene");
     }
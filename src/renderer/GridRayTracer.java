@@ -0,0 +1,532 @@
+package renderer;
+
+import geometries.BoundingBox;
+import geometries.FlatBvh;
+import geometries.Geometries;
+import geometries.Intersectable;
+import geometries.Intersectable.Intersection;
+import primitives.Double3;
+import primitives.Point;
+import primitives.Ray;
+import primitives.Vector;
+import scene.Scene;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static primitives.Util.alignZero;
+
+/**
+ * GridRayTracer is a ray tracer that accelerates the ray-geometry intersections
+ * with a regular (uniform) grid of voxels.<br>
+ * All the bounded geometries of the scene are distributed into the grid cells they overlap,
+ * and every ray walks only through the cells it passes (3D-DDA), testing the geometries of these cells.
+ * The walk stops at the first cell that contains a hit closer than the cell's exit,
+ * and a shadow ray walk stops at the first opaque blocker.
+ * Unbounded geometries (e.g. planes and tubes) are kept in a separate list and tested for every ray.<br>
+ * The grid is built again when the scene geometries have changed since its build
+ * (see {@link Geometries#getVersion()}) - the version is checked by the camera at the start of every rendering.
+ * A rebuilt grid replaces the old one as a whole, so the renderings already tracing rays keep using the old grid.<br>
+ * The shading itself is inherited from {@link SimpleRayTracer}.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class GridRayTracer extends SimpleRayTracer {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** Average number of geometries per cell that the grid resolution is tuned for */
+    private static final double GRID_DENSITY = 3;
+
+    /** Maximum number of cells along a single axis */
+    private static final int MAX_RESOLUTION = 128;
+
+    /** The grid of the scene geometries, null until it is built */
+    private volatile Grid grid = null;
+
+    /**
+     * Per-thread mailbox - prevents testing a geometry that overlaps several cells
+     * more than once for the same ray (and reporting its intersections twice).
+     * Not serialized - created again by a deserialized tracer
+     */
+    private transient ThreadLocal<Mailbox> mailboxes = new ThreadLocal<>();
+
+    /**
+     * Mailbox of a single thread - stamps every tested geometry with the id of the current ray
+     */
+    private static class Mailbox {
+        /** The last ray id that tested each geometry */
+        private final int[] stamps;
+        /** Id of the current ray */
+        private int rayId = 0;
+
+        /**
+         * Creates a mailbox for the given amount of geometries
+         *
+         * @param size amount of geometries in the grid
+         */
+        Mailbox(int size) {
+            stamps = new int[size];
+        }
+
+        /** Starts a new ray - all the geometries become untested */
+        void nextRay() {
+            if (++rayId == 0) { // overflow - clear the stamps
+                Arrays.fill(stamps, 0);
+                rayId = 1;
+            }
+        }
+
+        /**
+         * Marks the geometry as tested by the current ray
+         *
+         * @param index the geometry index
+         * @return true if the geometry was not tested by the current ray before
+         */
+        boolean mark(int index) {
+            if (stamps[index] == rayId) return false;
+            stamps[index] = rayId;
+            return true;
+        }
+    }
+
+    /**
+     * Constructs a grid ray tracer for the given scene.
+     * The grid itself is built on the first traced ray (or rendering), after the scene is populated
+     *
+     * @param scene the scene to render
+     */
+    public GridRayTracer(Scene scene) {
+        super(scene);
+    }
+
+    /**
+     * Restores a deserialized ray tracer (e.g. in a render farm worker) - creates the per-thread mailboxes
+     *
+     * @param in the object input stream
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a class of the stream is not found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        mailboxes = new ThreadLocal<>();
+    }
+
+    @Override
+    protected Intersection findClosestIntersection(Ray ray, Trace trace) {
+        Grid current = grid();
+        return current.traverse(ray, Double.POSITIVE_INFINITY, mailbox(current));
+    }
+
+    @Override
+    protected Double3 calculateTransmittance(Ray ray, double maxDistance, Trace trace) {
+        Grid current = grid();
+        return current.calculateTransmittance(ray, maxDistance, mailbox(current));
+    }
+
+    /**
+     * Provides the grid, and builds it if it was not built yet
+     *
+     * @return the grid
+     */
+    private Grid grid() {
+        Grid current = grid;
+        if (current != null) return current;
+        prepareGrid();
+        return grid;
+    }
+
+    /**
+     * Provides the mailbox of the current thread, big enough for the geometries of the grid
+     *
+     * @param current the grid
+     * @return the mailbox
+     */
+    private Mailbox mailbox(Grid current) {
+        Mailbox mailbox = mailboxes.get();
+        if (mailbox == null || mailbox.stamps.length < current.bounded.length) {
+            mailbox = new Mailbox(current.bounded.length);
+            mailboxes.set(mailbox);
+        }
+        return mailbox;
+    }
+
+    /**
+     * Builds the grid from the scene geometries if it was not built yet, or if the scene geometries
+     * have changed since its build (thread-safe - a grid of a version is built only once)
+     */
+    void prepareGrid() {
+        Geometries geometries = scene.geometries;
+        long version = geometries.getVersion();
+        Grid current = grid;
+        if (current != null && current.source == geometries && current.version == version) return;
+        synchronized (this) {
+            current = grid;
+            if (current == null || current.source != geometries || current.version != version)
+                grid = new Grid(geometries, version);
+        }
+    }
+
+    //=========================== Grid ===========================
+
+    /**
+     * The grid of the geometries of a version of the scene - it is not changed after its construction,
+     * so any amount of rays may walk through it at once
+     */
+    private static final class Grid implements Serializable {
+        /** Serialization version of the class */
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        /** The scene geometries the grid was built over */
+        private final Geometries source;
+
+        /** The version of the scene geometries at the build */
+        private final long version;
+
+        /** The bounded geometries stored in the grid */
+        private final Intersectable[] bounded;
+
+        /** The unbounded geometries, tested for every ray */
+        private final Intersectable[] unbounded;
+
+        /** Minimum corner of the grid (x, y, z) */
+        private final double[] gridMin = new double[3];
+
+        /** Maximum corner of the grid (x, y, z) */
+        private final double[] gridMax = new double[3];
+
+        /** Size of a single cell along each axis */
+        private final double[] cellSize = new double[3];
+
+        /** Amount of cells along each axis */
+        private final int[] resolution = new int[3];
+
+        /**
+         * Start index of every cell in {@link #cellGeometries} (compressed rows layout),
+         * the last entry is the total length
+         */
+        private int[] cellStart;
+
+        /** Indices of the bounded geometries, grouped by the cells they overlap */
+        private int[] cellGeometries;
+
+        /**
+         * Builds the grid from the scene geometries
+         *
+         * @param source  the scene geometries
+         * @param version the version of the scene geometries
+         */
+        Grid(Geometries source, long version) {
+            this.source = source;
+            this.version = version;
+            List<Intersectable> boundedList = new LinkedList<>();
+            List<Intersectable> unboundedList = new LinkedList<>();
+            collectGeometries(source, boundedList, unboundedList);
+            bounded = boundedList.toArray(new Intersectable[0]);
+            unbounded = unboundedList.toArray(new Intersectable[0]);
+
+            if (bounded.length > 0) {
+                calculateGridBounds();
+                calculateResolution();
+                fillCells();
+            }
+        }
+
+        /**
+         * Walks the ray through the grid accumulating the transmittance of the geometries
+         * up to the given distance
+         *
+         * @param ray         the ray
+         * @param maxDistance the maximum distance along the ray
+         * @param mailbox     the mailbox of the current thread
+         * @return the transmittance
+         */
+        Double3 calculateTransmittance(Ray ray, double maxDistance, Mailbox mailbox) {
+            Double3 kT = Double3.ONE;
+            for (Intersectable geometry : unbounded) {
+                kT = geometry.calculateTransmittance(ray, maxDistance, kT, MIN_CALC_COLOR_K);
+                if (kT.lowerThan(MIN_CALC_COLOR_K)) return Double3.ZERO;
+            }
+
+            GridWalk walk = new GridWalk();
+            if (!walk.start(ray, maxDistance)) return kT;
+            mailbox.nextRay();
+            do {
+                int id = cellId(walk.cell[0], walk.cell[1], walk.cell[2]);
+                for (int k = cellStart[id]; k < cellStart[id + 1]; ++k) {
+                    int index = cellGeometries[k];
+                    if (!mailbox.mark(index)) continue;
+                    kT = bounded[index].calculateTransmittance(ray, maxDistance, kT, MIN_CALC_COLOR_K);
+                    // any-hit - the first opaque blocker ends the walk
+                    if (kT.lowerThan(MIN_CALC_COLOR_K)) return Double3.ZERO;
+                }
+            } while (walk.advance(maxDistance));
+            return kT;
+        }
+
+        /**
+         * Flattens the geometries hierarchy and splits the geometries into bounded and unbounded ones
+         *
+         * @param geometries    the geometries composite
+         * @param boundedList   list to collect the geometries with a bounding box
+         * @param unboundedList list to collect the geometries without a bounding box
+         */
+        private static void collectGeometries(Geometries geometries,
+                                              List<Intersectable> boundedList, List<Intersectable> unboundedList) {
+            for (Intersectable geometry : geometries.getIntersectableList()) {
+                if (geometry instanceof Geometries inner) {
+                    collectGeometries(inner, boundedList, unboundedList);
+                    continue;
+                }
+                if (geometry instanceof FlatBvh bvh) {
+                    boundedList.addAll(bvh.getPrimitives());
+                    continue;
+                }
+                if (geometry.getBoundingBox() == null)
+                    geometry.setBoundingBox();
+                if (geometry.getBoundingBox() == null)
+                    unboundedList.add(geometry);
+                else
+                    boundedList.add(geometry);
+            }
+        }
+
+        /**
+         * Calculates the grid bounds as the union of all the bounding boxes (slightly padded,
+         * so that flat scenes still have a positive volume)
+         */
+        private void calculateGridBounds() {
+            gridMin[0] = gridMin[1] = gridMin[2] = Double.POSITIVE_INFINITY;
+            gridMax[0] = gridMax[1] = gridMax[2] = Double.NEGATIVE_INFINITY;
+            for (Intersectable geometry : bounded) {
+                BoundingBox box = geometry.getBoundingBox();
+                gridMin[0] = Math.min(gridMin[0], box.getMinX());
+                gridMin[1] = Math.min(gridMin[1], box.getMinY());
+                gridMin[2] = Math.min(gridMin[2], box.getMinZ());
+                gridMax[0] = Math.max(gridMax[0], box.getMaxX());
+                gridMax[1] = Math.max(gridMax[1], box.getMaxY());
+                gridMax[2] = Math.max(gridMax[2], box.getMaxZ());
+            }
+            double maxExtent = Math.max(gridMax[0] - gridMin[0],
+                    Math.max(gridMax[1] - gridMin[1], gridMax[2] - gridMin[2]));
+            double pad = Math.max(maxExtent * 1e-6, 1e-9);
+            for (int axis = 0; axis < 3; ++axis) {
+                gridMin[axis] -= pad;
+                gridMax[axis] += pad;
+            }
+        }
+
+        /**
+         * Chooses the amount of cells per axis, so that the cells are roughly cubic
+         * and there are about {@link #GRID_DENSITY} geometries per cell
+         */
+        private void calculateResolution() {
+            double ex = gridMax[0] - gridMin[0], ey = gridMax[1] - gridMin[1], ez = gridMax[2] - gridMin[2];
+            double cellsPerUnit = Math.cbrt(GRID_DENSITY * bounded.length / (ex * ey * ez));
+            double[] extents = {ex, ey, ez};
+            for (int axis = 0; axis < 3; ++axis) {
+                long cells = Math.round(extents[axis] * cellsPerUnit);
+                resolution[axis] = (int) Math.max(1, Math.min(MAX_RESOLUTION, cells));
+                cellSize[axis] = extents[axis] / resolution[axis];
+            }
+        }
+
+        /**
+         * Distributes the geometries into all the cells overlapped by their bounding boxes
+         * (counting pass and then filling pass)
+         */
+        private void fillCells() {
+            int cellsCount = resolution[0] * resolution[1] * resolution[2];
+            cellStart = new int[cellsCount + 1];
+            int[][] ranges = new int[bounded.length][];
+
+            for (int i = 0; i < bounded.length; ++i) {
+                BoundingBox box = bounded[i].getBoundingBox();
+                int[] range = {
+                        cellIndex(box.getMinX(), 0), cellIndex(box.getMaxX(), 0),
+                        cellIndex(box.getMinY(), 1), cellIndex(box.getMaxY(), 1),
+                        cellIndex(box.getMinZ(), 2), cellIndex(box.getMaxZ(), 2)};
+                ranges[i] = range;
+                for (int z = range[4]; z <= range[5]; ++z)
+                    for (int y = range[2]; y <= range[3]; ++y)
+                        for (int x = range[0]; x <= range[1]; ++x)
+                            ++cellStart[cellId(x, y, z) + 1];
+            }
+
+            for (int c = 0; c < cellsCount; ++c)
+                cellStart[c + 1] += cellStart[c];
+
+            cellGeometries = new int[cellStart[cellsCount]];
+            int[] fill = new int[cellsCount];
+            for (int i = 0; i < bounded.length; ++i) {
+                int[] range = ranges[i];
+                for (int z = range[4]; z <= range[5]; ++z)
+                    for (int y = range[2]; y <= range[3]; ++y)
+                        for (int x = range[0]; x <= range[1]; ++x) {
+                            int cell = cellId(x, y, z);
+                            cellGeometries[cellStart[cell] + fill[cell]++] = i;
+                        }
+            }
+        }
+
+        /**
+         * Finds the index of the cell containing a coordinate along an axis (clamped into the grid)
+         *
+         * @param value the coordinate
+         * @param axis  the axis (0 - x, 1 - y, 2 - z)
+         * @return the cell index along the axis
+         */
+        private int cellIndex(double value, int axis) {
+            int index = (int) ((value - gridMin[axis]) / cellSize[axis]);
+            return Math.max(0, Math.min(resolution[axis] - 1, index));
+        }
+
+        /**
+         * Calculates the linear id of a cell
+         *
+         * @param x cell index along x-axis
+         * @param y cell index along y-axis
+         * @param z cell index along z-axis
+         * @return the cell id
+         */
+        private int cellId(int x, int y, int z) {
+            return (z * resolution[1] + y) * resolution[0] + x;
+        }
+
+        /**
+         * State of a single ray walk through the grid cells (3D-DDA)
+         */
+        private class GridWalk {
+            /** Index of the current cell along each axis */
+            private final int[] cell = new int[3];
+            /** Direction of the steps along each axis (-1, 0 or 1) */
+            private final int[] step = new int[3];
+            /** Distance along the ray to the next cell boundary on each axis */
+            private final double[] tNext = new double[3];
+            /** Distance along the ray between two cell boundaries on each axis */
+            private final double[] tDelta = new double[3];
+            /** Distance along the ray where it leaves the grid */
+            private double tExit;
+
+            /**
+             * Clips the ray with the grid box and finds the first cell
+             *
+             * @param ray         the ray
+             * @param maxDistance the maximum distance along the ray
+             * @return false if the ray misses the grid within the distance
+             */
+            boolean start(Ray ray, double maxDistance) {
+                if (bounded.length == 0) return false;
+                Point head = ray.getHead();
+                Vector dir = ray.getDirection();
+                double[] origin = {head.getX(), head.getY(), head.getZ()};
+                double[] direction = {alignZero(dir.getX()), alignZero(dir.getY()), alignZero(dir.getZ())};
+
+                // clip the ray with the grid box (slabs method)
+                double tEnter = 0;
+                tExit = maxDistance;
+                for (int axis = 0; axis < 3; ++axis) {
+                    if (direction[axis] == 0) {
+                        if (origin[axis] < gridMin[axis] || origin[axis] > gridMax[axis]) return false;
+                        continue;
+                    }
+                    double t1 = (gridMin[axis] - origin[axis]) / direction[axis];
+                    double t2 = (gridMax[axis] - origin[axis]) / direction[axis];
+                    tEnter = Math.max(tEnter, Math.min(t1, t2));
+                    tExit = Math.min(tExit, Math.max(t1, t2));
+                }
+                if (tEnter > tExit) return false;
+
+                // the first cell and the DDA stepping values
+                for (int axis = 0; axis < 3; ++axis) {
+                    cell[axis] = cellIndex(origin[axis] + direction[axis] * tEnter, axis);
+                    if (direction[axis] > 0) {
+                        step[axis] = 1;
+                        tNext[axis] = (gridMin[axis] + (cell[axis] + 1) * cellSize[axis] - origin[axis]) / direction[axis];
+                        tDelta[axis] = cellSize[axis] / direction[axis];
+                    } else if (direction[axis] < 0) {
+                        step[axis] = -1;
+                        tNext[axis] = (gridMin[axis] + cell[axis] * cellSize[axis] - origin[axis]) / direction[axis];
+                        tDelta[axis] = -cellSize[axis] / direction[axis];
+                    } else {
+                        tNext[axis] = Double.POSITIVE_INFINITY;
+                        tDelta[axis] = Double.POSITIVE_INFINITY;
+                    }
+                }
+                return true;
+            }
+
+            /**
+             * Moves to the next cell along the ray
+             *
+             * @param limit the distance along the ray beyond which the walk is not needed
+             *              (e.g. the closest hit found so far)
+             * @return false if the walk is over
+             */
+            boolean advance(double limit) {
+                // the axis whose cell boundary is crossed first
+                int axis = tNext[0] < tNext[1]
+                        ? (tNext[0] < tNext[2] ? 0 : 2)
+                        : (tNext[1] < tNext[2] ? 1 : 2);
+                double tCellExit = tNext[axis];
+
+                // early exit - the limit is inside the current cell,
+                // or the ray has left the grid
+                if (tCellExit >= limit || tCellExit > tExit) return false;
+
+                cell[axis] += step[axis];
+                if (cell[axis] < 0 || cell[axis] >= resolution[axis]) return false;
+                tNext[axis] += tDelta[axis];
+                return true;
+            }
+        }
+
+        /**
+         * Walks the ray through the grid looking for the closest intersection.
+         * The walk stops as soon as the closest hit found so far lies inside the current cell.
+         *
+         * @param ray         the ray
+         * @param maxDistance the maximum distance along the ray
+         * @param mailbox     the mailbox of the current thread
+         * @return the closest intersection, null if not found
+         */
+        Intersection traverse(Ray ray, double maxDistance, Mailbox mailbox) {
+            Intersection closest = null;
+            double limit = maxDistance;
+
+            for (Intersectable geometry : unbounded) {
+                Intersection hit = geometry.calculateClosestIntersection(ray, limit);
+                if (hit != null) {
+                    closest = hit;
+                    limit = hit.t;
+                }
+            }
+
+            GridWalk walk = new GridWalk();
+            if (!walk.start(ray, limit)) return closest;
+            mailbox.nextRay();
+            do {
+                int id = cellId(walk.cell[0], walk.cell[1], walk.cell[2]);
+                for (int k = cellStart[id]; k < cellStart[id + 1]; ++k) {
+                    int index = cellGeometries[k];
+                    if (!mailbox.mark(index)) continue;
+                    Intersection hit = bounded[index].calculateClosestIntersection(ray, limit);
+                    if (hit != null) {
+                        closest = hit;
+                        limit = hit.t;
+                    }
+                }
+            } while (walk.advance(limit));
+            return closest;
+        }
+    }
+}
@@ -3,15 +3,18 @@ package renderer;
 import primitives.Color;
 
 import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
+import java.awt.image.*;
+import java.io.*;
+import java.util.Map;
 
 /**
  * Image writer class combines accumulation of pixel color matrix and finally
  * producing a non-optimized jpeg image from this matrix. The class although is
  * responsible of holding image related parameters of View Plane - pixel matrix
- * size and resolution
+ * size and resolution<br>
+ * The pixels are kept in a plain array of packed RGB values, written by the rendering
+ * threads with plain array stores (a pixel or a whole tile at once), and wrapped as an
+ * image raster only when the image is written to a file
  *
  * @author Dan
  */
@@ -20,7 +23,7 @@ final class ImageWriter {
      * Directory path for the image file generation - relative to the user
      * directory
      */
-    private static final String FOLDER_PATH = System.getProperty("user.dir") + "/images";
+    static final String FOLDER_PATH = System.getProperty("user.dir") + "/images";
     /**
      * Horizontal resolution of the image - number of pixels in row
      */
@@ -30,9 +33,9 @@ final class ImageWriter {
      */
     private final int nY;
     /**
-     * Image generation buffer (the matrix of the pixels)
+     * Image generation buffer - the packed RGB values of the pixels, row by row
      */
-    private final BufferedImage image;
+    private final int[] pixels;
 
     // ***************** Constructors ********************** //
 
@@ -46,7 +49,7 @@ final class ImageWriter {
         this.nX = nX;
         this.nY = nY;
 
-        image = new BufferedImage(nX, nY, BufferedImage.TYPE_INT_RGB);
+        pixels = new int[nX * nY];
     }
 
     // ***************** Getters ********************** //
@@ -78,14 +81,61 @@ final class ImageWriter {
      * @param imageName the name of png file
      */
     void writeToImage(String imageName) {
+        writePng(imageName, pixels);
+    }
+
+    /**
+     * Writes packed RGB values of the pixels to a png file - the values are wrapped as the raster
+     * of the image without copying them
+     *
+     * @param imageName the name of png file
+     * @param rgb       the packed RGB values of the pixels, row by row
+     */
+    private void writePng(String imageName, int[] rgb) {
         try {
             File file = new File(FOLDER_PATH + '/' + imageName + ".png");
-            ImageIO.write(image, "png", file);
+            ImageIO.write(toImage(rgb), "png", file);
         } catch (IOException e) {
             throw new IllegalStateException("I/O error - may be missing directory " + FOLDER_PATH, e);
         }
     }
 
+    /**
+     * Wraps packed RGB values of the pixels as an image, without copying them
+     *
+     * @param rgb the packed RGB values of the pixels, row by row
+     * @return the image
+     */
+    private BufferedImage toImage(int[] rgb) {
+        DataBufferInt buffer = new DataBufferInt(rgb, rgb.length);
+        int[] masks = {0xFF0000, 0xFF00, 0xFF};
+        WritableRaster raster = Raster.createPackedRaster(buffer, nX, nY, nX, masks, null);
+        return new BufferedImage(new DirectColorModel(24, masks[0], masks[1], masks[2]), raster, false, null);
+    }
+
+    /**
+     * Produces an image of a copy of the pixel color matrix (e.g. a preview of a rendering in progress)
+     *
+     * @return the image
+     */
+    BufferedImage snapshot() {
+        return toImage(pixels.clone());
+    }
+
+    /**
+     * Fills the pixel color matrix by blocks of a stride: every pixel gets the color of the pixel
+     * in the top left corner of its block (the pixel in a stride-th column and a stride-th row)
+     *
+     * @param stride the side of the blocks in pixels
+     */
+    void fillBlocks(int stride) {
+        for (int i = 0; i < nY; ++i) {
+            int row = i - i % stride;
+            for (int j = 0; j < nX; ++j)
+                pixels[i * nX + j] = pixels[row * nX + j - j % stride];
+        }
+    }
+
     /**
      * The function writePixel writes a color of a specific pixel into pixel color
      * matrix
@@ -95,7 +145,132 @@ final class ImageWriter {
      * @param color  final color of the pixel
      */
     void writePixel(int xIndex, int yIndex, Color color) {
-        image.setRGB(xIndex, yIndex, color.getColor().getRGB());
+        pixels[yIndex * nX + xIndex] = color.getRGB();
+    }
+
+    /**
+     * The function writeTile writes the packed RGB values (see {@link Color#getRGB()}) of
+     * a rectangle of pixels into pixel color matrix - a row of the rectangle at once
+     *
+     * @param xIndex X axis index of the first pixel of the rectangle
+     * @param yIndex Y axis index of the first pixel of the rectangle
+     * @param width  the width of the rectangle
+     * @param rgb    the packed RGB values of the rectangle pixels, row by row
+     */
+    void writeTile(int xIndex, int yIndex, int width, int[] rgb) {
+        for (int offset = 0, index = yIndex * nX + xIndex; offset < rgb.length; offset += width, index += nX)
+            System.arraycopy(rgb, offset, pixels, index, width);
+    }
+
+    /**
+     * Getter for the color of a pixel in pixel color matrix
+     *
+     * @param xIndex X axis index of the pixel
+     * @param yIndex Y axis index of the pixel
+     * @return the packed RGB value of the pixel
+     */
+    int getRGB(int xIndex, int yIndex) {
+        return pixels[yIndex * nX + xIndex];
+    }
+
+    /**
+     * Produces a false colour png file of per-pixel values (e.g. rendering costs),
+     * in a logarithmic scale from blue (zero) through green and yellow to red (the maximum)
+     *
+     * @param imageName the name of png file
+     * @param values    the values of the pixels, row by row
+     */
+    void writeHeatmap(String imageName, long[] values) {
+        checkPixelValues(values);
+        long max = 0;
+        for (long value : values)
+            max = Math.max(max, value);
+        double scale = max <= 0 ? 0 : 1 / Math.log1p(max);
+
+        int[] heatmap = new int[values.length];
+        for (int i = 0; i < values.length; ++i)
+            heatmap[i] = heatColor(Math.log1p(Math.max(0, values[i])) * scale);
+        writePng(imageName, heatmap);
+    }
+
+    /**
+     * Maps a value to a false colour - blue, cyan, green, yellow, red
+     *
+     * @param t the value in range [0, 1]
+     * @return the RGB colour
+     */
+    private static int heatColor(double t) {
+        double r = Math.clamp(1.5 - Math.abs(4 * t - 3), 0, 1);
+        double g = Math.clamp(1.5 - Math.abs(4 * t - 2), 0, 1);
+        double b = Math.clamp(1.5 - Math.abs(4 * t - 1), 0, 1);
+        return (int) (r * 255) << 16 | (int) (g * 255) << 8 | (int) (b * 255);
+    }
+
+    /**
+     * Produces a CSV file of per-pixel values - a line per pixel: x, y and the values of the columns
+     *
+     * @param fileName the name of csv file
+     * @param columns  the names of the columns and the values of the pixels (row by row) in them
+     */
+    void writeCsv(String fileName, Map<String, long[]> columns) {
+        columns.values().forEach(this::checkPixelValues);
+        try (PrintWriter writer = new PrintWriter(new BufferedWriter(
+                new FileWriter(FOLDER_PATH + '/' + fileName + ".csv")))) {
+            writer.print("x,y");
+            for (String column : columns.keySet())
+                writer.print(',' + column);
+            writer.println();
+            for (int i = 0; i < nY; ++i)
+                for (int j = 0; j < nX; ++j) {
+                    writer.print(j);
+                    writer.print(',');
+                    writer.print(i);
+                    for (long[] values : columns.values()) {
+                        writer.print(',');
+                        writer.print(values[i * nX + j]);
+                    }
+                    writer.println();
+                }
+            if (writer.checkError())
+                throw new IOException("Failed writing " + fileName);
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error - may be missing directory " + FOLDER_PATH, e);
+        }
+    }
+
+    /**
+     * Produces a binary file of per-pixel values (big endian): the width and the height (int),
+     * the amount of the columns (int), and for every column - its name (modified UTF-8)
+     * followed by the values of the pixels row by row (long)
+     *
+     * @param fileName the name of bin file
+     * @param columns  the names of the columns and the values of the pixels (row by row) in them
+     */
+    void writeBinary(String fileName, Map<String, long[]> columns) {
+        columns.values().forEach(this::checkPixelValues);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(FOLDER_PATH + '/' + fileName + ".bin")))) {
+            out.writeInt(nX);
+            out.writeInt(nY);
+            out.writeInt(columns.size());
+            for (var column : columns.entrySet()) {
+                out.writeUTF(column.getKey());
+                for (long value : column.getValue())
+                    out.writeLong(value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error - may be missing directory " + FOLDER_PATH, e);
+        }
+    }
+
+    /**
+     * Checks that per-pixel values match the resolution
+     *
+     * @param values the values of the pixels
+     */
+    private void checkPixelValues(long[] values) {
+        if (values.length != nX * nY)
+            throw new IllegalArgumentException("Amount of the values does not match the resolution");
     }
 
 }
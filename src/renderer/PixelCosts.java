@@ -0,0 +1,140 @@
+package renderer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PixelCosts holds the rendering costs of every pixel of an image: the time (nanoseconds),
+ * the amount of the traced rays and the amount of the visited hierarchy nodes.
+ * The costs are kept in primitive arrays, row by row, and recorded by a camera built with
+ * {@link Camera.Builder#setPixelCosts(boolean)}.<br>
+ * The costs are written by {@link ImageWriter} as false colour heatmaps (to find the hot spots of
+ * a scene, e.g. a glass sphere with deep recursion or a soft shadowed corner), or as raw CSV and
+ * binary dumps for further analysis.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class PixelCosts {
+
+    /** Image width in pixels */
+    private final int nX;
+
+    /** Image height in pixels */
+    private final int nY;
+
+    /** Time of every pixel in nanoseconds */
+    private final long[] nanos;
+
+    /** Amount of the rays traced for every pixel */
+    private final long[] rays;
+
+    /** Amount of the hierarchy nodes visited for every pixel */
+    private final long[] nodeVisits;
+
+    /**
+     * Constructs zero costs of an image
+     *
+     * @param nX image width in pixels
+     * @param nY image height in pixels
+     */
+    PixelCosts(int nX, int nY) {
+        this.nX = nX;
+        this.nY = nY;
+        nanos = new long[nX * nY];
+        rays = new long[nX * nY];
+        nodeVisits = new long[nX * nY];
+    }
+
+    /**
+     * Records the costs of a pixel
+     *
+     * @param x          the pixel column
+     * @param y          the pixel row
+     * @param time       the time in nanoseconds
+     * @param rayCount   the amount of the traced rays
+     * @param nodesCount the amount of the visited hierarchy nodes
+     */
+    void record(int x, int y, long time, long rayCount, long nodesCount) {
+        int index = y * nX + x;
+        nanos[index] = time;
+        rays[index] = rayCount;
+        nodeVisits[index] = nodesCount;
+    }
+
+    /**
+     * Getter for the time of a pixel
+     *
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return the time in nanoseconds
+     */
+    public long getNanos(int x, int y) {
+        return nanos[y * nX + x];
+    }
+
+    /**
+     * Getter for the amount of the rays traced for a pixel
+     *
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return the amount of the rays
+     */
+    public long getRays(int x, int y) {
+        return rays[y * nX + x];
+    }
+
+    /**
+     * Getter for the amount of the hierarchy nodes visited for a pixel
+     *
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return the amount of the visited nodes
+     */
+    public long getNodeVisits(int x, int y) {
+        return nodeVisits[y * nX + x];
+    }
+
+    /**
+     * Writes a heatmap png file of every cost - {@code <name>-time}, {@code <name>-rays}
+     * and {@code <name>-nodes}
+     *
+     * @param name the prefix of the file names
+     */
+    public void writeHeatmaps(String name) {
+        ImageWriter writer = new ImageWriter(nX, nY);
+        writer.writeHeatmap(name + "-time", nanos);
+        writer.writeHeatmap(name + "-rays", rays);
+        writer.writeHeatmap(name + "-nodes", nodeVisits);
+    }
+
+    /**
+     * Writes the costs to a CSV file - a line per pixel
+     *
+     * @param name the file name
+     */
+    public void writeCsv(String name) {
+        new ImageWriter(nX, nY).writeCsv(name, columns());
+    }
+
+    /**
+     * Writes the costs to a binary file (see {@link ImageWriter#writeBinary(String, Map)})
+     *
+     * @param name the file name
+     */
+    public void writeBinary(String name) {
+        new ImageWriter(nX, nY).writeBinary(name, columns());
+    }
+
+    /**
+     * Provides the costs as named columns
+     *
+     * @return the columns by their names
+     */
+    private Map<String, long[]> columns() {
+        Map<String, long[]> columns = new LinkedHashMap<>();
+        columns.put("nanos", nanos);
+        columns.put("rays", rays);
+        columns.put("nodes", nodeVisits);
+        return columns;
+    }
+}
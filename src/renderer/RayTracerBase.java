@@ -1,28 +1,60 @@
 package renderer;
 
+import geometries.Intersectable;
 import primitives.Color;
 import primitives.Ray;
 import scene.Scene;
 
+import java.io.Serial;
+import java.io.Serializable;
+
 /**
  * Abstract base class for ray tracers.
  * A ray tracer is responsible for calculating the color seen along a ray
  * based on the scene configuration (geometry, lighting, etc.).
  * @author Hila Rosental & Miller
  */
-public abstract class RayTracerBase {
+public abstract class RayTracerBase implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /** The scene to be rendered by the ray tracer */
     protected final Scene scene;
 
+    /**
+     * Settings of the tracing of a ray, given by the camera with every traced ray - a ray tracer is shared
+     * by all the cameras built by the same builder, so it keeps no settings of a camera or of a rendering
+     *
+     * @param geometries the geometries the ray is traced against - the root of the acceleration structure
+     *                   of the camera (see {@link AccelerationStructure}), or the scene geometries as they are
+     * @param preview    whether the ray is traced for a preview of a progressive rendering - with a cheap shading
+     *                   (the subclasses decide what is cheap, e.g. hard shadows and a shallow recursion)
+     * @param stats      the statistics of the rendering to count the traced rays in, null if not collected
+     */
+    public record Trace(Intersectable geometries, boolean preview, RenderStats stats) {}
+
     /**
      * Traces a given ray through the scene and returns the resulting color.
      * This method must be implemented by subclasses.
      *
+     * @param ray   the ray to trace
+     * @param trace the settings of the tracing
+     * @return the color computed for the ray
+     */
+    public abstract Color traceRay(Ray ray, Trace trace);
+
+    /**
+     * Traces a given ray through the scene geometries as they are (without an acceleration structure)
+     * and returns the resulting color
+     *
      * @param ray the ray to trace
      * @return the color computed for the ray
      */
-    public abstract Color traceRay(Ray ray);
+    public Color traceRay(Ray ray) {
+        return traceRay(ray, new Trace(scene.geometries, false, null));
+    }
 
     /**
      * Constructs a ray tracer using the specified scene.
@@ -0,0 +1,188 @@
+package renderer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Render checkpoint keeps the progress of a long rendering in a memory-mapped file, so a rendering
+ * killed in the middle may be resumed without tracing the finished tiles again.<br>
+ * The file holds a header (the resolution and the tile size), a completion map - a byte per tile,
+ * and the framebuffer of the finished tiles (packed RGB values, row by row). A finished tile is
+ * written with plain stores to the mapped memory (its pixels first, then its completion byte),
+ * and the memory is forced to the storage device at a configurable interval.
+ * A killed process loses nothing that reached the mapped memory - only a crash of the system
+ * loses the tiles finished since the last force.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class RenderCheckpoint implements AutoCloseable {
+    /** Magic number of a checkpoint file ("RTCK") */
+    private static final int MAGIC = 0x5254434B;
+    /** Version of the checkpoint file format */
+    private static final int VERSION = 1;
+    /** Size of the header: magic, version, width, height and tile size */
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    /** Horizontal resolution of the image - number of pixels in row */
+    private final int nX;
+    /** Vertical resolution of the image - number of pixels in column */
+    private final int nY;
+    /** Size of the side of the tiles in pixels */
+    private final int tileSize;
+    /** Amount of the tiles in a row of tiles */
+    private final int tileCols;
+    /** Amount of the tiles */
+    private final int tilesCount;
+    /** Offset of the framebuffer in the file (aligned to an int) */
+    private final int pixelsOffset;
+
+    /** The checkpoint file channel */
+    private final FileChannel channel;
+    /** The mapped file */
+    private final MappedByteBuffer buffer;
+    /** The framebuffer in the mapped file */
+    private final IntBuffer pixels;
+
+    /** Interval between the forces of the mapped memory to the storage in nanoseconds */
+    private final long forceInterval;
+    /** Time of the last force of the mapped memory (System.nanoTime) */
+    private final AtomicLong lastForce = new AtomicLong(System.nanoTime());
+
+    /**
+     * Opens a checkpoint file - creates a new one (with no finished tiles), or opens an existing one
+     * for resuming a rendering
+     *
+     * @param nX            amount of pixels by Width
+     * @param nY            amount of pixels by height
+     * @param tileSize      the size of the side of the tiles in pixels
+     * @param fileName      the name of the checkpoint file (without the extension)
+     * @param forceInterval the interval between the forces of the checkpoint to the storage in seconds
+     * @param resume        true to open an existing checkpoint (a new one is created if there is none)
+     * @throws IllegalStateException if the existing checkpoint does not match the rendering
+     */
+    RenderCheckpoint(int nX, int nY, int tileSize, String fileName, double forceInterval, boolean resume) {
+        this.nX = nX;
+        this.nY = nY;
+        this.tileSize = tileSize;
+        this.forceInterval = (long) (forceInterval * 1e9);
+        tileCols = (nX + tileSize - 1) / tileSize;
+        tilesCount = tileCols * ((nY + tileSize - 1) / tileSize);
+        pixelsOffset = (HEADER_SIZE + tilesCount + Integer.BYTES - 1) / Integer.BYTES * Integer.BYTES;
+        long size = pixelsOffset + (long) nX * nY * Integer.BYTES;
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("The image is too big for a checkpoint");
+
+        File file = new File(ImageWriter.FOLDER_PATH + '/' + fileName + ".ckpt");
+        boolean existing = resume && file.length() == size;
+        if (resume && file.exists() && !existing)
+            throw new IllegalStateException("The checkpoint " + file + " does not match the rendering");
+        try {
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            if (!existing) channel.truncate(0);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error - may be missing directory " + ImageWriter.FOLDER_PATH, e);
+        }
+        pixels = buffer.slice(pixelsOffset, nX * nY * Integer.BYTES).asIntBuffer();
+
+        if (existing) {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != nX
+                    || buffer.getInt(12) != nY || buffer.getInt(16) != tileSize) {
+                close();
+                throw new IllegalStateException("The checkpoint " + file + " does not match the rendering");
+            }
+        } else {
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, nX).putInt(12, nY).putInt(16, tileSize);
+            buffer.force();
+        }
+    }
+
+    /**
+     * Calculates the index of a tile
+     *
+     * @param tile the tile
+     * @return the index of the tile (in rows order)
+     */
+    private int index(TileScheduler.Tile tile) {
+        return tile.row0() / tileSize * tileCols + tile.col0() / tileSize;
+    }
+
+    /**
+     * Checks whether a tile was finished
+     *
+     * @param tile the tile
+     * @return true if the tile was finished
+     */
+    boolean isDone(TileScheduler.Tile tile) {
+        return buffer.get(HEADER_SIZE + index(tile)) != 0;
+    }
+
+    /**
+     * Counts the finished tiles
+     *
+     * @return the amount of the finished tiles
+     */
+    int doneCount() {
+        int count = 0;
+        for (int i = 0; i < tilesCount; ++i)
+            if (buffer.get(HEADER_SIZE + i) != 0) ++count;
+        return count;
+    }
+
+    /**
+     * Writes a finished tile - its pixels and then its completion, and forces the checkpoint
+     * to the storage if the interval has passed. May be called by several threads at once.
+     *
+     * @param tile the tile
+     * @param rgb  the packed RGB values of the tile pixels, row by row
+     */
+    void tileDone(TileScheduler.Tile tile, int[] rgb) {
+        int width = tile.col1() - tile.col0();
+        for (int offset = 0, index = tile.row0() * nX + tile.col0(); offset < rgb.length; offset += width, index += nX)
+            pixels.put(index, rgb, offset, width);
+        buffer.put(HEADER_SIZE + index(tile), (byte) 1);
+
+        long last = lastForce.get();
+        long now = System.nanoTime();
+        if (now - last >= forceInterval && lastForce.compareAndSet(last, now))
+            buffer.force();
+    }
+
+    /**
+     * Copies the pixels of the finished tiles to an image writer
+     *
+     * @param imageWriter the image writer
+     */
+    void restore(ImageWriter imageWriter) {
+        for (int row = 0; row < nY; row += tileSize)
+            for (int col = 0; col < nX; col += tileSize) {
+                TileScheduler.Tile tile = new TileScheduler.Tile(col, row,
+                        Math.min(col + tileSize, nX), Math.min(row + tileSize, nY));
+                if (!isDone(tile)) continue;
+                int width = tile.col1() - col;
+                int[] rgb = new int[tile.size()];
+                for (int offset = 0, index = row * nX + col; offset < rgb.length; offset += width, index += nX)
+                    pixels.get(index, rgb, offset, width);
+                imageWriter.writeTile(col, row, width, rgb);
+            }
+    }
+
+    /**
+     * Forces the checkpoint to the storage and closes its file
+     */
+    @Override
+    public void close() {
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error while closing the checkpoint", e);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package renderer;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Render farm is the coordinator of a rendering spread over worker processes (see {@link RenderWorker}).<br>
+ * The camera (with its ray tracer and scene) is serialized once, and the coordinator starts the worker
+ * processes, which connect to it over a local TCP socket. Every worker gets the serialized camera, and then
+ * the coordinator hands out to it the tiles of the image and receives their pixels. A worker renders its tiles
+ * by the threads of the multithreading setting of the camera, and the coordinator keeps a window of several tiles
+ * per thread in flight on every connection, so the worker threads do not wait for the round-trips.
+ * The worker connection protocol is:
+ * <ul>
+ * <li>coordinator: the length of the serialized camera and its bytes</li>
+ * <li>worker: the amount of its rendering threads</li>
+ * <li>coordinator: tiles - the tile number, its first column, first row, column after the last and row
+ * after the last, or -1 when there are no more tiles</li>
+ * <li>worker: rendered tiles (in any order) - the tile number and the packed RGB values of the tile pixels,
+ * row by row</li>
+ * </ul>
+ * A worker that dies (its connection is broken), is stuck (sends nothing for {@link #READ_TIMEOUT}) or breaks
+ * the protocol returns its tiles in flight to the pending tiles, and the tiles are handed out to the other workers.
+ * The rendering fails only if all the workers die.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class RenderFarm {
+    /**
+     * Receiver of the tiles rendered by the workers
+     */
+    @FunctionalInterface
+    interface TileSink {
+        /**
+         * Receives a rendered tile (may be called by several threads at once, for different tiles)
+         *
+         * @param tile the tile
+         * @param rgb  the packed RGB values of the tile pixels, row by row
+         */
+        void tileDone(TileScheduler.Tile tile, int[] rgb);
+    }
+
+    /** Time to wait for the workers to connect in milliseconds */
+    private static final int CONNECT_TIMEOUT = 60_000;
+    /** Time to wait for a message of a worker before it is considered stuck, in milliseconds */
+    private static final int READ_TIMEOUT = 120_000;
+    /** Time to wait for a pending tile before checking whether the rendering is over, in milliseconds */
+    private static final long POLL_INTERVAL = 50;
+    /** Tile message that tells a worker there are no more tiles */
+    private static final int NO_MORE_TILES = -1;
+    /** Amount of the tiles in flight on a connection per rendering thread of the worker */
+    private static final int TILES_PER_THREAD = 2;
+
+    /** The serialized camera */
+    private final byte[] camera;
+    /** Amount of the worker processes */
+    private final int workers;
+    /** Amount of the tiles rendered by the first worker before it quits, 0 for no limit (for testing the failures) */
+    private final int workerTileLimit;
+
+    /** Tiles waiting to be handed out to the workers (including the tiles of the dead workers) */
+    private final BlockingQueue<TileScheduler.Tile> pending = new LinkedBlockingQueue<>();
+    /** Amount of the tiles that were not received yet */
+    private final AtomicInteger left = new AtomicInteger();
+
+    /**
+     * Constructs a render farm of a camera - serializes the camera
+     *
+     * @param camera          the camera (built)
+     * @param workers         the amount of the worker processes
+     * @param workerTileLimit the amount of the tiles rendered by the first worker before it quits, 0 for no limit
+     */
+    RenderFarm(Camera camera, int workers, int workerTileLimit) {
+        this.workers = workers;
+        this.workerTileLimit = workerTileLimit;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(camera);
+        } catch (IOException e) {
+            throw new IllegalStateException("The camera cannot be serialized for the render farm", e);
+        }
+        this.camera = bytes.toByteArray();
+    }
+
+    /**
+     * Renders all the tiles of the scheduler by the worker processes
+     *
+     * @param scheduler the tiles scheduler (the progress is reported to it)
+     * @param sink      the receiver of the rendered tiles
+     * @throws IllegalStateException if no worker connected, or all the workers died before the image was finished
+     */
+    void render(TileScheduler scheduler, TileSink sink) {
+        for (TileScheduler.Tile tile; (tile = scheduler.nextTile(0)) != null; )
+            pending.add(tile);
+        left.set(pending.size());
+
+        List<Process> processes = new LinkedList<>();
+        List<Thread> connections = new LinkedList<>();
+        try (ServerSocket server = new ServerSocket(0, workers, InetAddress.getLoopbackAddress())) {
+            for (int i = 0; i < workers; ++i)
+                processes.add(startWorker(server.getLocalPort(), i == 0 ? workerTileLimit : 0));
+            server.setSoTimeout(CONNECT_TIMEOUT);
+            for (int i = 0; i < workers; ++i) {
+                Socket socket;
+                try {
+                    socket = server.accept();
+                } catch (SocketTimeoutException e) {
+                    break; // render by the workers that have connected
+                }
+                connections.add(Thread.ofPlatform().start(() -> serve(socket, scheduler, sink)));
+            }
+            for (Thread connection : connections) connection.join();
+        } catch (IOException e) {
+            throw new IllegalStateException("Render farm I/O error", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Rendering was interrupted", e);
+        } finally {
+            for (Process process : processes) process.destroy();
+        }
+        if (connections.isEmpty())
+            throw new IllegalStateException("No render farm worker has connected");
+        if (left.get() > 0)
+            throw new IllegalStateException("All the render farm workers died before the image was finished");
+    }
+
+    /**
+     * Starts a worker process with the class path of this process
+     *
+     * @param port      the port of the coordinator
+     * @param tileLimit the amount of the tiles rendered by the worker before it quits, 0 for no limit
+     * @return the worker process
+     * @throws IOException if the process cannot be started
+     */
+    private Process startWorker(int port, int tileLimit) throws IOException {
+        String classPath;
+        try {
+            // the rendering classes may be loaded by a class loader other than the system one (e.g. by a test launcher)
+            classPath = Path.of(Camera.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    + File.pathSeparator + System.getProperty("java.class.path");
+        } catch (URISyntaxException e) {
+            throw new IOException("The class path of the renderer is not found", e);
+        }
+        return new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", classPath, RenderWorker.class.getName(),
+                InetAddress.getLoopbackAddress().getHostAddress(), Integer.toString(port),
+                Integer.toString(tileLimit))
+                .inheritIO().start();
+    }
+
+    /**
+     * Serves a worker connection - sends the camera and keeps the window of the worker full of the pending tiles
+     * until all the tiles are received. If the connection is broken, the worker sends nothing for
+     * {@link #READ_TIMEOUT} or it sends an unknown tile number, the tiles in flight of the worker
+     * are returned to the pending tiles
+     *
+     * @param socket    the worker connection
+     * @param scheduler the tiles scheduler
+     * @param sink      the receiver of the rendered tiles
+     */
+    private void serve(Socket socket, TileScheduler scheduler, TileSink sink) {
+        Map<Integer, TileScheduler.Tile> inFlight = new HashMap<>();
+        try (socket;
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()))) {
+            socket.setSoTimeout(READ_TIMEOUT);
+            out.writeInt(camera.length);
+            out.write(camera);
+            out.flush();
+            int window = TILES_PER_THREAD * Math.max(1, in.readInt());
+            int nextId = 0;
+            try {
+                while (left.get() > 0) {
+                    for (TileScheduler.Tile tile; inFlight.size() < window && (tile = pending.poll()) != null; ++nextId) {
+                        sendTile(out, nextId, tile);
+                        inFlight.put(nextId, tile);
+                    }
+                    if (inFlight.isEmpty()) {
+                        // the last tiles are being rendered by other workers (which may die)
+                        TileScheduler.Tile tile = pending.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                        if (tile != null) {
+                            sendTile(out, nextId, tile);
+                            inFlight.put(nextId++, tile);
+                        }
+                        continue;
+                    }
+                    out.flush();
+                    int id = in.readInt();
+                    TileScheduler.Tile tile = inFlight.get(id);
+                    if (tile == null) throw new IOException("A render farm worker sent an unknown tile " + id);
+                    int[] rgb = new int[tile.size()];
+                    for (int i = 0; i < rgb.length; ++i)
+                        rgb[i] = in.readInt();
+                    inFlight.remove(id);
+                    sink.tileDone(tile, rgb);
+                    scheduler.tileDone(tile);
+                    left.decrementAndGet();
+                }
+            } catch (IOException e) {
+                pending.addAll(inFlight.values());
+                throw e;
+            }
+            out.writeInt(NO_MORE_TILES);
+            out.flush();
+        } catch (IOException ignored) {
+            // the worker has died or is stuck - its tiles in flight were returned to the pending tiles
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Sends a tile to a worker (without flushing)
+     *
+     * @param out  the worker connection output
+     * @param id   the tile number on the connection
+     * @param tile the tile
+     * @throws IOException if the connection is broken
+     */
+    private static void sendTile(DataOutputStream out, int id, TileScheduler.Tile tile) throws IOException {
+        out.writeInt(id);
+        out.writeInt(tile.col0());
+        out.writeInt(tile.row0());
+        out.writeInt(tile.col1());
+        out.writeInt(tile.row1());
+    }
+}
@@ -0,0 +1,249 @@
+package renderer;
+
+import geometries.TraversalCounters;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RenderStats holds the statistics of a rendering: the amount of the traced rays and their hits
+ * per ray type, the work of the intersection queries (see {@link TraversalCounters}),
+ * and the wall and CPU time of the rendering.<br>
+ * The ray counters are {@link LongAdder}s, so the rendering threads do not contend on them.
+ * The statistics are collected by a camera built with {@link Camera.Builder#setRenderStats(boolean)}.
+ * For the costs of the single pixels (see {@link PixelCosts}) the rays of every thread are also counted apart.
+ * The traversal counters are common to the whole process, so only a single rendering at a time may collect
+ * the statistics - a rendering with statistics started while another one is collecting them is refused.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class RenderStats {
+
+    /**
+     * Types of the traced rays
+     */
+    public enum RayType {
+        /** Rays from the camera through the pixels */
+        PRIMARY,
+        /** Rays from the shaded points towards the lights */
+        SHADOW,
+        /** Reflected secondary rays */
+        REFLECTION,
+        /** Refracted secondary rays */
+        REFRACTION
+    }
+
+    /** Amount of the traced rays per ray type */
+    private final LongAdder[] rays = new LongAdder[RayType.values().length];
+
+    /** Amount of the rays that hit a geometry per ray type (for shadow rays - blocked at least partially) */
+    private final LongAdder[] hits = new LongAdder[RayType.values().length];
+
+    /** Wall time of the rendering in nanoseconds */
+    private long wallTime = 0;
+
+    /** CPU time of the rendering (of the whole process) in nanoseconds, -1 if not supported */
+    private long cpuTime = 0;
+
+    /** Amount of the visited hierarchy nodes */
+    private long nodeVisits = 0;
+
+    /** Amount of the primitive tests per geometry class */
+    private Map<String, Long> primitiveTests = Map.of();
+
+    /** Whether the rays of every thread are counted apart */
+    private boolean countPerThread = false;
+
+    /** Whether a rendering is collecting the statistics (the traversal counters are common to the process) */
+    private static final AtomicBoolean ACTIVE = new AtomicBoolean(false);
+
+    /** Amount of the rays traced by the current thread */
+    private static final ThreadLocal<long[]> THREAD_RAYS = ThreadLocal.withInitial(() -> new long[1]);
+
+    /** Start of the rendering wall time */
+    private long startWallTime;
+
+    /** Start of the rendering CPU time */
+    private long startCpuTime;
+
+    /**
+     * Constructs empty statistics
+     */
+    public RenderStats() {
+        for (int i = 0; i < rays.length; ++i) {
+            rays[i] = new LongAdder();
+            hits[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Counts a traced ray
+     *
+     * @param type the ray type
+     * @param hit  whether the ray hit a geometry
+     */
+    void countRay(RayType type, boolean hit) {
+        rays[type.ordinal()].increment();
+        if (hit) hits[type.ordinal()].increment();
+        if (countPerThread) ++THREAD_RAYS.get()[0];
+    }
+
+    /**
+     * Counts the rays of every thread apart (see {@link #getThreadRays()})
+     */
+    void countPerThread() {
+        countPerThread = true;
+    }
+
+    /**
+     * Getter for the amount of the rays traced by the current thread since it started
+     * (if counted, see {@link #countPerThread()}) - a user takes the difference
+     *
+     * @return the amount of the rays
+     */
+    static long getThreadRays() {
+        return THREAD_RAYS.get()[0];
+    }
+
+    /**
+     * Starts the statistics of a rendering - resets the counters and turns on the traversal counting
+     *
+     * @throws IllegalStateException if another rendering is collecting the statistics
+     */
+    void start() {
+        if (!ACTIVE.compareAndSet(false, true))
+            throw new IllegalStateException("Another rendering is collecting the render statistics");
+        for (int i = 0; i < rays.length; ++i) {
+            rays[i].reset();
+            hits[i].reset();
+        }
+        TraversalCounters.reset();
+        TraversalCounters.setEnabled(true);
+        startCpuTime = processCpuTime();
+        startWallTime = System.nanoTime();
+    }
+
+    /**
+     * Finishes the statistics of a rendering - measures the time and collects the traversal counters
+     */
+    void finish() {
+        wallTime = System.nanoTime() - startWallTime;
+        long cpu = processCpuTime();
+        cpuTime = cpu < 0 || startCpuTime < 0 ? -1 : cpu - startCpuTime;
+        TraversalCounters.setEnabled(false);
+        nodeVisits = TraversalCounters.getNodeVisits();
+        primitiveTests = TraversalCounters.getPrimitiveTests();
+        ACTIVE.set(false);
+    }
+
+    /**
+     * Measures the CPU time of the process (all its threads)
+     *
+     * @return the CPU time in nanoseconds, or -1 if not supported
+     */
+    private static long processCpuTime() {
+        OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        return bean instanceof com.sun.management.OperatingSystemMXBean os ? os.getProcessCpuTime() : -1;
+    }
+
+    /**
+     * Getter for the amount of the traced rays of a type
+     *
+     * @param type the ray type
+     * @return the amount of the rays
+     */
+    public long getRays(RayType type) {
+        return rays[type.ordinal()].sum();
+    }
+
+    /**
+     * Getter for the amount of the traced rays of all the types
+     *
+     * @return the amount of the rays
+     */
+    public long getTotalRays() {
+        long total = 0;
+        for (LongAdder counter : rays)
+            total += counter.sum();
+        return total;
+    }
+
+    /**
+     * Getter for the amount of the rays of a type that hit a geometry
+     *
+     * @param type the ray type
+     * @return the amount of the hits
+     */
+    public long getHits(RayType type) {
+        return hits[type.ordinal()].sum();
+    }
+
+    /**
+     * Calculates the ratio of the rays of a type that hit a geometry
+     *
+     * @param type the ray type
+     * @return the hit ratio, 0 if there are no rays of the type
+     */
+    public double getHitRatio(RayType type) {
+        long count = getRays(type);
+        return count == 0 ? 0 : (double) getHits(type) / count;
+    }
+
+    /**
+     * Getter for the wall time of the rendering
+     *
+     * @return the wall time in nanoseconds
+     */
+    public long getWallTime() {
+        return wallTime;
+    }
+
+    /**
+     * Getter for the CPU time of the rendering (of the whole process)
+     *
+     * @return the CPU time in nanoseconds, or -1 if not supported
+     */
+    public long getCpuTime() {
+        return cpuTime;
+    }
+
+    /**
+     * Calculates the amount of the traced rays per a second of the wall time
+     *
+     * @return the rays per second
+     */
+    public double getRaysPerSecond() {
+        return wallTime == 0 ? 0 : getTotalRays() * 1e9 / wallTime;
+    }
+
+    /**
+     * Getter for the amount of the visited hierarchy nodes
+     *
+     * @return the amount of the visited nodes
+     */
+    public long getNodeVisits() {
+        return nodeVisits;
+    }
+
+    /**
+     * Getter for the amount of the primitive tests per geometry class
+     *
+     * @return the amounts by the simple names of the classes
+     */
+    public Map<String, Long> getPrimitiveTests() {
+        return primitiveTests;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("RenderStats{");
+        for (RayType type : RayType.values())
+            builder.append(String.format("%s=%d (%.1f%% hit), ", type, getRays(type), getHitRatio(type) * 100));
+        return builder.append(String.format("wall=%.3fs, cpu=%.3fs, rays/s=%.0f, nodes=%d, tests=%s}",
+                        wallTime / 1e9, cpuTime / 1e9, getRaysPerSecond(), nodeVisits, primitiveTests))
+                .toString();
+    }
+}
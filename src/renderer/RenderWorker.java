@@ -0,0 +1,80 @@
+package renderer;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Render worker is a process of a render farm (see {@link RenderFarm}): it connects to the coordinator,
+ * receives the serialized camera, and renders the tiles handed out to it until there are no more tiles.
+ * The tiles are rendered in parallel by the threads of the multithreading setting of the camera,
+ * and every tile is sent back as soon as it is rendered.<br>
+ * The worker trusts its coordinator - the camera it receives is deserialized as is.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public final class RenderWorker {
+    /** Private constructor - the class is only the entry point of a worker process */
+    private RenderWorker() {}
+
+    /**
+     * Runs a worker process
+     *
+     * @param args the host and the port of the coordinator, and optionally the amount of the tiles
+     *             to render before quitting (0 for no limit)
+     * @throws IOException            if the connection to the coordinator fails
+     * @throws ClassNotFoundException if a class of the camera is not found
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length < 2)
+            throw new IllegalArgumentException("Usage: RenderWorker <host> <port> [tile limit]");
+        int tileLimit = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]));
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            Camera camera;
+            try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                camera = (Camera) objects.readObject();
+            }
+            camera.prepareTrace(null);
+            camera.prepareSupersamplers();
+            int threads = camera.renderThreadsCount();
+            out.writeInt(threads);
+            out.flush();
+
+            // closing the executor waits for the tiles being rendered
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int tiles = 0; tileLimit == 0 || tiles < tileLimit; ++tiles) {
+                    int id = in.readInt();
+                    if (id < 0) return;
+                    TileScheduler.Tile tile = new TileScheduler.Tile(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+                    executor.execute(() -> sendTile(out, id, camera.renderTilePixels(tile)));
+                }
+            }
+            // the tile limit is reached - quit as if the worker died (the coordinator hands the tiles out again)
+        }
+    }
+
+    /**
+     * Sends a rendered tile to the coordinator (the tiles rendered by different threads are sent one at a time)
+     *
+     * @param out the coordinator connection output
+     * @param id  the tile number on the connection
+     * @param rgb the packed RGB values of the tile pixels, row by row
+     */
+    private static void sendTile(DataOutputStream out, int id, int[] rgb) {
+        synchronized (out) {
+            try {
+                out.writeInt(id);
+                for (int color : rgb)
+                    out.writeInt(color);
+                out.flush();
+            } catch (IOException ignored) {
+                // the coordinator is gone - the worker quits on its next read
+            }
+        }
+    }
+}
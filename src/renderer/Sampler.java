@@ -0,0 +1,265 @@
+package renderer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sampler provides the sample patterns and the random numbers for the distributed ray tracing
+ * effects (e.g. soft shadows).<br>
+ * The patterns are precomputed once for each kind and amount of samples, and stored as primitive
+ * arrays of 2D points in the unit disk - {@code [x0, y0, x1, y1, ...]}. A user varies a pattern
+ * between shading points by rotating it with a random angle, which needs no allocation.
+ * <p>
+ * The random numbers are generated from a per-thread state, so the threads never contend on a
+ * shared generator. The numbers are a hash (SplitMix64) of the seed, the pixel and a counter
+ * inside the pixel - so the same scene renders the same pixels regardless of the threads
+ * scheduling. The camera starts every pixel by {@link #startPixel(long, int, int)}.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public final class Sampler {
+
+    /**
+     * Kinds of the sample patterns
+     */
+    public enum Pattern {
+        /**
+         * Jittered grid (one sample in every cell), mapped onto the disk by a concentric mapping.
+         * The amount of samples is rounded to a square number.
+         */
+        STRATIFIED,
+        /** Halton low-discrepancy sequence (bases 2 and 3), mapped onto the disk */
+        HALTON,
+        /** Sobol (0,2)-sequence, mapped onto the disk */
+        SOBOL,
+        /** Blue noise - best candidate samples (every sample is as far as possible from the others) */
+        BLUE_NOISE
+    }
+
+    /** Amount of candidates per existing sample for the blue noise best candidate algorithm */
+    private static final int BLUE_NOISE_CANDIDATES = 10;
+
+    /** Seed of the (fixed) random numbers used for building the patterns */
+    private static final long PATTERN_SEED = 0x5EED_5A3B1E5L;
+
+    /** Cache of the built patterns by kind and amount of samples */
+    private static final Map<Long, double[]> PATTERNS = new ConcurrentHashMap<>();
+
+    /**
+     * Random numbers state of a thread
+     */
+    private static final class State {
+        /** Hash of the seed and the current pixel */
+        private long pixelHash = 0;
+        /** Amount of random numbers generated for the current pixel */
+        private long counter = 0;
+    }
+
+    /** Random numbers states of the threads */
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    /**
+     * Don't let anyone instantiate this class.
+     */
+    private Sampler() {
+    }
+
+    /**
+     * Calculates the amount of disk samples that matches a square grid of samples
+     * (the area of the inscribed disk - about n<sup>2</sup>&pi;/4)
+     *
+     * @param samplesPerRow the amount of samples per row of the square grid
+     * @return the amount of samples in the disk (at least 1)
+     */
+    public static int diskSamplesCount(int samplesPerRow) {
+        return Math.max(1, (int) Math.round(samplesPerRow * samplesPerRow * Math.PI / 4));
+    }
+
+    /**
+     * Provides a pattern of sample points in the unit disk.
+     * The pattern is built once and shared - it must not be modified.
+     *
+     * @param pattern the kind of the pattern
+     * @param count   the amount of samples (for a stratified pattern it is rounded to a square number)
+     * @return the samples coordinates - x and y of every sample
+     */
+    public static double[] diskPattern(Pattern pattern, int count) {
+        if (count <= 0) throw new IllegalArgumentException("Amount of samples must be positive");
+        return PATTERNS.computeIfAbsent(((long) pattern.ordinal() << 32) | count, key -> switch (pattern) {
+            case STRATIFIED -> stratified(count);
+            case HALTON -> halton(count);
+            case SOBOL -> sobol(count);
+            case BLUE_NOISE -> blueNoise(count);
+        });
+    }
+
+    //=========================== Random numbers ===========================
+
+    /**
+     * Starts the random numbers of a pixel in the current thread
+     *
+     * @param seed the seed of the rendering
+     * @param x    the pixel column
+     * @param y    the pixel row
+     */
+    public static void startPixel(long seed, int x, int y) {
+        State state = STATE.get();
+        state.pixelHash = mix(seed ^ mix(((long) y << 32) | (x & 0xFFFFFFFFL)));
+        state.counter = 0;
+    }
+
+    /**
+     * Provides the next random number of the current pixel in the current thread
+     *
+     * @return a random number in range [0, 1)
+     */
+    public static double nextDouble() {
+        State state = STATE.get();
+        return toDouble(mix(state.pixelHash + ++state.counter * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * SplitMix64 finalizer - scrambles the bits of a number
+     *
+     * @param z the number
+     * @return the scrambled number
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Converts random bits into a number in range [0, 1)
+     *
+     * @param bits the random bits
+     * @return the number
+     */
+    private static double toDouble(long bits) {
+        return (bits >>> 11) * 0x1p-53;
+    }
+
+    //=========================== Patterns ===========================
+
+    /**
+     * Maps a point of the unit square onto the unit disk (Shirley–Chiu concentric mapping),
+     * which keeps the stratification of the square samples
+     *
+     * @param u       the first coordinate in range [0, 1)
+     * @param v       the second coordinate in range [0, 1)
+     * @param samples the samples array
+     * @param index   the sample index
+     */
+    private static void concentric(double u, double v, double[] samples, int index) {
+        double a = 2 * u - 1, b = 2 * v - 1;
+        double r, phi;
+        if (a == 0 && b == 0) {
+            r = 0;
+            phi = 0;
+        } else if (Math.abs(a) > Math.abs(b)) {
+            r = a;
+            phi = Math.PI / 4 * (b / a);
+        } else {
+            r = b;
+            phi = Math.PI / 2 - Math.PI / 4 * (a / b);
+        }
+        samples[index * 2] = r * Math.cos(phi);
+        samples[index * 2 + 1] = r * Math.sin(phi);
+    }
+
+    /**
+     * Builds a stratified (jittered grid) pattern
+     *
+     * @param count the required amount of samples
+     * @return the pattern
+     */
+    private static double[] stratified(int count) {
+        int n = Math.max(1, (int) Math.round(Math.sqrt(count)));
+        double[] samples = new double[n * n * 2];
+        long random = PATTERN_SEED;
+        for (int i = 0; i < n; ++i)
+            for (int j = 0; j < n; ++j) {
+                double u = (j + toDouble(mix(random += 0x9E3779B97F4A7C15L))) / n;
+                double v = (i + toDouble(mix(random += 0x9E3779B97F4A7C15L))) / n;
+                concentric(u, v, samples, i * n + j);
+            }
+        return samples;
+    }
+
+    /**
+     * Calculates the radical inverse of a number in a base (van der Corput sequence)
+     *
+     * @param index the number
+     * @param base  the base
+     * @return the radical inverse in range [0, 1)
+     */
+    private static double radicalInverse(int index, int base) {
+        double result = 0, fraction = 1d / base;
+        for (; index > 0; index /= base, fraction /= base)
+            result += (index % base) * fraction;
+        return result;
+    }
+
+    /**
+     * Builds a Halton pattern
+     *
+     * @param count the amount of samples
+     * @return the pattern
+     */
+    private static double[] halton(int count) {
+        double[] samples = new double[count * 2];
+        for (int i = 0; i < count; ++i)
+            concentric(radicalInverse(i + 1, 2), radicalInverse(i + 1, 3), samples, i);
+        return samples;
+    }
+
+    /**
+     * Builds a 2D Sobol pattern - the first dimension is the base 2 van der Corput sequence,
+     * and the second one is generated by the Pascal matrix
+     *
+     * @param count the amount of samples
+     * @return the pattern
+     */
+    private static double[] sobol(int count) {
+        double[] samples = new double[count * 2];
+        for (int i = 0; i < count; ++i) {
+            int second = 0;
+            for (int bits = i, v = 1 << 31; bits != 0; bits >>>= 1, v ^= v >>> 1)
+                if ((bits & 1) != 0) second ^= v;
+            concentric(Integer.toUnsignedLong(Integer.reverse(i)) * 0x1p-32,
+                    Integer.toUnsignedLong(second) * 0x1p-32, samples, i);
+        }
+        return samples;
+    }
+
+    /**
+     * Builds a blue noise pattern by Mitchell's best candidate algorithm
+     *
+     * @param count the amount of samples
+     * @return the pattern
+     */
+    private static double[] blueNoise(int count) {
+        double[] samples = new double[count * 2];
+        double[] candidate = new double[2];
+        long random = PATTERN_SEED;
+        for (int i = 0; i < count; ++i) {
+            double bestDistance = -1;
+            for (int c = 0; c < Math.max(1, i * BLUE_NOISE_CANDIDATES); ++c) {
+                concentric(toDouble(mix(random += 0x9E3779B97F4A7C15L)),
+                        toDouble(mix(random += 0x9E3779B97F4A7C15L)), candidate, 0);
+                double distance = Double.POSITIVE_INFINITY;
+                for (int j = 0; j < i; ++j) {
+                    double dx = samples[j * 2] - candidate[0], dy = samples[j * 2 + 1] - candidate[1];
+                    distance = Math.min(distance, dx * dx + dy * dy);
+                }
+                if (distance > bestDistance) {
+                    bestDistance = distance;
+                    samples[i * 2] = candidate[0];
+                    samples[i * 2 + 1] = candidate[1];
+                }
+            }
+        }
+        return samples;
+    }
+}
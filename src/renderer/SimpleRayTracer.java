@@ -6,7 +6,11 @@ import lighting.*;
 import primitives.*;
 import scene.Scene;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.util.Arrays;
+
 
 import static primitives.Util.alignZero;
 import static primitives.Util.isZero;
@@ -18,19 +22,47 @@ import static primitives.Util.isZero;
  */
 public class SimpleRayTracer extends RayTracerBase {
 
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
 
 
-    /** Maximum recursion depth for color calculations */
-    private static final int MAX_CALC_COLOR_LEVEL = 10;
 
     /** Minimum value for color calculations to avoid division by zero */
-    private static final double MIN_CALC_COLOR_K = 0.001;
+    protected static final double MIN_CALC_COLOR_K = 0.001;
 
     /** Initial value for color calculations, used to avoid zero values */
     private static final Double3 INITIAL_K = Double3.ONE;
 
+    /** Depth of the secondary rays in the preview mode - the primary ray and a single bounce */
+    private static final int PREVIEW_MAX_LEVEL = 2;
+
     private int softShadowSamples = 15;
 
+    /** The pattern of the samples over the area of a light (for soft shadows) */
+    private Sampler.Pattern samplePattern = Sampler.Pattern.STRATIFIED;
+
+    /**
+     * Amount of samples over the rim of a light that are traced first in the adaptive soft shadows mode
+     * (together with a sample at the center of the light)
+     */
+    private static final int RING_SAMPLES = 8;
+
+    /** Termination policy of the secondary rays (reflection and refraction) */
+    private TerminationPolicy terminationPolicy = new TerminationPolicy();
+
+    /** Per-thread stacks of the pending secondary rays (not serialized - created again by a deserialized tracer) */
+    private transient ThreadLocal<RayStack> rayStacks = ThreadLocal.withInitial(RayStack::new);
+
+    /** Whether the soft shadows are sampled adaptively (the whole pattern only in the penumbra) */
+    private boolean adaptiveSoftShadows = false;
+
+    /**
+     * Variance of the ring samples transparency (see {@link #RING_SAMPLES}) up to which
+     * the point is considered not in the penumbra
+     */
+    private double softShadowVarianceThreshold = 0.001;
+
 
     /**
      * Constructs a SimpleRayTracer with the given scene.
@@ -41,6 +73,19 @@ public class SimpleRayTracer extends RayTracerBase {
         super(scene);
     }
 
+    /**
+     * Restores a deserialized ray tracer (e.g. in a render farm worker) - creates the per-thread ray stacks
+     *
+     * @param in the object input stream
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a class of the stream is not found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        rayStacks = ThreadLocal.withInitial(RayStack::new);
+    }
+
 
     /**
      * Returns the scene associated with this ray tracer.
@@ -62,42 +107,118 @@ public class SimpleRayTracer extends RayTracerBase {
         return this;
     }
 
+    /**
+     * Set the pattern of the samples over the area of a light (for soft shadows)
+     *
+     * @param pattern the sample pattern
+     * @return the current instance of SimpleRayTracer
+     */
+    public SimpleRayTracer setSamplePattern(Sampler.Pattern pattern) {
+        this.samplePattern = pattern;
+        return this;
+    }
+
+    /**
+     * Set the termination policy of the secondary rays (reflection and refraction)
+     *
+     * @param terminationPolicy the termination policy
+     * @return the current instance of SimpleRayTracer
+     */
+    public SimpleRayTracer setTerminationPolicy(TerminationPolicy terminationPolicy) {
+        this.terminationPolicy = terminationPolicy;
+        return this;
+    }
+
+    /**
+     * Getter for the termination policy of the secondary rays
+     *
+     * @return the termination policy
+     */
+    public TerminationPolicy getTerminationPolicy() {
+        return terminationPolicy;
+    }
+
+    /**
+     * Set the adaptive soft shadows mode - a ring of samples over the rim of the light is traced first,
+     * and all the samples are traced only if the ring samples do not agree (in the penumbra)
+     *
+     * @param adaptive true for the adaptive mode
+     * @return the current instance of SimpleRayTracer
+     */
+    public SimpleRayTracer setAdaptiveSoftShadows(boolean adaptive) {
+        this.adaptiveSoftShadows = adaptive;
+        return this;
+    }
+
+    /**
+     * Set the variance threshold of the adaptive soft shadows mode - if the variance of the ring samples
+     * transparency is not above it, no more samples are traced
+     *
+     * @param threshold the variance threshold (non-negative)
+     * @return the current instance of SimpleRayTracer
+     */
+    public SimpleRayTracer setSoftShadowVarianceThreshold(double threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Variance threshold must be non-negative");
+        this.softShadowVarianceThreshold = threshold;
+        return this;
+    }
+
     /**
      * Finds the closest intersection point for a given ray.
-     * This method calculates all intersections and determines the closest one.
+     * The search is done by a dedicated closest-hit query, which skips every geometry
+     * (and bounding volume) beyond the closest intersection found so far.
      *
-     * @param ray the ray for which the closest intersection is to be found
+     * @param ray   the ray for which the closest intersection is to be found
+     * @param trace the settings of the tracing (with the geometries to search)
      * @return the closest intersection, or null if no intersections exist
      */
-    private Intersection findClosestIntersection(Ray ray) {
-        // Calculate all intersection points for the ray
-        List<Intersection> intersectionPoints = scene.geometries.calculateIntersections(ray);
+    protected Intersection findClosestIntersection(Ray ray, Trace trace) {
+        return trace.geometries().calculateClosestIntersection(ray);
+    }
 
-        // If no intersections, return null
-        if (intersectionPoints == null ) {
-            return null;
-        }
+    /**
+     * Calculates the transmittance of a shadow ray up to a given distance - the product of
+     * the transparency of all the geometries blocking it. The query stops at the first opaque blocker.
+     * Subclasses may override it to use their own acceleration structure.
+     *
+     * @param ray         the shadow ray
+     * @param maxDistance the maximum distance along the ray (distance to the light)
+     * @param trace       the settings of the tracing (with the geometries to search)
+     * @return the transmittance, {@link Double3#ZERO} if the light is blocked
+     */
+    protected Double3 calculateTransmittance(Ray ray, double maxDistance, Trace trace) {
+        return trace.geometries().calculateTransmittance(ray, maxDistance, Double3.ONE, MIN_CALC_COLOR_K);
+    }
 
-        // Find and return the closest intersection
-        return intersectionPoints.stream()
-                .min((i1, i2) -> Double.compare(
-                        i1.point.distance(ray.getHead()),
-                        i2.point.distance(ray.getHead())))
-                .orElse(null);
+    /**
+     * Traces a shadow ray (see {@link #calculateTransmittance(Ray, double, Trace)})
+     * and counts it in the render statistics
+     *
+     * @param ray         the shadow ray
+     * @param maxDistance the maximum distance along the ray (distance to the light)
+     * @param trace       the settings of the tracing
+     * @return the transmittance, {@link Double3#ZERO} if the light is blocked
+     */
+    private Double3 traceShadowRay(Ray ray, double maxDistance, Trace trace) {
+        Double3 kT = calculateTransmittance(ray, maxDistance, trace);
+        if (trace.stats() != null) trace.stats().countRay(RenderStats.RayType.SHADOW, !kT.equals(Double3.ONE));
+        return kT;
     }
 
     /**
      * Traces a ray through the scene and returns the resulting color.
      * If no intersection is found, returns the background color.
      *
-     * @param ray the ray to trace
+     * @param ray   the ray to trace
+     * @param trace the settings of the tracing
      * @return the resulting color
      */
     @Override
-    public Color traceRay(Ray ray) {
+    public Color traceRay(Ray ray, Trace trace) {
 
         // Find the closest intersection for the ray
-        Intersection closestIntersection = findClosestIntersection(ray);
+        Intersection closestIntersection = findClosestIntersection(ray, trace);
+        if (trace.stats() != null) trace.stats().countRay(RenderStats.RayType.PRIMARY, closestIntersection != null);
 
         // If no intersection found, return the background color
         if (closestIntersection == null) {
@@ -105,24 +226,28 @@ public class SimpleRayTracer extends RayTracerBase {
         }
 
         // If intersection is found, calculate the color at that point
-        return calcColor(closestIntersection, ray);
+        return calcColor(closestIntersection, ray, trace);
     }
 
     /**
      * Calculates the final color at a given intersection point.
      * This method is the entry point for color computation and includes:
-     * - Local and global lighting effects (recursively)
+     * - Local and global lighting effects (see {@link #calcColor(Intersection, int, Double3, Trace)})
      * - Ambient light contribution
      * If the intersection cannot be processed, returns black.
      *
      * @param intersection the intersection point on a geometry
      * @param ray the ray that caused the intersection
+     * @param trace the settings of the tracing
      * @return the calculated color at the intersection point
      */
-    private Color calcColor(Intersection intersection, Ray ray) {
+    private Color calcColor(Intersection intersection, Ray ray, Trace trace) {
+        // A preview is shaded with a shallow recursion only
+        int maxLevel = terminationPolicy.getMaxLevel();
+        if (trace.preview()) maxLevel = Math.min(PREVIEW_MAX_LEVEL, maxLevel);
         // Preprocess the intersection to get view vector, normal vector, and their dot product
         return preprocessIntersection(intersection, ray.getDirection())
-                ? calcColor(intersection, MAX_CALC_COLOR_LEVEL, INITIAL_K)
+                ? calcColor(intersection, maxLevel, INITIAL_K, trace)
                 .add(scene.ambientLight.getIntensity()
                         .scale(intersection.geometry.getMaterial().KA))
                 : Color.BLACK;
@@ -144,7 +269,7 @@ public class SimpleRayTracer extends RayTracerBase {
         intersection.v = v;
 
         // Compute the normal at the intersection point
-        intersection.normal = intersection.geometry.getNormal(intersection.point);
+        intersection.normal = intersection.geometry.getNormal(intersection);
 
         // Compute dot product between ray and normal
         intersection.nv = intersection.normal.dotProduct(v);
@@ -154,88 +279,150 @@ public class SimpleRayTracer extends RayTracerBase {
     }
 
     /**
-     * Recursively calculates the color at an intersection point.
-     * This method handles the recursive computation of lighting effects,
-     * including global effects like reflection and refraction (in later stages),
-     * with an attenuation factor and recursion depth limitation.
+     * Calculates the color at an intersection point, including the global effects
+     * (reflection and refraction) with an attenuation factor and depth limitation.<br>
+     * The secondary rays are traced by a loop over an explicit stack of pending rays (instead of recursion):
+     * the color is the sum of the local effects at every hit point scaled by the throughput of its path
+     * (the product of the reflection/transparency coefficients along it), and of the background color
+     * for the secondary rays that miss the scene.
      *
-     * @param intersection the intersection point
-     * @param level the current recursion depth
-     * @param k the cumulative reflection/refraction attenuation coefficient
+     * @param intersection the intersection point (preprocessed)
+     * @param level the depth left for the secondary rays
+     * @param k the throughput of the path to the intersection point
+     * @param trace the settings of the tracing
      * @return the resulting color at the intersection point
      */
-    private Color calcColor(Intersection intersection, int level, Double3 k) {
-        // If recursion depth is exceeded, return black
-        if (level == 0 || k.lowerThan(MIN_CALC_COLOR_K)) {
+    private Color calcColor(Intersection intersection, int level, Double3 k, Trace trace) {
+        // If the depth is exceeded, return black
+        if (level == 0) {
             return Color.BLACK;
         }
 
-        Color localEffects = calcColorLocalEffects(intersection);
-        Color globalEffects = calcGlobalEffects(intersection, level, k);
+        RayStack stack = rayStacks.get();
+        stack.ensureCapacity(level);
+        int bottom = stack.size;
+        stack.tracedRays = 0;
+        Color color = calcColorLocalEffects(intersection, trace).scale(k);
+        pushGlobalEffects(stack, intersection, level, k.d1(), k.d2(), k.d3());
+
+        while (stack.size > bottom) {
+            int top = --stack.size;
+            Ray ray = stack.rays[top];
+            stack.rays[top] = null;
+            int rayLevel = stack.levels[top];
+            double k1 = stack.weights[top * 3], k2 = stack.weights[top * 3 + 1], k3 = stack.weights[top * 3 + 2];
+
+            // Find the closest intersection of the secondary ray
+            Intersection hit = findClosestIntersection(ray, trace);
+            if (trace.stats() != null)
+                trace.stats().countRay(stack.refracted[top] ? RenderStats.RayType.REFRACTION
+                        : RenderStats.RayType.REFLECTION, hit != null);
+            if (hit == null) {
+                // Add the background color if there is no intersection
+                color = color.add(scene.backgroundColor.scale(new Double3(k1, k2, k3)));
+                continue;
+            }
+            if (terminationPolicy.reachedMaxLevel(rayLevel) || !preprocessIntersection(hit, ray.getDirection()))
+                continue;
 
-        return localEffects.add(globalEffects);
+            color = color.add(calcColorLocalEffects(hit, trace).scale(new Double3(k1, k2, k3)));
+            pushGlobalEffects(stack, hit, rayLevel, k1, k2, k3);
+        }
+        return color;
     }
 
     /**
-     * Checks if the intersection point is unshaded (not in shadow) for a specific light source.
-     * This method casts a shadow ray towards the light source and checks for intersections.
-     *
-     * @param intersection the intersection to check
-     * @param light the light source to check against
-     * @return true if the point is unshaded, false if it is in shadow
+     * Fixed-capacity stack of the pending secondary rays of a thread,
+     * with the depth left and the throughput (3 numbers) of every ray
      */
-    private boolean unshaded(Intersection intersection, LightSource light) {
-        Vector l = light.getL(intersection.point);
-        Vector n = intersection.geometry.getNormal(intersection.point);
-
-        Ray shadowRay = new Ray(intersection.point, l, n);
-        double lightDistance = light.getDistance(intersection.point);
-
-        var intersections = scene.geometries
-                .calculateIntersections(shadowRay, lightDistance);
+    private static class RayStack {
+        /** The pending rays */
+        private Ray[] rays = new Ray[0];
+        /** The depth left for the secondary rays of every ray hit */
+        private int[] levels = new int[0];
+        /** Whether every ray is refracted (or reflected) */
+        private boolean[] refracted = new boolean[0];
+        /** The throughput of every ray - 3 numbers per ray */
+        private double[] weights = new double[0];
+        /** Amount of the pending rays */
+        private int size = 0;
+        /** Amount of the secondary rays traced for the current primary ray */
+        private int tracedRays = 0;
+
+        /**
+         * Makes sure the stack can hold the pending rays of the given depth
+         * (every level leaves at most one pending sibling ray)
+         *
+         * @param maxLevel the maximum depth
+         */
+        void ensureCapacity(int maxLevel) {
+            int capacity = size + maxLevel + 2;
+            if (rays.length >= capacity) return;
+            rays = Arrays.copyOf(rays, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            refracted = Arrays.copyOf(refracted, capacity);
+            weights = Arrays.copyOf(weights, capacity * 3);
+        }
 
-        return intersections == null || intersections.isEmpty();
+        /**
+         * Pushes a pending ray
+         *
+         * @param ray       the ray
+         * @param refracted whether the ray is refracted (or reflected)
+         * @param level     the depth left for the secondary rays of its hit
+         * @param k1        the first component of the ray throughput
+         * @param k2        the second component of the ray throughput
+         * @param k3        the third component of the ray throughput
+         */
+        void push(Ray ray, boolean refracted, int level, double k1, double k2, double k3) {
+            ++tracedRays;
+            rays[size] = ray;
+            this.refracted[size] = refracted;
+            levels[size] = level;
+            weights[size * 3] = k1;
+            weights[size * 3 + 1] = k2;
+            weights[size * 3 + 2] = k3;
+            ++size;
+        }
     }
 
-
     /**
-     * Checks if the intersection point is unshaded (not in shadow).
-     * Casts a shadow ray towards the light source and checks for intersections.
+     * Pushes the secondary rays (reflection and refraction) of an intersection to the stack,
+     * unless they are terminated by the termination policy
      *
-     * @param intersection the intersection to check
-     * @return true if the point is unshaded, false if it is in shadow
+     * @param stack        the stack
+     * @param intersection the intersection point (preprocessed)
+     * @param level        the depth left at the intersection
+     * @param k1           the first component of the throughput to the intersection
+     * @param k2           the second component of the throughput to the intersection
+     * @param k3           the third component of the throughput to the intersection
      */
-    private boolean unshaded(Intersection intersection) {
-
-        // Flip light direction: from point toward light source
-        Vector lightDirection = intersection.lightDirection.scale(-1);
-
-        // Construct a shadow ray from the intersection point toward the light
-        // The normal is used as a third argument to slightly shift the origin (to avoid self-shadowing)
-        Ray lightRay = new Ray(intersection.point, lightDirection, intersection.normal);
-
-        // Measure the distance from the intersection point to the light source
-        double lightDistance = intersection.light.getDistance(intersection.point);
-
-        // Find all geometries intersected by the shadow ray
-        List<Intersection> intersections = scene.geometries.calculateIntersections(lightRay, lightDistance);
-
-        // If there are no objects in the way, the point is illuminated
-        if (intersections == null) return true;
-
-        // Iterate through all intersections found along the shadow ray
-        for (Intersection inter : intersections) {
-            double interDistance = inter.point.distance(intersection.point);
-
-            // Check if the intersecting geometry is closer than the light and is not sufficiently transparent
-            if (alignZero(interDistance - lightDistance) < 0 &&
-                    inter.material.kT.lowerThan(MIN_CALC_COLOR_K)) {
-                return false; // There is a blocking object between the point and the light
-            }
-        }
+    private void pushGlobalEffects(RayStack stack, Intersection intersection, int level,
+                                   double k1, double k2, double k3) {
+        Double3 kR = intersection.material.kR;
+        pushGlobalEffect(stack, intersection, false, level, k1 * kR.d1(), k2 * kR.d2(), k3 * kR.d3());
+        Double3 kT = intersection.material.kT;
+        pushGlobalEffect(stack, intersection, true, level, k1 * kT.d1(), k2 * kT.d2(), k3 * kT.d3());
+    }
 
-        // No blocking geometry found → the point is illuminated
-        return true;
+    /**
+     * Pushes a single secondary ray of an intersection to the stack,
+     * unless it is terminated by the termination policy
+     *
+     * @param stack        the stack
+     * @param intersection the intersection point (preprocessed)
+     * @param refracted    true for the refracted ray, false for the reflected one
+     * @param level        the depth left at the intersection
+     * @param k1           the first component of the ray throughput
+     * @param k2           the second component of the ray throughput
+     * @param k3           the third component of the ray throughput
+     */
+    private void pushGlobalEffect(RayStack stack, Intersection intersection, boolean refracted, int level,
+                                  double k1, double k2, double k3) {
+        double scale = terminationPolicy.survive(level - 1, Math.max(k1, Math.max(k2, k3)), stack.tracedRays);
+        if (scale == 0) return;
+        stack.push(refracted ? constructRefractedRay(intersection) : constructReflectedRay(intersection),
+                refracted, level - 1, k1 * scale, k2 * scale, k3 * scale);
     }
 
     /**
@@ -244,127 +431,156 @@ public class SimpleRayTracer extends RayTracerBase {
      * towards the light source and checking for intersections with other geometries.
      *
      * @param intersection the intersection point to check
+     * @param trace        the settings of the tracing
      * @return the transparency factor (0 = fully blocked, 1 = fully transparent)
      */
-    private Double3 transparency(Intersection intersection) {
+    private Double3 transparency(Intersection intersection, Trace trace) {
         // Calculate the direction from the intersection point to the light source
         Vector lightDirection = intersection.lightDirection.scale(-1);
 
         // Create a shadow ray with an offset to avoid self-shadowing
-        Ray shadowRay = new Ray(intersection.point, lightDirection, intersection.normal);
+        Ray shadowRay = new Ray(intersection.getPoint(), lightDirection, intersection.normal);
 
-        // Get all intersections of the shadow ray with the scene
-        List<Intersection> shadowIntersections = scene.geometries.calculateIntersections(shadowRay);
+        // Accumulate the transparency of the geometries up to the light source
+        // (stops at the first opaque geometry)
+        double lightDistance = intersection.light.getDistance(intersection.getPoint());
+        return traceShadowRay(shadowRay, lightDistance, trace);
+    }
 
-        // If no intersections, the point is fully transparent
-        if (shadowIntersections == null || shadowIntersections.isEmpty()) {
-            return Double3.ONE; // Fully transparent
+    /**
+     * The disk of an area light as seen from a shading point, used for sampling its soft shadow.
+     * The disk is spanned by two vectors orthogonal to the light direction.
+     */
+    private class LightDisk {
+        /** The shading intersection */
+        private final Intersection intersection;
+        /** The settings of the tracing */
+        private final Trace trace;
+        /** Vector from the shading point to the light center */
+        private final double cx, cy, cz;
+        /** Up vector of the disk, scaled to the light radius */
+        private final double ux, uy, uz;
+        /** Right vector of the disk, scaled to the light radius */
+        private final double rx, ry, rz;
+
+        /**
+         * Creates the light disk for a shading point
+         *
+         * @param intersection the intersection being shaded (with its light)
+         * @param trace        the settings of the tracing
+         */
+        LightDisk(Intersection intersection, Trace trace) {
+            this.intersection = intersection;
+            this.trace = trace;
+            // Create an orthogonal basis (vUp and vRight) around the light direction
+            Vector l = intersection.lightDirection;
+            Vector vUp = l.createOrthogonal();
+            Vector vRight = vUp.crossProduct(l);
+            double radius = intersection.light.getRadius();
+
+            Point p = intersection.getPoint();
+            Point center = intersection.light.getPosition();
+            cx = center.getX() - p.getX();
+            cy = center.getY() - p.getY();
+            cz = center.getZ() - p.getZ();
+            ux = vUp.getX() * radius;
+            uy = vUp.getY() * radius;
+            uz = vUp.getZ() * radius;
+            rx = vRight.getX() * radius;
+            ry = vRight.getY() * radius;
+            rz = vRight.getZ() * radius;
         }
 
-        Double3 kT = Double3.ONE; // Start with full transparency
-        double lightDistance = intersection.light.getDistance(intersection.point);
-        // Loop through all shadow ray intersections
-        for (Intersection shadowIntersection : shadowIntersections) {
-            double intersectionDistance = shadowIntersection.point.distance(intersection.point);
-
-            // Check if the intersection is closer than the light source
-            if (alignZero(intersectionDistance - lightDistance) < 0) {
-                // Multiply the transparency by the kT of the intersected geometry
-                kT = kT.product(shadowIntersection.geometry.getMaterial().kT);
-
-                // If transparency is below the threshold, stop further checks
-                if (kT.lowerThan(MIN_CALC_COLOR_K)) {
-                    return Double3.ZERO; // Fully blocked
-                }
-            }
-        }
+        /**
+         * Calculates the transmittance from the shading point to a sample on the light disk
+         *
+         * @param x the sample coordinate along the right vector (in light radius units)
+         * @param y the sample coordinate along the up vector (in light radius units)
+         * @return the transmittance of the shadow ray to the sample
+         */
+        Double3 transmittance(double x, double y) {
+            // Vector from the hit point to the sample point on the light
+            double dx = cx + rx * x + ux * y, dy = cy + ry * x + uy * y, dz = cz + rz * x + uz * y;
+            double lightDist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+            // Construct a shadow ray toward the sampled light point
+            Ray shadowRay = new Ray(intersection.getPoint(), new Vector(dx, dy, dz), intersection.normal);
 
-        return kT; // Return the cumulative transparency
+            // Multiply the transparency of every object along the shadow ray (up to the light distance),
+            // the query stops early if the transparency becomes negligible
+            return traceShadowRay(shadowRay, lightDist, trace);
+        }
     }
 
     /**
      * Calculates the overall transparency (ktr) from a point to an area light source
-     * by sampling multiple rays across the light's surface (for soft shadow effect).
+     * by sampling multiple rays across the light's surface (for soft shadow effect).<br>
+     * In the adaptive mode, a ring of samples over the rim of the light and a sample at its center
+     * are traced first - if the samples agree (the point is fully lit or in full umbra), their average is used,
+     * and the whole pattern is traced only in the penumbra (averaged together with the probe samples).
      *
      * @param intersection the intersection point being shaded
-     * @param numberOfSamples the number of soft shadow samples to use
+     * @param numberOfSamples the number of soft shadow samples (per row) to use
+     * @param trace the settings of the tracing
      * @return averaged transparency factor from the samples
      */
-    private Double3 transparency(Intersection intersection, int numberOfSamples) {
+    private Double3 transparency(Intersection intersection, int numberOfSamples, Trace trace) {
         // If the light is effectively a point light (no radius or no position), or not enough samples requested,
         // fall back to the standard hard-shadow transparency computation
         if (intersection.light.getRadius() == 0 ||
                 intersection.light.getPosition() == null ||
                 numberOfSamples <= 1) {
-            return transparency(intersection);
+            return transparency(intersection, trace);
         }
 
-        // Direction from the intersection point toward the light
-        Vector l = intersection.lightDirection;
-
-        // Create an orthogonal basis (vUp and vRight) around the light direction
-        Vector vUp = l.createOrthogonal();
-        Vector vRight = vUp.crossProduct(l);
-
-        // Create a virtual "board" around the light's position
-        // to serve as the sampling area (radius * 2 = full diameter)
-        Board board = new Board(
-                intersection.light.getPosition(),
-                vUp, vRight,
-                intersection.light.getRadius() * 2
-        ).setCircle(true); // Limit sampling area to a circular shape
-
-        // Generate sampling points over the circular area of the light
-        List<Point> lightSamples = board.getPoints(numberOfSamples); // 8x8 samples = 64 rays (customizable)
-
-        Double3 ktrSum = Double3.ZERO; // Accumulator for total transparency
-        int contributingSamples = 0;   // Counter for how many samples contributed
-
-        // Loop through all sampled points on the light's surface
-        for (Point areaLightPoint : lightSamples) {
-            // Create a direction vector from the hit point to the sample point on the light
-            Vector areaLightDir = areaLightPoint.subtract(intersection.point).normalize();
-
-            // Skip samples where light is coming from behind the surface
-            if (intersection.nl <= 0)
-                continue;
-
-            // Measure the distance to the sampled point on the light
-            double lightDist = intersection.point.distance(areaLightPoint);
-
-            // Construct a shadow ray toward the sampled light point
-            Ray shadowRay = new Ray(intersection.point, areaLightDir, intersection.normal);
-
-            // Get all intersections along the shadow ray (up to the light distance)
-            List<Intersection> shadowHits = scene.geometries.calculateIntersections(shadowRay, lightDist);
-
-            // Start with full transparency (no blockage)
-            Double3 ktr = Double3.ONE;
-
-            // For each object intersected along the way, multiply by its transparency
-            if (shadowHits != null) {
-                for (Intersection hit : shadowHits) {
-                    ktr = ktr.product(hit.material.kT); // Multiply by object's transparency
+        // Light coming from behind the surface is blocked
+        if (intersection.nl <= 0)
+            return Double3.ZERO;
 
-                    // Stop early if transparency becomes negligible
-                    if (ktr.lowerThan(MIN_CALC_COLOR_K)) {
-                        ktr = Double3.ZERO;
-                        break;
-                    }
-                }
+        LightDisk disk = new LightDisk(intersection, trace);
+
+        // A random rotation of the samples for this point
+        double angle = 2 * Math.PI * Sampler.nextDouble();
+        double cos = Math.cos(angle), sin = Math.sin(angle);
+
+        double k1 = 0, k2 = 0, k3 = 0; // Accumulator for total transparency
+        int probes = 0;
+        if (adaptiveSoftShadows) {
+            // the ring samples and the center sample (the index past the ring)
+            double sumSquares = 0;
+            for (; probes <= RING_SAMPLES; ++probes) {
+                double ringAngle = 2 * Math.PI * probes / RING_SAMPLES;
+                double x = probes < RING_SAMPLES ? Math.cos(ringAngle) : 0;
+                double y = probes < RING_SAMPLES ? Math.sin(ringAngle) : 0;
+                Double3 ktr = disk.transmittance(x * cos - y * sin, x * sin + y * cos);
+                k1 += ktr.d1();
+                k2 += ktr.d2();
+                k3 += ktr.d3();
+                double mean = (ktr.d1() + ktr.d2() + ktr.d3()) / 3;
+                sumSquares += mean * mean;
             }
-
-            // Accumulate the transparency from this sample
-            ktrSum = ktrSum.add(ktr);
-            contributingSamples++;
+            double mean = (k1 + k2 + k3) / (3 * probes);
+            // the samples agree - no penumbra
+            if (sumSquares / probes - mean * mean <= softShadowVarianceThreshold)
+                return new Double3(k1 / probes, k2 / probes, k3 / probes);
         }
 
-        // If no samples contributed (all were back-facing or blocked), return full blockage
-        if (contributingSamples == 0)
-            return Double3.ZERO;
+        // The precomputed disk pattern over the light (the same density as the inscribed circle
+        // of a square grid with the given samples per row), rotated for this point
+        double[] samples = Sampler.diskPattern(samplePattern, Sampler.diskSamplesCount(numberOfSamples));
+        int count = samples.length / 2;
+
+        for (int i = 0; i < count; ++i) {
+            double x = samples[i * 2], y = samples[i * 2 + 1];
+            Double3 ktr = disk.transmittance(x * cos - y * sin, x * sin + y * cos);
+            k1 += ktr.d1();
+            k2 += ktr.d2();
+            k3 += ktr.d3();
+        }
 
-        // Return the average transparency based on number of samples attempted
-        return ktrSum.reduce(lightSamples.size());
+        // Return the average transparency of the samples (together with the probe samples)
+        count += probes;
+        return new Double3(k1 / count, k2 / count, k3 / count);
     }
 
     /**
@@ -374,7 +590,7 @@ public class SimpleRayTracer extends RayTracerBase {
      * @return the reflected ray
      */
     private Ray constructReflectedRay(Intersection intersection) {
-        return new Ray(intersection.point, intersection.v.subtract(intersection.normal.scale(2 * intersection.nv)), intersection.normal);
+        return new Ray(intersection.getPoint(), intersection.v.subtract(intersection.normal.scale(2 * intersection.nv)), intersection.normal);
     }
 
     /**
@@ -384,7 +600,7 @@ public class SimpleRayTracer extends RayTracerBase {
      * @return the refracted ray
      */
     private Ray constructRefractedRay(Intersection intersection) {
-        return new Ray(intersection.point, intersection.v, intersection.normal);
+        return new Ray(intersection.getPoint(), intersection.v, intersection.normal);
     }
 
     /**
@@ -405,7 +621,7 @@ public class SimpleRayTracer extends RayTracerBase {
         intersection.light = lightSource;
 
         // Compute light direction vector
-        intersection.lightDirection = lightSource.getL(intersection.point);
+        intersection.lightDirection = lightSource.getL(intersection.getPoint());
 
         // Compute dot product between normal and light direction
         intersection.nl = intersection.normal.dotProduct(intersection.lightDirection);
@@ -427,9 +643,10 @@ public class SimpleRayTracer extends RayTracerBase {
      * Computes local lighting (diffuse + specular) from all light sources.
      *
      * @param intersection the intersection to shade
+     * @param trace        the settings of the tracing
      * @return the local lighting color contribution
      */
-    private Color calcColorLocalEffects(Intersection intersection) {
+    private Color calcColorLocalEffects(Intersection intersection, Trace trace) {
         Color color = intersection.geometry.getEmission();
 
         // Loop through all light sources
@@ -441,7 +658,7 @@ public class SimpleRayTracer extends RayTracerBase {
 
             Double3 kT;
             // Get the transparency level of the point
-            kT = transparency(intersection, softShadowSamples);
+            kT = transparency(intersection, trace.preview() ? 1 : softShadowSamples, trace);
 
             // Skip this light source if the point is fully blocked
             if (kT.equals(Double3.ZERO)) {
@@ -454,7 +671,7 @@ public class SimpleRayTracer extends RayTracerBase {
             if (nl * nv <= 0) continue;
 
             // Get light intensity at the point
-            Color lightIntensity = lightSource.getIntensity(intersection.point);
+            Color lightIntensity = lightSource.getIntensity(intersection.getPoint());
 
             // Compute diffuse and specular components
             Double3 diffusive = calcDiffusive(intersection);
@@ -468,46 +685,6 @@ public class SimpleRayTracer extends RayTracerBase {
         return color;
     }
 
-    /**
-     * Calculates the color of a single global effect (reflection or transparency).
-     *
-     * @param ray the secondary ray (reflection or transparency)
-     * @param level the current recursion depth
-     * @param k the cumulative attenuation coefficient
-     * @param kx the specific attenuation coefficient for the effect
-     * @return the calculated color for the global effect
-     */
-    private Color calcGlobalEffect(Ray ray, int level, Double3 k, Double3 kx) {
-        Double3 kkx = k.product(kx);
-        if (kkx.lowerThan(MIN_CALC_COLOR_K)) {
-            return Color.BLACK; // Stop recursion if the attenuation is too low
-        }
-
-        // Find the closest intersection of the secondary ray
-        Intersection intersection = findClosestIntersection(ray);
-        if (intersection == null) {
-            return scene.backgroundColor.scale(kx); // Return background color if no intersection
-        }
-
-        // Recursively calculate the color at the intersection point
-        return preprocessIntersection(intersection, ray.getDirection())
-                ? calcColor(intersection, level - 1, kkx).scale(kx)
-                : Color.BLACK;
-    }
-
-    /**
-     * Calculates the combined color of global effects (reflection and transparency).
-     *
-     * @param intersection the intersection point
-     * @param level the current recursion depth
-     * @param k the cumulative attenuation coefficient
-     * @return the combined color of reflection and transparency effects
-     */
-    private Color calcGlobalEffects(Intersection intersection, int level, Double3 k) {
-        return calcGlobalEffect(constructRefractedRay(intersection), level, k, intersection.material.kT)
-                .add(calcGlobalEffect(constructReflectedRay(intersection), level, k, intersection.material.kR));
-    }
-
     /**
      * Computes the specular component using the Phong model.
      *
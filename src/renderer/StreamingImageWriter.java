@@ -0,0 +1,272 @@
+package renderer;
+
+import java.io.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Streaming image writer writes an image to a file (png or ppm) while it is rendered.
+ * The image is divided into bands of rows; the rendering threads write the finished tiles
+ * into their bands, and every band is encoded as soon as it and all the bands above it are complete,
+ * and then it is released. So the memory is bounded by the bands being rendered (a few bands when
+ * the tiles are rendered in rows order), and not by the image size - e.g. for 16k x 16k posters.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class StreamingImageWriter implements AutoCloseable {
+    /** PNG file signature */
+    private static final byte[] PNG_SIGNATURE = {(byte) 137, 'P', 'N', 'G', '\r', '\n', 26, '\n'};
+    /** Maximal size of a PNG image data chunk */
+    private static final int PNG_CHUNK_SIZE = 1 << 16;
+    /** PNG filter type of the rows - Sub (a byte minus the same byte of the previous pixel) */
+    private static final int PNG_FILTER_SUB = 1;
+
+    /** Horizontal resolution of the image - number of pixels in row */
+    private final int nX;
+    /** Vertical resolution of the image - number of pixels in column */
+    private final int nY;
+    /** Amount of the rows in a band (the last band may be shorter) */
+    private final int bandHeight;
+    /** File format of the image */
+    private final Camera.ImageFormat format;
+    /** The image file stream */
+    private final DataOutputStream file;
+    /** The stream of the encoded rows (compressing the image data for png) */
+    private final OutputStream rows;
+    /** The compressor of the png image data (null for ppm) */
+    private final Deflater deflater;
+
+    /** The packed RGB values of the pixels of the bands in progress, null for the other bands */
+    private final int[][] bands;
+    /** Amount of the pixels not written yet in every band */
+    private final AtomicIntegerArray remaining;
+    /** Buffer of an encoded row (for png - preceded by the filter type) */
+    private final byte[] row;
+    /** The first band not encoded yet (guarded by the row buffer) */
+    private int nextBand = 0;
+
+    /**
+     * Creates the image file and writes its header
+     *
+     * @param nX         amount of pixels by Width
+     * @param nY         amount of pixels by height
+     * @param bandHeight amount of the rows in a band (e.g. the tile size)
+     * @param imageName  the name of the image file (without the extension)
+     * @param format     the file format of the image
+     */
+    StreamingImageWriter(int nX, int nY, int bandHeight, String imageName, Camera.ImageFormat format) {
+        if (bandHeight <= 0) throw new IllegalArgumentException("Band height must be positive");
+        this.nX = nX;
+        this.nY = nY;
+        this.bandHeight = bandHeight;
+        this.format = format;
+
+        int bandsCount = (nY + bandHeight - 1) / bandHeight;
+        bands = new int[bandsCount][];
+        remaining = new AtomicIntegerArray(bandsCount);
+        for (int band = 0; band < bandsCount; ++band)
+            remaining.set(band, nX * (Math.min(nY, (band + 1) * bandHeight) - band * bandHeight));
+
+        String fileName = ImageWriter.FOLDER_PATH + '/' + imageName + '.' + format.name().toLowerCase();
+        try {
+            file = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName), PNG_CHUNK_SIZE));
+            if (format == Camera.ImageFormat.PNG) {
+                row = new byte[1 + 3 * nX];
+                row[0] = PNG_FILTER_SUB;
+                file.write(PNG_SIGNATURE);
+                ByteArrayOutputStream header = new ByteArrayOutputStream();
+                DataOutputStream data = new DataOutputStream(header);
+                data.writeInt(nX);
+                data.writeInt(nY);
+                data.write(new byte[]{8, 2, 0, 0, 0}); // 8 bits RGB, deflate, adaptive filters, no interlace
+                writeChunk("IHDR", header.toByteArray(), header.size());
+                deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+                rows = new DeflaterOutputStream(new ImageDataStream(), deflater, PNG_CHUNK_SIZE);
+            } else {
+                row = new byte[3 * nX];
+                deflater = null;
+                file.writeBytes("P6\n" + nX + ' ' + nY + "\n255\n");
+                rows = file;
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error - may be missing directory " + ImageWriter.FOLDER_PATH, e);
+        }
+    }
+
+    /**
+     * Writes the packed RGB values (see {@link primitives.Color#getRGB()}) of a rectangle of pixels
+     * into their bands, and encodes the bands that are complete. May be called by several threads at once.
+     *
+     * @param xIndex X axis index of the first pixel of the rectangle
+     * @param yIndex Y axis index of the first pixel of the rectangle
+     * @param width  the width of the rectangle
+     * @param rgb    the packed RGB values of the rectangle pixels, row by row
+     */
+    void writeTile(int xIndex, int yIndex, int width, int[] rgb) {
+        int height = rgb.length / width;
+        for (int i = 0; i < height; ) {
+            int band = (yIndex + i) / bandHeight;
+            int bandRows = Math.min(height - i, (band + 1) * bandHeight - yIndex - i);
+            int[] pixels = band(band);
+            for (int end = i + bandRows; i < end; ++i)
+                System.arraycopy(rgb, i * width, pixels, (yIndex + i - band * bandHeight) * nX + xIndex, width);
+            if (remaining.addAndGet(band, -bandRows * width) == 0)
+                encodeCompleteBands();
+        }
+    }
+
+    /**
+     * Provides the pixels of a band - allocated on its first tile
+     *
+     * @param band the band index
+     * @return the packed RGB values of the band pixels
+     */
+    private int[] band(int band) {
+        synchronized (bands) {
+            if (bands[band] == null)
+                bands[band] = new int[nX * Math.min(bandHeight, nY - band * bandHeight)];
+            return bands[band];
+        }
+    }
+
+    /**
+     * Encodes the complete bands in order, starting from the first band not encoded yet,
+     * and releases their pixels
+     */
+    private void encodeCompleteBands() {
+        synchronized (row) {
+            while (nextBand < bands.length && remaining.get(nextBand) == 0) {
+                int[] pixels;
+                synchronized (bands) {
+                    pixels = bands[nextBand];
+                    bands[nextBand] = null;
+                }
+                encodeBand(pixels);
+                ++nextBand;
+            }
+        }
+    }
+
+    /**
+     * Encodes the rows of a band to the file
+     *
+     * @param pixels the packed RGB values of the band pixels
+     */
+    private void encodeBand(int[] pixels) {
+        boolean png = format == Camera.ImageFormat.PNG;
+        int start = png ? 1 : 0;
+        try {
+            for (int offset = 0; offset < pixels.length; offset += nX) {
+                int r = 0, g = 0, b = 0;
+                for (int j = 0, k = start; j < nX; ++j) {
+                    int pixel = pixels[offset + j];
+                    int pr = pixel >> 16 & 0xFF, pg = pixel >> 8 & 0xFF, pb = pixel & 0xFF;
+                    if (png) {
+                        row[k++] = (byte) (pr - r);
+                        row[k++] = (byte) (pg - g);
+                        row[k++] = (byte) (pb - b);
+                        r = pr;
+                        g = pg;
+                        b = pb;
+                    } else {
+                        row[k++] = (byte) pr;
+                        row[k++] = (byte) pg;
+                        row[k++] = (byte) pb;
+                    }
+                }
+                rows.write(row);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error while writing the image", e);
+        }
+    }
+
+    /**
+     * Completes the image file - all the pixels must have been written
+     */
+    void finish() {
+        synchronized (row) {
+            if (nextBand < bands.length)
+                throw new IllegalStateException("The image is incomplete - band " + nextBand + " was not written");
+            try {
+                if (format == Camera.ImageFormat.PNG) {
+                    ((DeflaterOutputStream) rows).finish();
+                    rows.flush();
+                    writeChunk("IEND", new byte[0], 0);
+                }
+                file.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("I/O error while writing the image", e);
+            }
+        }
+    }
+
+    /**
+     * Closes the image file (an incomplete image is left as is)
+     */
+    @Override
+    public void close() {
+        if (deflater != null) deflater.end();
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new IllegalStateException("I/O error while writing the image", e);
+        }
+    }
+
+    /**
+     * Writes a PNG chunk: its length, type, data and CRC
+     *
+     * @param type   the chunk type
+     * @param data   the chunk data buffer
+     * @param length the length of the data in the buffer
+     * @throws IOException if the writing failed
+     */
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(java.nio.charset.StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+        file.writeInt(length);
+        file.write(typeBytes);
+        file.write(data, 0, length);
+        file.writeInt((int) crc.getValue());
+    }
+
+    /**
+     * Stream of the compressed PNG image data - written to the file as IDAT chunks
+     */
+    private class ImageDataStream extends OutputStream {
+        /** The data of the current chunk */
+        private final byte[] chunk = new byte[PNG_CHUNK_SIZE];
+        /** The length of the data in the current chunk */
+        private int length = 0;
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == chunk.length) flush();
+            chunk[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] data, int offset, int count) throws IOException {
+            while (count > 0) {
+                if (length == chunk.length) flush();
+                int part = Math.min(count, chunk.length - length);
+                System.arraycopy(data, offset, chunk, length, part);
+                length += part;
+                offset += part;
+                count -= part;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (length == 0) return;
+            writeChunk("IDAT", chunk, length);
+            length = 0;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package renderer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Termination policy of the secondary rays (reflection and refraction) of {@link SimpleRayTracer}.<br>
+ * A path of secondary rays is cut by one of the rules:
+ * <ul>
+ * <li>{@link Rule#DEPTH} - the path reached the maximum depth</li>
+ * <li>{@link Rule#THROUGHPUT} - the throughput of the path (the product of the reflection/transparency
+ * coefficients along it) is negligible</li>
+ * <li>{@link Rule#RUSSIAN_ROULETTE} - a path of a low throughput survives with a probability proportional
+ * to its throughput, and the surviving paths are scaled up accordingly - so the image stays unbiased
+ * on average, while most of the weak paths are not traced</li>
+ * <li>{@link Rule#RAY_BUDGET} - the primary ray (the pixel) already spawned the maximum amount
+ * of secondary rays</li>
+ * </ul>
+ * The policy counts the paths cut by every rule. The counters are {@link LongAdder}s, so the rendering
+ * threads do not contend on them. A custom policy may override {@link #survive(int, double, int)}.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+public class TerminationPolicy implements Serializable {
+
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Rules of the paths termination
+     */
+    public enum Rule {
+        /** The path reached the maximum depth */
+        DEPTH,
+        /** The throughput of the path is negligible */
+        THROUGHPUT,
+        /** The path was terminated by the Russian roulette */
+        RUSSIAN_ROULETTE,
+        /** The primary ray exhausted its budget of secondary rays */
+        RAY_BUDGET
+    }
+
+    /** Maximum depth of the secondary rays */
+    private int maxLevel = 10;
+
+    /** Throughput below which a path is cut */
+    private double minThroughput = 0.001;
+
+    /** Throughput below which a path is subject to the Russian roulette (0 - no Russian roulette) */
+    private double rouletteThreshold = 0;
+
+    /** Maximum amount of the secondary rays of a primary ray */
+    private int rayBudget = Integer.MAX_VALUE;
+
+    /** Amount of the paths cut by every rule */
+    private final LongAdder[] cuts = new LongAdder[Rule.values().length];
+
+    /**
+     * Constructs the default policy - the depth is limited to 10 and the throughput to 0.001,
+     * without the Russian roulette and without a ray budget
+     */
+    public TerminationPolicy() {
+        for (int i = 0; i < cuts.length; ++i)
+            cuts[i] = new LongAdder();
+    }
+
+    /**
+     * Set the maximum depth of the secondary rays
+     *
+     * @param maxLevel the maximum depth (at least 1 - only the primary rays)
+     * @return the policy itself
+     */
+    public TerminationPolicy setMaxLevel(int maxLevel) {
+        if (maxLevel < 1) throw new IllegalArgumentException("Maximum depth must be at least 1");
+        this.maxLevel = maxLevel;
+        return this;
+    }
+
+    /**
+     * Set the throughput below which a path is cut
+     *
+     * @param minThroughput the minimum throughput
+     * @return the policy itself
+     */
+    public TerminationPolicy setMinThroughput(double minThroughput) {
+        if (minThroughput < 0) throw new IllegalArgumentException("Minimum throughput must not be negative");
+        this.minThroughput = minThroughput;
+        return this;
+    }
+
+    /**
+     * Set the Russian roulette - a path of a throughput below the threshold survives with probability
+     * of its throughput divided by the threshold, and a surviving path is scaled up by the inverse
+     * of the probability
+     *
+     * @param threshold the throughput below which the Russian roulette is played (0 - no Russian roulette)
+     * @return the policy itself
+     */
+    public TerminationPolicy setRussianRoulette(double threshold) {
+        if (threshold < 0 || threshold > 1)
+            throw new IllegalArgumentException("Russian roulette threshold must be in range [0, 1]");
+        this.rouletteThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Set the maximum amount of the secondary rays of a primary ray
+     *
+     * @param rayBudget the ray budget
+     * @return the policy itself
+     */
+    public TerminationPolicy setRayBudget(int rayBudget) {
+        if (rayBudget < 0) throw new IllegalArgumentException("Ray budget must not be negative");
+        this.rayBudget = rayBudget;
+        return this;
+    }
+
+    /**
+     * Getter for the maximum depth of the secondary rays
+     *
+     * @return the maximum depth
+     */
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    /**
+     * Decides whether a secondary ray is traced (the depth is checked separately by
+     * {@link #reachedMaxLevel(int)}, since a ray of the last level is still traced for the background)
+     *
+     * @param level      the depth left for the ray
+     * @param throughput the throughput of the ray path (the maximal component)
+     * @param tracedRays the amount of the secondary rays already traced for the primary ray
+     * @return the factor to scale the throughput of the traced ray by, or 0 if the ray is not traced
+     */
+    public double survive(int level, double throughput, int tracedRays) {
+        if (throughput < minThroughput) return cut(Rule.THROUGHPUT);
+        if (tracedRays >= rayBudget) return cut(Rule.RAY_BUDGET);
+        if (throughput >= rouletteThreshold) return 1;
+        double survival = throughput / rouletteThreshold;
+        return Sampler.nextDouble() < survival ? 1 / survival : cut(Rule.RUSSIAN_ROULETTE);
+    }
+
+    /**
+     * Checks whether a path reached the maximum depth (and counts it as cut)
+     *
+     * @param level the depth left for the path
+     * @return true if the path is cut
+     */
+    public boolean reachedMaxLevel(int level) {
+        if (level > 0) return false;
+        cut(Rule.DEPTH);
+        return true;
+    }
+
+    /**
+     * Counts a path cut by a rule
+     *
+     * @param rule the rule
+     * @return 0 - the factor of a cut path
+     */
+    protected double cut(Rule rule) {
+        cuts[rule.ordinal()].increment();
+        return 0;
+    }
+
+    /**
+     * Getter for the amount of the paths cut by a rule
+     *
+     * @param rule the rule
+     * @return the amount of the cut paths
+     */
+    public long getCuts(Rule rule) {
+        return cuts[rule.ordinal()].sum();
+    }
+
+    /**
+     * Resets the counters of the cut paths
+     */
+    public void resetCuts() {
+        for (LongAdder counter : cuts)
+            counter.reset();
+    }
+}
@@ -0,0 +1,132 @@
+package renderer;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TileScheduler is a helper class for multi-threaded rendering. It splits the image into
+ * square tiles and hands them out to the rendering threads, and follows up the progress.<br/>
+ * Every worker has its own lock-free deque of tiles, filled with a contiguous part of the image.
+ * A worker takes the tiles from the head of its own deque, and when it is empty - it steals
+ * tiles from the tail of the other workers' deques. The progress is counted by a striped counter,
+ * so the threads do not share any lock neither for getting the work nor for reporting it.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class TileScheduler {
+    /**
+     * Immutable tile of the image - a rectangle of pixels
+     *
+     * @param col0 first column of the tile
+     * @param row0 first row of the tile
+     * @param col1 column after the last column of the tile
+     * @param row1 row after the last row of the tile
+     */
+    record Tile(int col0, int row0, int col1, int row1) {
+        /**
+         * Calculates the amount of pixels in the tile
+         *
+         * @return the amount of pixels
+         */
+        int size() {
+            return (col1 - col0) * (row1 - row0);
+        }
+    }
+
+    /** Tiles queues of the workers */
+    private final ConcurrentLinkedDeque<Tile>[] queues;
+    /** Total amount of tiles in the image */
+    private final int tilesCount;
+    /** Total amount of pixels in the generated image */
+    private final long totalPixels;
+    /** Amount of pixels that have been processed */
+    private final LongAdder pixels = new LongAdder();
+    /** Last printed progress update (in tenths of percent) */
+    private final AtomicInteger lastPrinted = new AtomicInteger(0);
+    /** Progress percentage printing interval (in tenths of percent), 0 if printing is not required */
+    private final long printInterval;
+    /** Printing format */
+    private static final String PRINT_FORMAT = "%5.1f%%\r";
+
+    /**
+     * Splits the image into tiles and distributes them between the workers
+     *
+     * @param maxRows  the amount of pixel rows
+     * @param maxCols  the amount of pixel columns
+     * @param tileSize the size of the tile side in pixels
+     * @param workers  the amount of worker threads
+     * @param interval print time interval in percents, 0 if printing is not required
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TileScheduler(int maxRows, int maxCols, int tileSize, int workers, double interval) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive");
+        if (workers <= 0) throw new IllegalArgumentException("There must be at least one worker");
+        totalPixels = (long) maxRows * maxCols;
+        printInterval = (long) (interval * 10);
+
+        queues = new ConcurrentLinkedDeque[workers];
+        for (int w = 0; w < workers; ++w)
+            queues[w] = new ConcurrentLinkedDeque<>();
+
+        // every worker gets a contiguous run of tiles (in rows order) for better coherence
+        int tileRows = (maxRows + tileSize - 1) / tileSize;
+        int tileCols = (maxCols + tileSize - 1) / tileSize;
+        tilesCount = tileRows * tileCols;
+        int index = 0;
+        for (int row = 0; row < maxRows; row += tileSize)
+            for (int col = 0; col < maxCols; col += tileSize, ++index)
+                queues[(int) ((long) index * workers / tilesCount)].addLast(new Tile(col, row,
+                        Math.min(col + tileSize, maxCols), Math.min(row + tileSize, maxRows)));
+
+        if (printInterval != 0) System.out.printf(PRINT_FORMAT, 0d);
+    }
+
+    /**
+     * Provides the next tile for a worker - from its own queue, or stolen from another worker
+     *
+     * @param worker the worker number (0 to workers amount - 1)
+     * @return the next tile, or null if there are no more tiles
+     */
+    Tile nextTile(int worker) {
+        Tile tile = queues[worker].pollFirst();
+        if (tile != null) return tile;
+        for (int i = 1; i < queues.length; ++i) {
+            tile = queues[(worker + i) % queues.length].pollLast();
+            if (tile != null) return tile;
+        }
+        return null;
+    }
+
+    /**
+     * Finish tile processing by updating and printing of progress percentage
+     *
+     * @param tile the processed tile
+     */
+    void tileDone(Tile tile) {
+        pixels.add(tile.size());
+        if (printInterval == 0) return;
+        int percentage = (int) (1000L * pixels.sum() / totalPixels);
+        int last = lastPrinted.get();
+        if (percentage - last >= printInterval && lastPrinted.compareAndSet(last, percentage))
+            System.out.printf(PRINT_FORMAT, percentage / 10d);
+    }
+
+    /**
+     * Returns the amount of tiles in the image
+     *
+     * @return the amount of tiles
+     */
+    int tilesCount() {
+        return tilesCount;
+    }
+
+    /**
+     * Returns the amount of pixels processed so far
+     *
+     * @return the amount of processed pixels
+     */
+    long processedPixels() {
+        return pixels.sum();
+    }
+}
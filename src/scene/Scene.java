@@ -5,6 +5,11 @@ import lighting.AmbientLight;
 import lighting.LightSource;
 import primitives.Color;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -12,10 +17,14 @@ import java.util.List;
  * Represents a 3D scene containing geometries, background color, and ambient light.
  * This class holds the core configuration for rendering.
  */
-public class Scene {
+public class Scene implements Serializable {
 
-    /** The collection of light sources in the scene */
-    public List<LightSource> lights = new LinkedList<>();
+    /** Serialization version of the class */
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** The collection of light sources in the scene (serialized as an array, see {@link #writeObject}) */
+    public transient List<LightSource> lights = new LinkedList<>();
 
     /** The name of the scene (used for identification purposes) */
     public final String sceneName;
@@ -68,6 +77,29 @@ public class Scene {
         return this;
     }
 
+    /**
+     * Writes the scene to a serialization stream, with its light sources as an array
+     * @param out the object output stream
+     * @throws IOException if the stream cannot be written
+     */
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeObject(lights.toArray(new LightSource[0]));
+    }
+
+    /**
+     * Reads the scene from a serialization stream and rebuilds the list of its light sources
+     * @param in the object input stream
+     * @throws IOException            if the stream cannot be read
+     * @throws ClassNotFoundException if a class of the stream is not found
+     */
+    @Serial
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        lights = new LinkedList<>(List.of((LightSource[]) in.readObject()));
+    }
+
     /**
      * sets the light sources in the scene.
      * @param lights the list of light sources to set
@@ -114,8 +114,8 @@ class CylinderTests {
         assertNotNull(fullResults, "Expected intersections with full maxDistance");
         assertEquals(2, fullResults.size(), "Expected 2 intersections (curved surface)");
 
-        double dist1 = fullResults.get(0).point.distance(ray.getHead());
-        double dist2 = fullResults.get(1).point.distance(ray.getHead());
+        double dist1 = fullResults.get(0).getPoint().distance(ray.getHead());
+        double dist2 = fullResults.get(1).getPoint().distance(ray.getHead());
 
         // TC01: maxDistance > both → return both
         var result1 = cylinder.calculateIntersections(ray, 5);
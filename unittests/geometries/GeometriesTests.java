@@ -71,4 +71,211 @@ class GeometriesTests {
         assertNotNull(resultAll, "Expected intersections with all geometries");
         assertEquals(4, resultAll.size(), "Expected 4 intersection points"); // sphere: 2, plane: 1, triangle: 1
     }
+
+    /**
+     * Test method for {@link Geometries#buildSahBvhTree()}.
+     * The hierarchy must not change the intersections of any ray.
+     */
+    @Test
+    void testBuildSahBvhTree() {
+        java.util.Random random = new java.util.Random(3);
+        Geometries flat = new Geometries();
+        Geometries tree = new Geometries();
+        Plane plane = new Plane(new Point(0, 0, -20), DIRECTION_UP);
+        flat.add(plane);
+        tree.add(plane);
+        for (int i = 0; i < 500; ++i) {
+            Point p = new Point(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+            Triangle triangle = new Triangle(p, p.add(new Vector(1, 0.2, 0)), p.add(new Vector(0.1, 1, 0.3)));
+            flat.add(triangle);
+            tree.add(i % 3 == 0 ? new Geometries(triangle) : triangle);
+        }
+        tree.buildSahBvhTree();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the tree root holds the hierarchy and the unbounded plane only
+        assertEquals(2, tree.getIntersectableList().size(), "Wrong amount of top level elements");
+
+        // TC02: rays in many directions hit exactly the same geometries
+        for (int i = 0; i < 200; ++i) {
+            Vector direction = new Vector(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+            Ray ray = new Ray(new Point(0, 0, 15), direction);
+            List<Point> expected = flat.findIntersections(ray);
+            List<Point> actual = tree.findIntersections(ray);
+            assertEquals(expected == null ? 0 : expected.size(), actual == null ? 0 : actual.size(),
+                    "Wrong amount of intersections");
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC03: building the tree again keeps the same structure
+        tree.buildSahBvhTree();
+        assertEquals(2, tree.getIntersectableList().size(), "Wrong amount of top level elements after rebuild");
+    }
+
+    /**
+     * Test method for {@link Geometries#buildFlatBvh()} and {@link FlatBvh}.
+     * The compiled hierarchy must not change the intersections of any ray.
+     */
+    @Test
+    void testBuildFlatBvh() {
+        java.util.Random random = new java.util.Random(5);
+        Geometries flat = new Geometries();
+        Geometries compiled = new Geometries();
+        Plane plane = new Plane(new Point(0, 0, -20), DIRECTION_UP);
+        flat.add(plane);
+        compiled.add(plane);
+        for (int i = 0; i < 500; ++i) {
+            Point p = new Point(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+            Intersectable geometry = i % 2 == 0
+                    ? new Sphere(random.nextDouble() + 0.1, p)
+                    : new Triangle(p, p.add(new Vector(1, 0.2, 0)), p.add(new Vector(0.1, 1, 0.3)));
+            flat.add(geometry);
+            compiled.add(geometry);
+        }
+        compiled.buildFlatBvh();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the geometries hold the compiled hierarchy and the unbounded plane only
+        assertEquals(2, compiled.getIntersectableList().size(), "Wrong amount of top level elements");
+        assertInstanceOf(FlatBvh.class, compiled.getIntersectableList().getFirst(), "Missing compiled hierarchy");
+
+        // TC02: rays in many directions (with and without distance limit) hit exactly the same geometries
+        for (int i = 0; i < 200; ++i) {
+            Vector direction = new Vector(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+            Ray ray = new Ray(new Point(0, 0, 15), direction);
+            var expected = flat.calculateIntersections(ray, i % 2 == 0 ? Double.POSITIVE_INFINITY : 20);
+            var actual = compiled.calculateIntersections(ray, i % 2 == 0 ? Double.POSITIVE_INFINITY : 20);
+            assertEquals(expected == null ? 0 : expected.size(), actual == null ? 0 : actual.size(),
+                    "Wrong amount of intersections");
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC03: a ray parallel to the axes through the hierarchy
+        Ray axisRay = new Ray(new Point(0, 0, 15), new Vector(0, 0, -1));
+        var expected = flat.calculateIntersections(axisRay);
+        var actual = compiled.calculateIntersections(axisRay);
+        assertEquals(expected == null ? 0 : expected.size(), actual == null ? 0 : actual.size(),
+                "Wrong amount of intersections for an axis parallel ray");
+
+        // TC04: compiling again flattens the previous hierarchy first
+        compiled.buildFlatBvh();
+        assertEquals(2, compiled.getIntersectableList().size(), "Wrong amount of top level elements after rebuild");
+        assertEquals(500, ((FlatBvh) compiled.getIntersectableList().getFirst()).getPrimitives().size(),
+                "Wrong amount of primitives after rebuild");
+    }
+
+    /**
+     * Test method for {@link Intersectable#calculateClosestIntersection(Ray, double)}
+     * over a plain list, a SAH hierarchy and a compiled hierarchy.
+     */
+    @Test
+    void testCalculateClosestIntersection() {
+        java.util.Random random = new java.util.Random(11);
+        Geometries flat = new Geometries();
+        Geometries tree = new Geometries();
+        Geometries compiled = new Geometries();
+        Plane plane = new Plane(new Point(0, 0, -20), DIRECTION_UP);
+        flat.add(plane);
+        tree.add(plane);
+        compiled.add(plane);
+        for (int i = 0; i < 300; ++i) {
+            Point p = new Point(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+            Intersectable geometry = i % 2 == 0
+                    ? new Sphere(random.nextDouble() + 0.1, p)
+                    : new Triangle(p, p.add(new Vector(1, 0.2, 0)), p.add(new Vector(0.1, 1, 0.3)));
+            flat.add(geometry);
+            tree.add(geometry);
+            compiled.add(geometry);
+        }
+        tree.buildSahBvhTree();
+        compiled.buildFlatBvh();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the closest intersection is the nearest of all the intersections
+        for (int i = 0; i < 300; ++i) {
+            Vector direction = new Vector(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5);
+            Ray ray = new Ray(new Point(0, 0, 15), direction);
+            double maxDistance = i % 2 == 0 ? Double.POSITIVE_INFINITY : 20;
+            Point expected = ray.findClosestPoint(flat.findIntersections(ray));
+            if (expected != null && expected.distance(ray.getHead()) > maxDistance)
+                expected = null;
+            var simple = flat.calculateClosestIntersection(ray, maxDistance);
+            var hierarchy = tree.calculateClosestIntersection(ray, maxDistance);
+            var flatHierarchy = compiled.calculateClosestIntersection(ray, maxDistance);
+            assertEquals(expected, simple == null ? null : simple.getPoint(), "Wrong closest intersection in a list");
+            assertEquals(expected, hierarchy == null ? null : hierarchy.getPoint(), "Wrong closest intersection in a tree");
+            assertEquals(expected, flatHierarchy == null ? null : flatHierarchy.getPoint(),
+                    "Wrong closest intersection in a compiled tree");
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC02: empty collection
+        assertNull(new Geometries().calculateClosestIntersection(new Ray(P0, DIRECTION_UP)),
+                "Empty collection should return null");
+    }
+
+    /**
+     * Test method for {@link Geometries#calculateTransmittance(Ray, double, Double3, double)}
+     */
+    @Test
+    void testCalculateTransmittance() {
+        Material glass = new Material().setKT(0.5);
+        Geometries geometries = new Geometries(
+                new Sphere(1, new Point(0, 0, 3)).setMaterial(glass),
+                new Sphere(1, new Point(0, 0, 6)).setMaterial(glass),
+                new Sphere(1, new Point(5, 0, 3)));
+        Ray ray = new Ray(P0, DIRECTION_UP);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: two transparent spheres - the transmittance is multiplied by every surface (4 surfaces)
+        assertEquals(new Double3(0.0625), geometries.calculateTransmittance(ray, 10, Double3.ONE, 0.001),
+                "Wrong transmittance through transparent geometries");
+        // TC02: the max distance cuts the second sphere
+        assertEquals(new Double3(0.25), geometries.calculateTransmittance(ray, 5.5, Double3.ONE, 0.001),
+                "Wrong transmittance up to the max distance");
+        // TC03: an opaque sphere blocks the light completely
+        Ray blocked = new Ray(new Point(5, 0, 0), DIRECTION_UP);
+        assertEquals(Double3.ZERO, geometries.calculateTransmittance(blocked, 10, Double3.ONE, 0.001),
+                "Opaque geometry should block the light");
+        // TC04: the same answer from a compiled hierarchy
+        geometries.buildFlatBvh();
+        assertEquals(new Double3(0.0625), geometries.calculateTransmittance(ray, 10, Double3.ONE, 0.001),
+                "Wrong transmittance through a compiled hierarchy");
+
+        // =============== Boundary Values Tests ==================
+        // TC05: the light is blocked once the transmittance drops below the minimum
+        assertEquals(Double3.ZERO, geometries.calculateTransmittance(ray, 10, Double3.ONE, 0.1),
+                "Negligible transmittance should be cut to zero");
+    }
+
+    /**
+     * Test method for {@link Geometries#copyHierarchy()} and {@link Geometries#getVersion()}.
+     * A hierarchy built over the copy must not change the original composites.
+     */
+    @Test
+    void testCopyHierarchy() {
+        Sphere sphere = new Sphere(1, SPHERE_CENTER);
+        Plane plane = new Plane(PLANE_POINT, DIRECTION_UP);
+        Geometries inner = new Geometries(sphere);
+        Geometries geometries = new Geometries(inner, plane);
+        long version = geometries.getVersion();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: building a hierarchy over the copy keeps the original composites and their version
+        Geometries copy = geometries.copyHierarchy();
+        copy.buildSahBvhTree();
+        copy.flatten();
+        assertEquals(List.of(inner, plane), geometries.getIntersectableList(), "TC01: the original composite has changed");
+        assertEquals(List.of(sphere), inner.getIntersectableList(), "TC01: the nested composite has changed");
+        assertEquals(version, geometries.getVersion(), "TC01: the version has changed");
+
+        // TC02: the copy shares the geometries and copies the composites
+        Geometries copied = geometries.copyHierarchy();
+        assertNotSame(inner, copied.getIntersectableList().getFirst(), "TC02: the nested composite is not copied");
+        assertSame(plane, copied.getIntersectableList().getLast(), "TC02: the geometry is not shared");
+
+        // TC03: a change of a nested composite changes the version
+        inner.add(new Sphere(1, P0));
+        assertTrue(geometries.getVersion() > version, "TC03: the version has not changed");
+    }
 }
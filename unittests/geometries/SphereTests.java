@@ -167,6 +167,11 @@ class SphereTests {
         List<Intersectable.Intersection> result1 = sphere.calculateIntersections(ray1, 4);
         assertNotNull(result1, "TC01: Expected two intersection points");
         assertEquals(2, result1.size(), "TC01: Wrong number of intersections");
+        result1 = result1.stream().sorted(Comparator.comparingDouble(i -> i.t)).toList();
+        assertEquals(1, result1.get(0).t, DELTA, "TC01: Wrong distance of the first intersection");
+        assertEquals(3, result1.get(1).t, DELTA, "TC01: Wrong distance of the second intersection");
+        assertEquals(new Point(-1, 0, 0), result1.get(0).getPoint(), "TC01: Wrong point of the first intersection");
+        assertEquals(new Point(1, 0, 0), result1.get(1).getPoint(), "TC01: Wrong point of the second intersection");
 
         // TC02: Two intersections, only the first is within maxDistance
         List<Intersectable.Intersection> result2 = sphere.calculateIntersections(ray1, 2.5);
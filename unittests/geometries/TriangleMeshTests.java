@@ -0,0 +1,142 @@
+package geometries;
+
+import org.junit.jupiter.api.Test;
+import primitives.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TriangleMesh} class.
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class TriangleMeshTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    TriangleMeshTests() { /* to satisfy JavaDoc generator */ }
+
+    /** A unit square in the XY plane made of two faces sharing the diagonal (0,0,0)-(1,1,0) */
+    private final TriangleMesh square = new TriangleMesh(
+            new double[]{0, 0, 0, 1, 0, 0, 1, 1, 0, 0, 1, 0},
+            new int[]{0, 1, 2, 0, 2, 3});
+
+    /**
+     * Test method for {@link TriangleMesh#TriangleMesh(double[], int[])}.
+     */
+    @Test
+    void testConstructor() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: correct mesh
+        assertEquals(2, square.getFacesCount(), "Wrong amount of faces");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: no faces
+        assertThrows(IllegalArgumentException.class, () -> new TriangleMesh(new double[]{0, 0, 0}, new int[0]),
+                "Mesh without faces");
+        // TC12: face refers to a vertex that does not exist
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleMesh(new double[]{0, 0, 0, 1, 0, 0, 0, 1, 0}, new int[]{0, 1, 3}),
+                "Face with a wrong vertex index");
+        // TC13: partial vertex
+        assertThrows(IllegalArgumentException.class,
+                () -> new TriangleMesh(new double[]{0, 0, 0, 1, 0}, new int[]{0, 0, 0}),
+                "Partial vertex coordinates");
+    }
+
+    /**
+     * Test method for {@link TriangleMesh#getNormal(Intersectable.Intersection)}
+     * and {@link TriangleMesh#getNormal(Point)}.
+     */
+    @Test
+    void testGetNormal() {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: normal of the intersected face
+        var intersection = square.calculateClosestIntersection(new Ray(new Point(0.7, 0.2, 1), new Vector(0, 0, -1)));
+        assertEquals(new Vector(0, 0, 1), square.getNormal(intersection), "Bad normal of the intersected face");
+        // TC02: normal at a point of the mesh
+        assertEquals(new Vector(0, 0, 1), square.getNormal(new Point(0.2, 0.7, 0)), "Bad normal at a point");
+        // TC03: point outside the mesh
+        assertThrows(IllegalArgumentException.class, () -> square.getNormal(new Point(2, 2, 0)),
+                "Point outside the mesh has no normal");
+    }
+
+    /**
+     * Test method for {@link TriangleMesh#calculateIntersections(Ray, double)},
+     * {@link TriangleMesh#calculateClosestIntersection(Ray, double)}
+     * and {@link TriangleMesh#calculateTransmittance(Ray, double, Double3, double)}
+     * against separate triangles.
+     */
+    @Test
+    void testIntersections() {
+        // a bumpy grid surface
+        int size = 20;
+        double[] vertices = new double[(size + 1) * (size + 1) * 3];
+        for (int i = 0; i <= size; ++i)
+            for (int j = 0; j <= size; ++j) {
+                int v = (i * (size + 1) + j) * 3;
+                vertices[v] = j;
+                vertices[v + 1] = i;
+                vertices[v + 2] = Math.sin(i * 0.7) * Math.cos(j * 0.5) * 2;
+            }
+        int[] faces = new int[size * size * 6];
+        Geometries triangles = new Geometries();
+        int f = 0;
+        for (int i = 0; i < size; ++i)
+            for (int j = 0; j < size; ++j) {
+                int a = i * (size + 1) + j, b = a + 1, c = a + size + 2, d = a + size + 1;
+                int[] face = {a, b, c, a, c, d};
+                for (int k = 0; k < 6; k += 3)
+                    triangles.add(new Triangle(point(vertices, face[k]), point(vertices, face[k + 1]),
+                            point(vertices, face[k + 2])).setMaterial(new Material().setKT(0.5)));
+                System.arraycopy(face, 0, faces, f, 6);
+                f += 6;
+            }
+        Geometry mesh = new TriangleMesh(vertices, faces).setMaterial(new Material().setKT(0.5));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the mesh matches separate triangles
+        java.util.Random random = new java.util.Random(5);
+        for (int i = 0; i < 500; ++i) {
+            Ray ray = new Ray(new Point(random.nextDouble() * 20, random.nextDouble() * 20, 10),
+                    new Vector(random.nextDouble() - 0.5, random.nextDouble() - 0.5, -1));
+            var expected = triangles.calculateIntersections(ray);
+            var actual = mesh.calculateIntersections(ray);
+            assertEquals(expected == null ? 0 : expected.size(), actual == null ? 0 : actual.size(),
+                    "Wrong amount of intersections");
+            var expectedClosest = triangles.calculateClosestIntersection(ray);
+            var actualClosest = mesh.calculateClosestIntersection(ray);
+            assertEquals(expectedClosest == null ? null : expectedClosest.getPoint(),
+                    actualClosest == null ? null : actualClosest.getPoint(), "Wrong closest intersection");
+            if (actualClosest != null)
+                assertEquals(expectedClosest.geometry.getNormal(expectedClosest.getPoint()),
+                        mesh.getNormal(actualClosest), "Wrong normal");
+            assertEquals(triangles.calculateTransmittance(ray, 30, Double3.ONE, 0.001),
+                    mesh.calculateTransmittance(ray, 30, Double3.ONE, 0.001), "Wrong transmittance");
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC11: a ray through the edge shared by two faces hits the mesh (no cracks between faces)
+        assertNotNull(square.calculateClosestIntersection(new Ray(new Point(0.5, 0.5, 1), new Vector(0, 0, -1))),
+                "Ray through a shared edge must hit the mesh");
+        // TC12: a ray through a shared edge crosses the mesh once (no seams in a transparent mesh)
+        Geometry glass = new TriangleMesh(new double[]{0, 0, 0, 1, 0, 0, 1, 1, 0, 0, 1, 0}, new int[]{0, 1, 2, 0, 2, 3})
+                .setMaterial(new Material().setKT(0.5));
+        Ray diagonal = new Ray(new Point(0.5, 0.5, 1), new Vector(0, 0, -1));
+        assertEquals(1, glass.calculateIntersections(diagonal).size(), "Ray through a shared edge must hit once");
+        assertEquals(new Double3(0.5), glass.calculateTransmittance(diagonal, 2, Double3.ONE, 0.001),
+                "Ray through a shared edge must be filtered once");
+        // TC13: a ray through a vertex shared by several faces crosses the mesh once
+        assertEquals(1, glass.calculateIntersections(new Ray(new Point(1.5, 1.5, 1), new Vector(-0.5, -0.5, -1))).size(),
+                "Ray through a shared vertex must hit once");
+    }
+
+    /**
+     * Creates a point from a coordinates array
+     *
+     * @param vertices the coordinates, 3 numbers per vertex
+     * @param index    the vertex index
+     * @return the vertex point
+     */
+    private static Point point(double[] vertices, int index) {
+        return new Point(vertices[index * 3], vertices[index * 3 + 1], vertices[index * 3 + 2]);
+    }
+}
@@ -124,4 +124,38 @@ class TriangleTests {
         assertNull(result6, "TC06: Ray on vertex – should return null");
     }
 
+    /**
+     * Test method for {@link Triangle#intersectionDistance(Ray, double)}.
+     */
+    @Test
+    void testIntersectionDistance() {
+        Triangle triangle = new Triangle(
+                new Point(0, 1, 0),
+                new Point(1, 0, 0),
+                new Point(-1, 0, 0)
+        );
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: Ray hits the triangle - the distance along the ray
+        Ray ray1 = new Ray(new Point(0, 0.5, -2), new Vector(0, 0, 1));
+        assertEquals(2, triangle.intersectionDistance(ray1, Double.POSITIVE_INFINITY), 0.00001,
+                "TC01: Wrong intersection distance");
+        // TC02: The closest intersection is the same point
+        assertEquals(new Point(0, 0.5, 0), triangle.calculateClosestIntersection(ray1).getPoint(),
+                "TC02: Wrong closest intersection");
+        // TC03: Ray starts after the triangle
+        Ray ray2 = new Ray(new Point(0, 0.5, 1), new Vector(0, 0, 1));
+        assertEquals(Double.POSITIVE_INFINITY, triangle.intersectionDistance(ray2, Double.POSITIVE_INFINITY),
+                "TC03: Triangle behind the ray must not be hit");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: Ray parallel to the triangle plane
+        Ray ray3 = new Ray(new Point(0, -1, 0), new Vector(0, 1, 0));
+        assertEquals(Double.POSITIVE_INFINITY, triangle.intersectionDistance(ray3, Double.POSITIVE_INFINITY),
+                "TC11: Parallel ray must not hit");
+        // TC12: Max distance right before the triangle
+        assertEquals(Double.POSITIVE_INFINITY, triangle.intersectionDistance(ray1, 1.9),
+                "TC12: Intersection beyond the max distance must not be counted");
+    }
+
 }
@@ -0,0 +1,120 @@
+package renderer;
+
+import geometries.Geometries;
+import geometries.Intersectable;
+import geometries.Plane;
+import geometries.Sphere;
+import geometries.Triangle;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared acceleration structures of the scenes ({@link AccelerationStructure})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class AccelerationStructureTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    AccelerationStructureTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Prepares a scene of random spheres and triangles (partly nested in composites) over a floor
+     *
+     * @return the scene
+     */
+    private static Scene prepareScene() {
+        Random random = new Random(7);
+        Scene scene = new Scene("Acceleration scene");
+        scene.geometries.add(new Plane(new Point(0, 0, -20), Vector.AXIS_Z));
+        for (int i = 0; i < 60; ++i) {
+            Point p = new Point(random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10);
+            Intersectable geometry = i % 2 == 0
+                    ? new Sphere(random.nextDouble() + 0.1, p)
+                    : new Triangle(p, p.add(new Vector(1, 0.2, 0)), p.add(new Vector(0.1, 1, 0.3)));
+            scene.geometries.add(i % 5 == 0 ? new Geometries(geometry) : geometry);
+        }
+        return scene;
+    }
+
+    /**
+     * Test method for {@link AccelerationStructure#of(Scene, Camera.BvhMode)}
+     */
+    @Test
+    void testOf() {
+        Scene scene = prepareScene();
+        List<Intersectable> geometries = List.copyOf(scene.geometries.getIntersectableList());
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: every mode finds the same closest intersections, and the scene geometries are not changed
+        Random random = new Random(11);
+        List<Ray> rays = new ArrayList<>();
+        for (int i = 0; i < 100; ++i)
+            rays.add(new Ray(new Point(0, 0, 15),
+                    new Vector(random.nextDouble() - 0.5, random.nextDouble() - 0.5, random.nextDouble() - 0.5)));
+        for (Camera.BvhMode mode : Camera.BvhMode.values()) {
+            Intersectable root = AccelerationStructure.of(scene, mode).getRoot();
+            for (Ray ray : rays) {
+                var expected = scene.geometries.calculateClosestIntersection(ray);
+                var actual = root.calculateClosestIntersection(ray);
+                assertEquals(expected == null ? null : expected.geometry, actual == null ? null : actual.geometry,
+                        "TC01: wrong closest geometry by " + mode);
+            }
+        }
+        assertEquals(geometries, scene.geometries.getIntersectableList(), "TC01: the scene geometries have changed");
+
+        // TC02: the cameras of the same scene and mode share a single structure
+        AccelerationStructure structure = AccelerationStructure.of(scene, Camera.BvhMode.HIERARCHY_SAH);
+        Camera.Builder builder = Camera.getBuilder().setVpDistance(100).setVpSize(100, 100).setResolution(10, 10)
+                .setRayTracer(scene, RayTracerType.SIMPLE).setBvhMode(Camera.BvhMode.HIERARCHY_SAH);
+        builder.build();
+        builder.setLocation(new Point(0, 0, 10)).build();
+        assertSame(structure, AccelerationStructure.of(scene, Camera.BvhMode.HIERARCHY_SAH),
+                "TC02: the structure was built again");
+        assertEquals(geometries, scene.geometries.getIntersectableList(), "TC02: the scene geometries have changed");
+
+        // TC03: a change of the scene geometries builds the structure again
+        Sphere added = new Sphere(1d, new Point(0, 0, 12));
+        scene.geometries.add(added);
+        AccelerationStructure rebuilt = AccelerationStructure.of(scene, Camera.BvhMode.HIERARCHY_SAH);
+        assertNotSame(structure, rebuilt, "TC03: the stale structure was kept");
+        assertEquals(added, rebuilt.getRoot().calculateClosestIntersection(
+                new Ray(new Point(0, 0, 15), new Vector(0, 0, -1))).geometry, "TC03: the added geometry is missing");
+
+        // TC04: a removal of a nested composite builds the structure again
+        Sphere nested = new Sphere(1d, new Point(0, 0, 24));
+        Geometries composite = new Geometries(nested);
+        scene.geometries.add(composite);
+        AccelerationStructure withNested = AccelerationStructure.of(scene, Camera.BvhMode.HIERARCHY_SAH);
+        Ray ray = new Ray(new Point(0, 0, 30), new Vector(0, 0, -1));
+        assertEquals(nested, withNested.getRoot().calculateClosestIntersection(ray).geometry,
+                "TC04: the nested geometry is missing");
+        scene.geometries.remove(composite);
+        AccelerationStructure withoutNested = AccelerationStructure.of(scene, Camera.BvhMode.HIERARCHY_SAH);
+        assertNotSame(withNested, withoutNested, "TC04: the stale structure was kept");
+        assertEquals(added, withoutNested.getRoot().calculateClosestIntersection(ray).geometry,
+                "TC04: the removed geometry is still hit");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: the structure of a new scene built by several threads at once is built only once
+        Scene shared = prepareScene();
+        List<Future<AccelerationStructure>> builds = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 8; ++i)
+                builds.add(executor.submit(() -> AccelerationStructure.of(shared, Camera.BvhMode.HIERARCHY_FLAT)));
+            for (Future<AccelerationStructure> build : builds)
+                assertSame(builds.getFirst().get(), build.get(), "TC11: the structure was built more than once");
+        } catch (Exception e) {
+            fail("TC11: the build failed", e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+import primitives.Color;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the adaptive supersampling ({@link AdaptiveSupersampler})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class AdaptiveSupersamplerTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    AdaptiveSupersamplerTests() { /* to satisfy JavaDoc generator */ }
+
+    /** Amount of the samples traced by the test tracers */
+    private int traced = 0;
+
+    /**
+     * Test method for {@link AdaptiveSupersampler#pixel(int, int)}
+     */
+    @Test
+    void testPixel() {
+        // The image is white left of the vertical line x = 1.25 (in pixel corner units) and black right of it,
+        // on a lattice refined by 4 (depth 2)
+        AdaptiveSupersampler supersampler = new AdaptiveSupersampler(3, 2, 10, (x, y) -> {
+            ++traced;
+            return x < 5 ? new Color(200, 200, 200) : Color.BLACK;
+        });
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: a flat pixel is the average of its corners, traced once
+        assertEquals(new Color(200, 200, 200).getRGB(), supersampler.pixel(0, 0).getRGB(),
+                "TC01: wrong color of a flat pixel");
+        assertEquals(4, traced, "TC01: wrong amount of samples of a flat pixel");
+
+        // TC02: an edge pixel is subdivided down to the maximal depth only along the edge
+        // (the white column of the finest sub-squares averages to an eighth of the pixel),
+        // and its corners on the left are shared with the previous pixel
+        traced = 0;
+        assertEquals(new Color(25, 25, 25).getRGB(), supersampler.pixel(1, 0).getRGB(),
+                "TC02: wrong color of an edge pixel");
+        assertEquals(18 - 2, traced, "TC02: wrong amount of samples of an edge pixel");
+
+        // TC03: a flat pixel in the next row reuses a cached corner of its top row
+        traced = 0;
+        assertEquals(Color.BLACK.getRGB(), supersampler.pixel(2, 1).getRGB(), "TC03: wrong color of a flat pixel");
+        assertEquals(3, traced, "TC03: wrong amount of samples of a pixel in the next row");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: corners within the threshold are not subdivided
+        traced = 0;
+        AdaptiveSupersampler tolerant = new AdaptiveSupersampler(3, 2, 10, (x, y) -> {
+            ++traced;
+            return new Color(100 + x / 4 % 2 * 10, 100, 100);
+        });
+        assertEquals(new Color(105, 100, 100).getRGB(), tolerant.pixel(0, 0).getRGB(),
+                "TC11: wrong color of a pixel within the threshold");
+        assertEquals(4, traced, "TC11: a pixel within the threshold was subdivided");
+    }
+
+    /**
+     * Test method for {@link Camera.Builder#setAdaptiveSuperSampling(int, double)}
+     */
+    @Test
+    void testBuilder() {
+        // =============== Boundary Values Tests ==================
+        // TC11: negative depth
+        assertThrows(IllegalArgumentException.class,
+                () -> Camera.getBuilder().setAdaptiveSuperSampling(-1, 10), "TC11: negative depth");
+        // TC12: negative threshold
+        assertThrows(IllegalArgumentException.class,
+                () -> Camera.getBuilder().setAdaptiveSuperSampling(2, -1), "TC12: negative threshold");
+    }
+}
@@ -0,0 +1,126 @@
+package renderer;
+
+import geometries.Sphere;
+import geometries.Triangle;
+import lighting.PointLight;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.RenderFixtures.assertSameImage;
+import static renderer.RenderFixtures.image;
+import static renderer.RenderFixtures.readImage;
+
+/**
+ * Unit tests for the animations of a camera moving along a path ({@link Animation})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class AnimationTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    AnimationTests() { /* to satisfy JavaDoc generator */ }
+
+    /** Image width in pixels */
+    private static final int NX = 30;
+    /** Image height in pixels */
+    private static final int NY = 20;
+    /** The point in the focus of the camera */
+    private static final Point TARGET = new Point(0, 0, -100);
+
+    /** The scene of the animation */
+    private final Scene scene = new Scene("Animation scene");
+
+    /**
+     * Prepares the scene of a reflective sphere over a floor
+     */
+    private void prepareScene() {
+        scene.geometries.add(
+                new Sphere(20d, TARGET).setEmission(new Color(30, 10, 10))
+                        .setMaterial(new Material().setKD(0.4).setKS(0.4).setShininess(30).setKR(0.3)),
+                new Triangle(new Point(-500, -20, 500), new Point(500, -20, 500), new Point(0, -20, -600))
+                        .setMaterial(new Material().setKD(0.5)).setEmission(new Color(10, 20, 30)));
+        scene.lights.add(new PointLight(new Color(500, 400, 300), new Point(0, 100, 0)).setRadius(10));
+    }
+
+    /**
+     * Prepares a camera of the scene at a location looking at the target
+     *
+     * @param location the location of the camera
+     * @return the camera builder
+     */
+    private Camera.Builder prepareCamera(Point location) {
+        return Camera.getBuilder()
+                .setLocation(location).setDirection(TARGET)
+                .setVpDistance(100).setVpSize(60, 40).setResolution(NX, NY).setTileSize(8)
+                .setBvhMode(Camera.BvhMode.HIERARCHY_SAH).setAdaptiveSuperSampling(1, 10)
+                .setRayTracer(scene, RayTracerType.SIMPLE, 4);
+    }
+
+    /**
+     * Checks that a frame is the same as the image of a camera built at the pose of the frame
+     *
+     * @param pose      the pose of the frame
+     * @param frameName the name of the image file of the frame
+     * @param message   the failure message
+     */
+    private void assertFrame(CameraPath.Pose pose, String frameName, String message) {
+        assertSameImage(image(prepareCamera(pose.location()).build().renderImage(), "animationExpected"),
+                readImage(frameName), message);
+    }
+
+    /**
+     * Test method for {@link Animation#render(String)}
+     */
+    @Test
+    void testRender() {
+        prepareScene();
+        Point start = new Point(0, 30, 100);
+        Camera camera = prepareCamera(start).setMultithreading(3).build();
+        CameraPath turntable = CameraPath.orbit(TARGET, start, 360);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: every frame of a turntable is the image of a camera built at its pose
+        // (the frames are spread evenly over the turn, and the start is not rendered twice)
+        Animation animation = new Animation(camera, turntable, 4).setFramesInFlight(2).render("animationTurntable");
+        for (int i = 0; i < 4; ++i)
+            assertFrame(turntable.at(i / 4d), animation.frameName("animationTurntable", i), "TC01: wrong pixel");
+        assertEquals("animationTurntable_0003", animation.frameName("animationTurntable", 3),
+                "TC01: wrong frame name");
+        // TC02: the frames are rendered by the executor of the camera
+        AtomicInteger executed = new AtomicInteger();
+        Animation byExecutor;
+        try (ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                executed.incrementAndGet();
+            }
+        }) {
+            byExecutor = new Animation(prepareCamera(start).setExecutor(executor).build(), turntable, 2)
+                    .render("animationExecutor");
+        }
+        assertTrue(executed.get() > 0, "TC02: the frames were not rendered by the executor");
+        for (int i = 0; i < 2; ++i)
+            assertFrame(turntable.at(i / 2d), byExecutor.frameName("animationExecutor", i), "TC02: wrong pixel");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: a single frame of an open path is its start
+        CameraPath keyframes = CameraPath.keyframes(new CameraPath.Pose(new Point(50, 10, 0), TARGET),
+                new CameraPath.Pose(start, TARGET));
+        Animation single = new Animation(camera, keyframes, 1).render("animationSingle");
+        assertFrame(keyframes.at(0), single.frameName("animationSingle", 0), "TC11: wrong pixel");
+        // TC12: the frames cannot be written
+        assertThrows(IllegalStateException.class,
+                () -> new Animation(camera, turntable, 5).setFramesInFlight(1).render("missing/animationMissing"),
+                "TC12: the frames were not written");
+        // TC13: no frames
+        assertThrows(IllegalArgumentException.class, () -> new Animation(camera, turntable, 0),
+                "TC13: animation without frames");
+    }
+}
@@ -0,0 +1,100 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+import primitives.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the camera paths of the animations ({@link CameraPath})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class CameraPathTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    CameraPathTests() { /* to satisfy JavaDoc generator */ }
+
+    /** The target of the paths */
+    private final Point target = new Point(1, 2, 3);
+
+    /**
+     * Test method for {@link CameraPath#orbit(Point, Point, double)}
+     */
+    @Test
+    void testOrbit() {
+        CameraPath path = CameraPath.orbit(target, new Point(1, 5, 13), 360);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: a quarter of the turn keeps the height and the distance from the target
+        CameraPath.Pose pose = path.at(0.25);
+        assertEquals(new Point(11, 5, 3), pose.location(), "TC01: wrong location");
+        assertEquals(target, pose.target(), "TC01: wrong target");
+        // TC02: a full turn is closed, a part of a turn is not
+        assertTrue(path.isClosed(), "TC02: a full turn is closed");
+        assertFalse(CameraPath.orbit(target, new Point(1, 5, 13), 90).isClosed(), "TC02: a quarter turn is not closed");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: the start of the orbit
+        assertEquals(new Point(1, 5, 13), path.at(0).location(), "TC11: wrong start");
+        // TC12: the start straight above the target
+        assertThrows(IllegalArgumentException.class, () -> CameraPath.orbit(target, new Point(1, 9, 3), 360),
+                "TC12: orbit around a vertical start");
+    }
+
+    /**
+     * Test method for {@link CameraPath#keyframes(CameraPath.Pose...)}
+     */
+    @Test
+    void testKeyframes() {
+        CameraPath path = CameraPath.keyframes(
+                new CameraPath.Pose(new Point(0, 0, 10), target),
+                new CameraPath.Pose(new Point(10, 0, 10), target),
+                new CameraPath.Pose(new Point(10, 4, 10), new Point(1, 2, 7)));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the middle of the first segment
+        assertEquals(new Point(5, 0, 10), path.at(0.25).location(), "TC01: wrong location");
+        // TC02: the middle of the second segment moves the target too
+        assertEquals(new CameraPath.Pose(new Point(10, 2, 10), new Point(1, 2, 5)), path.at(0.75),
+                "TC02: wrong pose");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: the path passes through the keyframes
+        assertEquals(new Point(0, 0, 10), path.at(0).location(), "TC11: wrong first keyframe");
+        assertEquals(new Point(10, 0, 10), path.at(0.5).location(), "TC11: wrong middle keyframe");
+        assertEquals(new Point(10, 4, 10), path.at(1).location(), "TC11: wrong last keyframe");
+        // TC12: a single keyframe
+        assertThrows(IllegalArgumentException.class,
+                () -> CameraPath.keyframes(new CameraPath.Pose(new Point(0, 0, 10), target)),
+                "TC12: path of a single keyframe");
+        // TC13: a camera at its target
+        assertThrows(IllegalArgumentException.class, () -> new CameraPath.Pose(target, target),
+                "TC13: camera at its target");
+    }
+
+    /**
+     * Test method for {@link CameraPath#spline(CameraPath.Pose...)}
+     */
+    @Test
+    void testSpline() {
+        CameraPath path = CameraPath.spline(
+                new CameraPath.Pose(new Point(0, 0, 10), target),
+                new CameraPath.Pose(new Point(10, 0, 10), target),
+                new CameraPath.Pose(new Point(20, 0, 10), target),
+                new CameraPath.Pose(new Point(20, 0, 20), target));
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the spline between collinear keyframes stays on their line
+        Point location = path.at(1d / 6).location();
+        assertEquals(new Point(location.getX(), 0, 10), location, "TC01: the spline left the line");
+        assertTrue(location.getX() > 0 && location.getX() < 10, "TC01: wrong location");
+        // TC02: the spline is smooth - it leaves the line before the corner keyframe
+        assertTrue(path.at(0.55).location().getZ() < 10, "TC02: the spline does not bend before the corner");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: the spline passes through the keyframes
+        assertEquals(new Point(0, 0, 10), path.at(0).location(), "TC11: wrong first keyframe");
+        assertEquals(new Point(20, 0, 10), path.at(2d / 3).location(), "TC11: wrong keyframe");
+        assertEquals(new Point(20, 0, 20), path.at(1).location(), "TC11: wrong last keyframe");
+    }
+}
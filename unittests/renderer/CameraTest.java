@@ -2,12 +2,23 @@ package renderer;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static renderer.RenderFixtures.assertSameImage;
+import static renderer.RenderFixtures.image;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 
+import geometries.Sphere;
+import lighting.PointLight;
 import primitives.*;
 import renderer.Camera;
+import scene.Scene;
 
 /**
  * Testing Camera Class
@@ -90,4 +101,45 @@ class CameraTest {
       // BV01: set to a target on Y-axis without up
       assertThrows(IllegalArgumentException.class, () -> cameraBuilder.setDirection(new Point(0, 10, 0)).build());
    }
+
+   /**
+    * Test method for the execution strategies
+    * {@link renderer.Camera.Builder#setExecutor(ExecutorService)},
+    * {@link renderer.Camera.Builder#setVirtualThreads()} and
+    * {@link renderer.Camera.Builder#setForkJoinPool(ForkJoinPool)}
+    */
+   @Test
+   void testExecutionStrategies() {
+      Scene scene = new Scene("Strategies test");
+      scene.geometries.add(new Sphere(3, new Point(0, 0, -20)).setEmission(new Color(40, 20, 10))
+         .setMaterial(new Material().setKD(0.5).setKS(0.5).setShininess(20)));
+      scene.lights.add(new PointLight(new Color(400, 400, 400), new Point(5, 5, 0)).setRadius(2));
+      cameraBuilder.setDirection(new Vector(0, 0, -1), new Vector(0, -1, 0))
+         .setVpSize(8, 8).setResolution(50, 50).setTileSize(8)
+         .setRayTracer(scene, RayTracerType.SIMPLE, 4);
+      BufferedImage expected = image(cameraBuilder.build().renderImage(), "strategiesExpected");
+      ExecutorService pool = Executors.newFixedThreadPool(2);
+      ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+
+      // ============ Equivalence Partitions Tests ==============
+      // EP01: two renders share the same bounded pool, which stays alive, and render the single-thread image
+      cameraBuilder.setExecutor(pool).build().renderImage();
+      assertSameImage(expected, image(cameraBuilder.setExecutor(pool).build().renderImage(), "strategiesExecutor"),
+         "EP01: wrong pixel");
+      assertFalse(pool.isShutdown(), "Camera must not shut down a shared executor");
+      // EP02: virtual thread per tile
+      assertSameImage(expected, image(cameraBuilder.setVirtualThreads().build().renderImage(), "strategiesVirtual"),
+         "EP02: wrong pixel");
+      // EP03: caller supplied fork-join pool
+      assertSameImage(expected,
+         image(cameraBuilder.setForkJoinPool(forkJoinPool).build().renderImage(), "strategiesForkJoin"),
+         "EP03: wrong pixel");
+      assertFalse(forkJoinPool.isShutdown(), "Camera must not shut down a shared pool");
+
+      // =============== Boundary Values Tests ==================
+      // BV01: no executor
+      assertThrows(IllegalArgumentException.class, () -> cameraBuilder.setExecutor(null));
+      pool.shutdown();
+      forkJoinPool.shutdown();
+   }
 }
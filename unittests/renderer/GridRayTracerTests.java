@@ -0,0 +1,112 @@
+package renderer;
+
+import geometries.*;
+import lighting.AmbientLight;
+import lighting.PointLight;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing the regular grid accelerated ray tracer {@link GridRayTracer}
+ * against the brute-force {@link SimpleRayTracer}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class GridRayTracerTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    GridRayTracerTests() { /* to satisfy JavaDoc generator */ }
+
+    /** Scene of the tests - a plane with many small spheres and triangles above it */
+    private final Scene scene = new Scene("Grid test scene")
+            .setAmbientLight(new AmbientLight(new Color(20, 20, 20)));
+
+    /**
+     * Fills the scene with a pseudo-random (but repeatable) set of geometries
+     */
+    private void prepareScene() {
+        java.util.Random random = new java.util.Random(7);
+        scene.geometries.add(new Plane(new Point(0, -60, 0), Vector.AXIS_Y)
+                .setMaterial(new Material().setKD(0.5).setKR(0.2)));
+        for (int i = 0; i < 200; ++i) {
+            Point center = new Point(random.nextDouble() * 100 - 50,
+                    random.nextDouble() * 100 - 50,
+                    random.nextDouble() * 100 - 150);
+            if (i % 2 == 0)
+                scene.geometries.add(new Sphere(random.nextDouble() * 4 + 1, center)
+                        .setMaterial(new Material().setKD(0.5).setKS(0.3).setShininess(20).setKT(0.3)));
+            else
+                scene.geometries.add(new Triangle(center,
+                        center.add(new Vector(4, 1, 0.5)),
+                        center.add(new Vector(1, 5, -0.5)))
+                        .setMaterial(new Material().setKD(0.6)));
+        }
+        scene.lights.add(new PointLight(new Color(500, 400, 300), new Point(0, 100, 0)));
+    }
+
+    /**
+     * Test method for {@link GridRayTracer#findClosestIntersection(Ray, RayTracerBase.Trace)},
+     * {@link GridRayTracer#calculateTransmittance(Ray, double, RayTracerBase.Trace)}
+     * and {@link GridRayTracer#prepareGrid()}
+     */
+    @Test
+    void testIntersections() {
+        prepareScene();
+        SimpleRayTracer simple = new SimpleRayTracer(scene);
+        GridRayTracer grid = new GridRayTracer(scene);
+        RayTracerBase.Trace trace = new RayTracerBase.Trace(scene.geometries, false, null);
+        Point origin = new Point(0, 0, 100);
+
+        // ============ Equivalence Partitions Tests ==============
+        // EP01: the closest intersection and the transmittance match the brute-force results
+        for (int i = -20; i <= 20; ++i)
+            for (int j = -20; j <= 20; ++j) {
+                Ray ray = new Ray(origin, new Vector(i * 2.5, j * 2.5, -200));
+                var expected = simple.findClosestIntersection(ray, trace);
+                var actual = grid.findClosestIntersection(ray, trace);
+                assertEquals(expected == null ? null : expected.getPoint(),
+                        actual == null ? null : actual.getPoint(), "Wrong closest intersection");
+
+                assertEquals(simple.calculateTransmittance(ray, 220, trace), grid.calculateTransmittance(ray, 220, trace),
+                        "Wrong transmittance");
+            }
+        // EP02: a geometry added after the grid was built is found once the grid is prepared again
+        scene.geometries.add(new Sphere(5, Point.ZERO));
+        grid.prepareGrid();
+        Ray centerRay = new Ray(origin, new Vector(0, 0, -1));
+        assertEquals(new Point(0, 0, 5), grid.findClosestIntersection(centerRay, trace).getPoint(),
+                "The grid was not built again for the changed scene");
+
+        // =============== Boundary Values Tests ==================
+        // BV01: a ray that misses the grid and hits only the plane
+        Ray sideRay = new Ray(new Point(500, 0, 0), new Vector(1, -1, 0));
+        assertEquals(simple.findClosestIntersection(sideRay, trace).getPoint(),
+                grid.findClosestIntersection(sideRay, trace).getPoint(), "Wrong intersection outside the grid");
+        // BV02: a ray parallel to an axis starting inside the grid
+        Ray axisRay = new Ray(new Point(0, 0, -100), new Vector(0, 0, -1));
+        var expected = simple.findClosestIntersection(axisRay, trace);
+        var actual = grid.findClosestIntersection(axisRay, trace);
+        assertEquals(expected == null ? null : expected.getPoint(), actual == null ? null : actual.getPoint(),
+                "Wrong intersection for an axis parallel ray");
+    }
+
+    /**
+     * Produce a picture of the test scene with the grid ray tracer
+     */
+    @Test
+    void renderGridScene() {
+        prepareScene();
+        Camera.getBuilder()
+                .setLocation(new Point(0, 0, 100))
+                .setDirection(new Point(0, 0, -100), Vector.AXIS_Y)
+                .setVpDistance(200)
+                .setVpSize(100, 100)
+                .setResolution(300, 300)
+                .setRayTracer(scene, RayTracerType.GRID, 3)
+                .build()
+                .renderImage()
+                .writeToImage("gridRayTracerScene");
+    }
+}
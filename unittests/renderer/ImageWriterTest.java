@@ -45,4 +45,32 @@ class ImageWriterTest {
         // Write the resulting image to file
         imageWriter.writeToImage("yellowSubmarine");
     }
+
+    /**
+     * Test method for {@link ImageWriter#writeTile(int, int, int, int[])} and {@link ImageWriter#writePixel}
+     */
+    @Test
+    void testWriteTile() {
+        ImageWriter imageWriter = new ImageWriter(4, 3);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: a tile inside the image is written row by row at its place
+        imageWriter.writeTile(1, 1, 2, new int[]{1, 2, 3, 4});
+        assertEquals(1, imageWriter.getRGB(1, 1), "TC01: wrong first pixel of the tile");
+        assertEquals(2, imageWriter.getRGB(2, 1), "TC01: wrong pixel in the first row of the tile");
+        assertEquals(3, imageWriter.getRGB(1, 2), "TC01: wrong pixel in the second row of the tile");
+        assertEquals(4, imageWriter.getRGB(2, 2), "TC01: wrong last pixel of the tile");
+        assertEquals(0, imageWriter.getRGB(3, 1), "TC01: a pixel out of the tile was written");
+        assertEquals(0, imageWriter.getRGB(1, 0), "TC01: a pixel out of the tile was written");
+
+        // TC02: a pixel color is packed without the alpha, as by java.awt.Color
+        imageWriter.writePixel(0, 0, new Color(10, 20, 30));
+        assertEquals(new java.awt.Color(10, 20, 30).getRGB() & 0xFFFFFF, imageWriter.getRGB(0, 0),
+                "TC02: wrong packed pixel color");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: color components above 255 are clamped
+        imageWriter.writePixel(3, 2, new Color(300, 255, 1000));
+        assertEquals(0xFFFFFF, imageWriter.getRGB(3, 2), "TC11: wrong clamped pixel color");
+    }
 }
@@ -0,0 +1,88 @@
+package renderer;
+
+import geometries.Sphere;
+import geometries.Triangle;
+import lighting.PointLight;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the pixel costs ({@link PixelCosts}) recorded by {@link Camera}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class PixelCostsTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    PixelCostsTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link Camera#getPixelCosts()}
+     */
+    @Test
+    void testPixelCosts() throws IOException {
+        Scene scene = new Scene("Costs scene");
+        // a glass sphere in the left half of the image, over a floor
+        scene.geometries.add(
+                new Sphere(20d, new Point(-25, 0, -100)).setMaterial(new Material().setKD(0.2).setKT(0.8).setKR(0.2)),
+                new Triangle(new Point(-500, -500, -200), new Point(500, -500, -200), new Point(0, 500, -200))
+                        .setMaterial(new Material().setKD(0.5)));
+        scene.lights.add(new PointLight(new Color(500, 500, 500), new Point(0, 100, 0)));
+        Camera camera = Camera.getBuilder()
+                .setLocation(Point.ZERO).setDirection(new Point(0, 0, -1), Vector.AXIS_Y)
+                .setVpDistance(100).setVpSize(100, 100).setResolution(20, 20)
+                .setRayTracer(scene, RayTracerType.SIMPLE)
+                .setBvhMode(Camera.BvhMode.HIERARCHY_FLAT)
+                .setRenderStats(true)
+                .setPixelCosts(true)
+                .build();
+        PixelCosts costs = camera.renderImage().getPixelCosts();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the rays of the pixels add up to all the rays of the rendering
+        long rays = 0, nodes = 0;
+        for (int y = 0; y < 20; ++y)
+            for (int x = 0; x < 20; ++x) {
+                rays += costs.getRays(x, y);
+                nodes += costs.getNodeVisits(x, y);
+                assertTrue(costs.getNanos(x, y) > 0, "Every pixel takes time");
+            }
+        assertEquals(camera.getRenderStats().getTotalRays(), rays, "Wrong rays of the pixels");
+        assertEquals(camera.getRenderStats().getNodeVisits(), nodes, "Wrong node visits of the pixels");
+        // TC02: a pixel through the glass sphere is more expensive than a pixel of the floor only
+        assertTrue(costs.getRays(5, 10) > costs.getRays(15, 10), "Glass pixel should trace more rays");
+        assertTrue(costs.getNodeVisits(5, 10) > costs.getNodeVisits(15, 10), "Glass pixel should visit more nodes");
+
+        // TC03: the heatmaps and the dumps are written
+        costs.writeHeatmaps("pixelCosts");
+        for (String suffix : new String[]{"-time", "-rays", "-nodes"})
+            assertTrue(Files.exists(Path.of(ImageWriter.FOLDER_PATH, "pixelCosts" + suffix + ".png")),
+                    "Missing heatmap");
+        costs.writeCsv("pixelCosts");
+        var lines = Files.readAllLines(Path.of(ImageWriter.FOLDER_PATH, "pixelCosts.csv"));
+        assertEquals(401, lines.size(), "CSV should have a header and a line per pixel");
+        assertEquals("x,y,nanos,rays,nodes", lines.getFirst(), "Wrong CSV header");
+        assertEquals("5,10," + costs.getNanos(5, 10) + "," + costs.getRays(5, 10) + ","
+                + costs.getNodeVisits(5, 10), lines.get(10 * 20 + 5 + 1), "Wrong CSV line");
+        costs.writeBinary("pixelCosts");
+        try (var in = new DataInputStream(new FileInputStream(ImageWriter.FOLDER_PATH + "/pixelCosts.bin"))) {
+            assertEquals(20, in.readInt(), "Wrong binary width");
+            assertEquals(20, in.readInt(), "Wrong binary height");
+            assertEquals(3, in.readInt(), "Wrong binary columns");
+            assertEquals("nanos", in.readUTF(), "Wrong binary column");
+        }
+
+        // =============== Boundary Values Tests ==================
+        // TC11: no costs are recorded by default
+        assertNull(Camera.getBuilder(camera).setRayTracer(scene, RayTracerType.SIMPLE).build().renderImage().getPixelCosts(),
+                "Costs should not be recorded");
+    }
+}
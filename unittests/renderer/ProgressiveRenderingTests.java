@@ -0,0 +1,97 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.RenderFixtures.*;
+
+/**
+ * Unit tests for the progressive rendering of {@link Camera}
+ * (see {@link Camera.Builder#setProgressive(int, Camera.ProgressListener)})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class ProgressiveRenderingTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    ProgressiveRenderingTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link Camera#renderImage()} with a progressive rendering
+     */
+    @Test
+    void testProgressive() {
+        Camera.Builder builder = prepareSphereCamera().setMultithreading(2);
+        List<Integer> strides = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        builder.setProgressive(8, (stride, image) -> {
+            strides.add(stride);
+            images.add(image);
+            return true;
+        }).build().renderImage();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the previews are published from the coarsest to the full image
+        assertEquals(List.of(8, 4, 2, 1), strides, "TC01: wrong passes");
+
+        // TC02: a preview repeats the traced pixel over its block
+        BufferedImage preview = images.getFirst();
+        for (int y = 0; y < NY; ++y)
+            for (int x = 0; x < NX; ++x)
+                assertEquals(preview.getRGB(x - x % 8, y - y % 8), preview.getRGB(x, y),
+                        "TC02: wrong preview pixel " + x + "," + y);
+
+        // TC03: the pixels traced by a preview are kept by the next previews
+        for (int y = 0; y < NY; y += 8)
+            for (int x = 0; x < NX; x += 8)
+                assertEquals(preview.getRGB(x, y), images.get(2).getRGB(x, y), "TC03: wrong kept pixel " + x + "," + y);
+
+        // TC04: the final image is the image rendered at once
+        List<BufferedImage> full = new ArrayList<>();
+        prepareSphereCamera().setProgressive(1, (stride, image) -> full.add(image)).build().renderImage();
+        assertEquals(1, full.size(), "TC04: only the full image is published without previews");
+        assertSameImage(full.getFirst(), images.getLast(), "TC04: wrong final pixel");
+
+        // TC05: the listener aborts the rendering after the first preview
+        List<Integer> aborted = new ArrayList<>();
+        prepareSphereCamera().setProgressive(4, (stride, image) -> aborted.add(stride) && false).build().renderImage();
+        assertEquals(List.of(4), aborted, "TC05: the rendering was not aborted");
+
+        // TC06: the previews are rendered by the executor of the camera (a task per row of the pass)
+        AtomicInteger executed = new AtomicInteger();
+        List<Integer> previewTasks = new ArrayList<>();
+        try (ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+            @Override
+            protected void beforeExecute(Thread thread, Runnable task) {
+                executed.incrementAndGet();
+            }
+        }) {
+            prepareSphereCamera().setExecutor(executor)
+                    .setProgressive(8, (stride, image) -> previewTasks.add(executed.get())).build().renderImage();
+        }
+        assertEquals((NY + 7) / 8, previewTasks.getFirst(), "TC06: the preview was not rendered by the executor");
+
+        // TC07: a camera sharing the ray tracer renders its full image while the previews are rendered
+        Camera.Builder shared = prepareSphereCamera();
+        Camera sibling = shared.build();
+        shared.setProgressive(8, (stride, image) -> {
+            sibling.renderImage().writeToImage("progressiveSibling");
+            return false;
+        }).build().renderImage();
+        assertSameImage(full.getFirst(), readImage("progressiveSibling"),
+                "TC07: the full image was shaded as a preview");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: a stride that is not a power of 2
+        assertThrows(IllegalArgumentException.class, () -> Camera.getBuilder().setProgressive(6, null),
+                "TC11: wrong stride");
+    }
+}
@@ -1,6 +1,7 @@
 package renderer;
 
 import static java.awt.Color.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
 
@@ -107,4 +108,46 @@ class ReflectionRefractionTests {
          .renderImage() //
          .writeToImage("refractionShadow");
    }
+
+   /**
+    * Trace a ray between two parallel perfect mirrors - deeper than a recursive
+    * shading would handle
+    */
+   @Test
+   void deepMirrors() {
+      scene.geometries.add(
+                           new Plane(Point.ZERO, Vector.AXIS_Z).setEmission(new Color(0.0078125, 0.0078125, 0.0078125))
+                              .setMaterial(new Material().setKR(1)),
+                           new Plane(new Point(0, 0, 1), Vector.AXIS_Z).setEmission(new Color(0.0078125, 0.0078125, 0.0078125))
+                              .setMaterial(new Material().setKR(1)));
+      SimpleRayTracer rayTracer = new SimpleRayTracer(scene)
+         .setTerminationPolicy(new TerminationPolicy().setMaxLevel(20000));
+      // every reflection adds the emission of a mirror - 20000 / 128
+      assertEquals(new java.awt.Color(156, 156, 156),
+                   rayTracer.traceRay(new Ray(new Point(0, 0, 0.5), Vector.AXIS_Z)).getColor(),
+                   "Wrong color between the mirrors");
+   }
+
+   /**
+    * Trace a ray between two parallel half mirrors with the Russian roulette -
+    * the average color matches all the reflections
+    */
+   @Test
+   void russianRouletteMirrors() {
+      scene.geometries.add(
+                           new Plane(Point.ZERO, Vector.AXIS_Z).setEmission(new Color(100, 100, 100))
+                              .setMaterial(new Material().setKR(0.5)),
+                           new Plane(new Point(0, 0, 1), Vector.AXIS_Z).setEmission(new Color(100, 100, 100))
+                              .setMaterial(new Material().setKR(0.5)));
+      SimpleRayTracer rayTracer = new SimpleRayTracer(scene)
+         .setTerminationPolicy(new TerminationPolicy().setMaxLevel(100).setRussianRoulette(0.1));
+      Ray ray = new Ray(new Point(0, 0, 0.5), Vector.AXIS_Z);
+      double sum = 0;
+      for (int i = 0; i < 20000; ++i) {
+         Sampler.startPixel(1, i, 0);
+         sum += rayTracer.traceRay(ray).getColor().getRed();
+      }
+      // 100 * (1 + 1/2 + 1/4 + ...) = 200
+      assertEquals(200, sum / 20000, 2, "Russian roulette should not change the average color");
+   }
 }
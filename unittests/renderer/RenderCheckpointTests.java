@@ -0,0 +1,127 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.RenderFixtures.*;
+
+/**
+ * Unit tests for the checkpointed rendering ({@link RenderCheckpoint},
+ * see {@link Camera.Builder#setCheckpoint(String, double)})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class RenderCheckpointTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    RenderCheckpointTests() { /* to satisfy JavaDoc generator */ }
+
+    /** Name of the checkpoint file */
+    private static final String CHECKPOINT = "checkpointTest";
+
+    /**
+     * Executor that runs the tasks in the calling thread and rejects the tasks after a limit,
+     * as if the rendering was killed in the middle
+     */
+    private static class LimitedExecutor extends AbstractExecutorService {
+        /** Amount of the tasks left to run */
+        private int left;
+
+        /**
+         * Constructs the executor
+         *
+         * @param limit the amount of the tasks to run
+         */
+        LimitedExecutor(int limit) {
+            left = limit;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (left-- <= 0) throw new RejectedExecutionException("killed");
+            command.run();
+        }
+
+        @Override
+        public void shutdown() { /* nothing to shut down */ }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+
+    /**
+     * Test method for {@link Camera#resumeImage()}
+     */
+    @Test
+    void testResume() {
+        File file = new File(ImageWriter.FOLDER_PATH + '/' + CHECKPOINT + ".ckpt");
+        try {
+            BufferedImage expected = image(prepareSphereCamera().build().renderImage(), "checkpointExpected");
+
+            // ============ Equivalence Partitions Tests ==============
+            // TC01: a rendering killed after 7 of the 20 tiles keeps them in the checkpoint
+            Camera killed = prepareSphereCamera().setCheckpoint(CHECKPOINT, 1)
+                    .setExecutor(new LimitedExecutor(7)).build();
+            assertThrows(RejectedExecutionException.class, killed::renderImage, "TC01: the rendering was not killed");
+            try (RenderCheckpoint checkpoint = new RenderCheckpoint(NX, NY, 8, CHECKPOINT, 1, true)) {
+                assertEquals(7, checkpoint.doneCount(), "TC01: wrong amount of finished tiles");
+            }
+
+            // TC02: the resumed rendering renders only the rest of the tiles, and the image is the same
+            Camera resumed = prepareSphereCamera().setCheckpoint(CHECKPOINT, 1).setRenderStats(true)
+                    .setMultithreading(2).build().resumeImage();
+            // the first 7 tiles are the first row of tiles (NX x 8 pixels) and two tiles of 8 x 8 pixels
+            assertEquals(NX * NY - NX * 8 - 2 * 8 * 8, resumed.getRenderStats().getRays(RenderStats.RayType.PRIMARY),
+                    "TC02: wrong amount of rendered pixels");
+            assertSameImage(expected, image(resumed, "checkpointResumed"), "TC02: wrong pixel");
+
+            // TC03: a new rendering starts a new checkpoint
+            assertThrows(RejectedExecutionException.class,
+                    prepareSphereCamera().setCheckpoint(CHECKPOINT, 0)
+                            .setExecutor(new LimitedExecutor(2)).build()::renderImage,
+                    "TC03: the rendering was not killed");
+            try (RenderCheckpoint checkpoint = new RenderCheckpoint(NX, NY, 8, CHECKPOINT, 0, true)) {
+                assertEquals(2, checkpoint.doneCount(), "TC03: wrong amount of finished tiles");
+            }
+
+            // =============== Boundary Values Tests ==================
+            // TC11: a checkpoint of another resolution
+            assertThrows(IllegalStateException.class,
+                    () -> prepareSphereCamera().setResolution(NX - 1, NY).setCheckpoint(CHECKPOINT, 1)
+                            .build().resumeImage(),
+                    "TC11: a checkpoint of another resolution was resumed");
+            // TC12: a checkpoint of another tile size
+            assertThrows(IllegalStateException.class,
+                    () -> prepareSphereCamera().setTileSize(4).setCheckpoint(CHECKPOINT, 1).build().resumeImage(),
+                    "TC12: a checkpoint of another tile size was resumed");
+            // TC13: resuming a rendering that is not checkpointed
+            assertThrows(IllegalStateException.class, () -> prepareSphereCamera().build().resumeImage(),
+                    "TC13: a rendering without a checkpoint was resumed");
+        } finally {
+            file.delete();
+        }
+    }
+}
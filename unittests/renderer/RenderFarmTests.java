@@ -0,0 +1,64 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.RenderFixtures.*;
+
+/**
+ * Unit tests for the rendering by worker processes ({@link RenderFarm},
+ * see {@link Camera.Builder#setRenderFarm(int)})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class RenderFarmTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    RenderFarmTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Prepares a camera of the sphere scene (see {@link RenderFixtures#prepareSphereCamera()})
+     * with a flat hierarchy and an adaptive supersampling
+     *
+     * @return the camera builder
+     */
+    private static Camera.Builder prepareCamera() {
+        return prepareSphereCamera()
+                .setBvhMode(Camera.BvhMode.HIERARCHY_FLAT).setAdaptiveSuperSampling(1, 10);
+    }
+
+    /**
+     * Test method for {@link Camera#renderImage()} by a render farm
+     */
+    @Test
+    void testRenderFarm() {
+        BufferedImage expected = image(prepareCamera().build().renderImage(), "farmExpected");
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the workers render the same image
+        assertSameImage(expected, image(prepareCamera().setRenderFarm(2).build().renderImage(), "farmRendered"),
+                "TC01: wrong pixel");
+
+        // TC02: the tiles of a dead worker are rendered by the other worker
+        assertSameImage(expected, image(prepareCamera().setRenderFarm(2, 3).build().renderImage(), "farmDeadWorker"),
+                "TC02: wrong pixel");
+
+        // TC03: the workers render their tiles by several threads, and a dead worker has several tiles in flight
+        assertSameImage(expected,
+                image(prepareCamera().setMultithreading(3).setRenderFarm(2, 5).build().renderImage(), "farmThreads"),
+                "TC03: wrong pixel");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: all the workers die
+        assertThrows(IllegalStateException.class, prepareCamera().setRenderFarm(1, 3).build()::renderImage,
+                "TC11: the rendering finished without workers");
+        // TC12: a streamed image
+        assertThrows(IllegalStateException.class,
+                () -> prepareCamera().setRenderFarm(2).setStreamingOutput("farmStreamed", Camera.ImageFormat.PNG).build(),
+                "TC12: a streamed image was rendered by a farm");
+        // TC13: negative amount of workers
+        assertThrows(IllegalArgumentException.class, () -> Camera.getBuilder().setRenderFarm(-1),
+                "TC13: negative amount of workers");
+    }
+}
@@ -0,0 +1,89 @@
+package renderer;
+
+import geometries.Sphere;
+import geometries.Triangle;
+import lighting.PointLight;
+import primitives.*;
+import scene.Scene;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Shared fixtures of the rendering tests - a small scene of a reflective sphere over a floor
+ * with a soft shadow, and the reading back of the written images
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+final class RenderFixtures {
+    /** Don't let anyone instantiate this class */
+    private RenderFixtures() {}
+
+    /** Image width in pixels of the sphere scene */
+    static final int NX = 37;
+    /** Image height in pixels of the sphere scene */
+    static final int NY = 29;
+
+    /**
+     * Prepares a camera of a new scene with a reflective sphere over a floor, lit by an area light,
+     * rendered by tiles of 8 pixels
+     *
+     * @return the camera builder
+     */
+    static Camera.Builder prepareSphereCamera() {
+        Scene scene = new Scene("Sphere scene");
+        scene.geometries.add(
+                new Sphere(20d, new Point(-10, 0, -100)).setEmission(new Color(30, 10, 10))
+                        .setMaterial(new Material().setKD(0.4).setKS(0.4).setShininess(30).setKR(0.3)),
+                new Triangle(new Point(-500, -500, -200), new Point(500, -500, -200), new Point(0, 500, -200))
+                        .setMaterial(new Material().setKD(0.5)).setEmission(new Color(10, 20, 30)));
+        scene.lights.add(new PointLight(new Color(500, 400, 300), new Point(0, 100, 0)).setRadius(10));
+        return Camera.getBuilder()
+                .setLocation(Point.ZERO).setDirection(new Point(0, 0, -1), Vector.AXIS_Y)
+                .setVpDistance(100).setVpSize(100, 80).setResolution(NX, NY).setTileSize(8)
+                .setRayTracer(scene, RayTracerType.SIMPLE, 4);
+    }
+
+    /**
+     * Reads an image file written by {@link ImageWriter}
+     *
+     * @param imageName the name of the image file
+     * @return the image
+     */
+    static BufferedImage readImage(String imageName) {
+        try {
+            return ImageIO.read(new File(ImageWriter.FOLDER_PATH + '/' + imageName + ".png"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the image of a camera and reads it back
+     *
+     * @param camera    the camera
+     * @param imageName the name of the image file
+     * @return the image
+     */
+    static BufferedImage image(Camera camera, String imageName) {
+        camera.writeToImage(imageName);
+        return readImage(imageName);
+    }
+
+    /**
+     * Checks that two images are the same
+     *
+     * @param expected the expected image
+     * @param actual   the actual image
+     * @param message  the failure message
+     */
+    static void assertSameImage(BufferedImage expected, BufferedImage actual, String message) {
+        for (int y = 0; y < expected.getHeight(); ++y)
+            for (int x = 0; x < expected.getWidth(); ++x)
+                assertEquals(expected.getRGB(x, y), actual.getRGB(x, y), message + " " + x + "," + y);
+    }
+}
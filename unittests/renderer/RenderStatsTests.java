@@ -0,0 +1,94 @@
+package renderer;
+
+import geometries.*;
+import lighting.PointLight;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.RenderStats.RayType.*;
+
+/**
+ * Unit tests for the render statistics ({@link RenderStats}) collected by {@link Camera}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class RenderStatsTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    RenderStatsTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link Camera#getRenderStats()}
+     */
+    @Test
+    void testRenderStats() {
+        Scene scene = new Scene("Stats scene");
+        // a mirror sphere over a transparent triangle floor, all of it behind the camera center ray
+        scene.geometries.add(
+                new Sphere(20d, new Point(0, 0, -100)).setMaterial(new Material().setKD(0.5).setKR(0.5)),
+                new Triangle(new Point(-500, -500, -200), new Point(500, -500, -200), new Point(0, 500, -200))
+                        .setMaterial(new Material().setKD(0.5).setKT(0.5)));
+        scene.lights.add(new PointLight(new Color(500, 500, 500), new Point(0, 100, 0)));
+        Camera.Builder builder = Camera.getBuilder()
+                .setLocation(Point.ZERO).setDirection(new Point(0, 0, -1), Vector.AXIS_Y)
+                .setVpDistance(100).setVpSize(100, 100).setResolution(20, 20)
+                .setRayTracer(scene, RayTracerType.SIMPLE)
+                .setBvhMode(Camera.BvhMode.HIERARCHY_FLAT)
+                .setRenderStats(true);
+        Camera camera = builder.build();
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: without rendering there are no statistics
+        assertNull(camera.getRenderStats(), "No statistics before rendering");
+        RenderStats stats = camera.renderImage().getRenderStats();
+        // TC02: a primary ray per pixel, every one of them hits the floor or the sphere
+        assertEquals(400, stats.getRays(PRIMARY), "Wrong amount of primary rays");
+        assertEquals(1, stats.getHitRatio(PRIMARY), "All the primary rays hit");
+        // TC03: every shaded point has a shadow ray, the secondary rays are counted by their type
+        assertTrue(stats.getRays(SHADOW) >= 400, "Every shaded point has a shadow ray");
+        assertTrue(stats.getRays(REFLECTION) > 0, "The sphere reflects");
+        assertTrue(stats.getRays(REFRACTION) > 0, "The floor refracts");
+        assertEquals(stats.getTotalRays(), stats.getRays(PRIMARY) + stats.getRays(SHADOW)
+                + stats.getRays(REFLECTION) + stats.getRays(REFRACTION), "Wrong total rays");
+        // TC04: the work of the hierarchy and the primitives is counted
+        assertTrue(stats.getNodeVisits() > 0, "Hierarchy nodes should be visited");
+        assertTrue(stats.getPrimitiveTests().get("Sphere") > 0, "Spheres should be tested");
+        assertTrue(stats.getPrimitiveTests().get("Triangle") > 0, "Triangles should be tested");
+        assertTrue(stats.getWallTime() > 0, "Wall time should be measured");
+        // TC05: the counting stops after the rendering
+        assertFalse(TraversalCounters.isEnabled(), "Counting should stop after rendering");
+
+        // TC06: the rays of a camera sharing the ray tracer are not counted, and another rendering
+        // with statistics is refused while the statistics are collected
+        Camera plain = builder.setRenderStats(false).build();
+        Camera other = builder.setRenderStats(true).build();
+        List<IllegalStateException> refused = new ArrayList<>();
+        RenderStats progressive = builder.setProgressive(2, (stride, image) -> {
+            if (stride == 2) {
+                plain.renderImage();
+                try {
+                    other.renderImage();
+                } catch (IllegalStateException e) {
+                    refused.add(e);
+                }
+            }
+            return true;
+        }).build().renderImage().getRenderStats();
+        assertEquals(100 + 400, progressive.getRays(PRIMARY), "The rays of another camera were counted");
+        assertEquals(1, refused.size(), "A concurrent rendering with statistics was not refused");
+        assertNull(other.getRenderStats(), "The refused rendering has statistics");
+        assertNotNull(other.renderImage().getRenderStats(), "A rendering after the collection was refused");
+
+        // TC07: the bases of a cylinder are not counted as tests of planes
+        Scene cylinderScene = new Scene("Cylinder stats scene");
+        cylinderScene.geometries.add(new Cylinder(20, new Ray(new Point(0, -20, -100), Vector.AXIS_Y), 40));
+        RenderStats cylinderStats = builder.setProgressive(1, null).setRayTracer(cylinderScene, RayTracerType.SIMPLE)
+                .build().renderImage().getRenderStats();
+        assertTrue(cylinderStats.getPrimitiveTests().get("Cylinder") > 0, "Cylinders should be tested");
+        assertNull(cylinderStats.getPrimitiveTests().get("Plane"), "The cylinder bases were counted as planes");
+    }
+}
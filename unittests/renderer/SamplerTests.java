@@ -0,0 +1,87 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the sample patterns and random numbers of {@link Sampler}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class SamplerTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    SamplerTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link Sampler#diskPattern(Sampler.Pattern, int)}
+     */
+    @Test
+    void testDiskPattern() {
+        // ============ Equivalence Partitions Tests ==============
+        for (Sampler.Pattern pattern : Sampler.Pattern.values()) {
+            double[] samples = Sampler.diskPattern(pattern, 50);
+            // TC01: the samples are inside the unit disk
+            for (int i = 0; i < samples.length; i += 2)
+                assertTrue(samples[i] * samples[i] + samples[i + 1] * samples[i + 1] <= 1 + 1e-12,
+                        pattern + " sample outside the disk");
+            // TC02: the samples cover the whole disk - every quadrant gets about a quarter of them
+            int[] quadrants = new int[4];
+            for (int i = 0; i < samples.length; i += 2)
+                ++quadrants[(samples[i] < 0 ? 1 : 0) + (samples[i + 1] < 0 ? 2 : 0)];
+            for (int quadrant : quadrants)
+                assertTrue(Math.abs(quadrant - samples.length / 8d) <= samples.length / 16d,
+                        pattern + " samples are not evenly distributed");
+            // TC03: the pattern is built only once
+            assertSame(samples, Sampler.diskPattern(pattern, 50), "Pattern should be cached");
+        }
+        // TC04: amount of samples
+        assertEquals(100, Sampler.diskPattern(Sampler.Pattern.HALTON, 50).length, "Wrong amount of samples");
+        assertEquals(49 * 2, Sampler.diskPattern(Sampler.Pattern.STRATIFIED, 50).length,
+                "Stratified amount of samples should be rounded to a square");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: a single sample
+        assertEquals(2, Sampler.diskPattern(Sampler.Pattern.BLUE_NOISE, 1).length, "Wrong single sample");
+        // TC12: no samples
+        assertThrows(IllegalArgumentException.class, () -> Sampler.diskPattern(Sampler.Pattern.SOBOL, 0),
+                "Pattern without samples");
+        // TC13: disk samples count of a single sample per row
+        assertEquals(1, Sampler.diskSamplesCount(1), "Wrong disk samples count");
+    }
+
+    /**
+     * Test method for {@link Sampler#nextDouble()}
+     */
+    @Test
+    void testNextDouble() throws InterruptedException {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the same pixel gives the same numbers, also in another thread
+        Sampler.startPixel(7, 10, 20);
+        double first = Sampler.nextDouble(), second = Sampler.nextDouble();
+        assertNotEquals(first, second, "Consequent numbers should differ");
+        double[] other = new double[2];
+        Thread thread = new Thread(() -> {
+            Sampler.startPixel(7, 10, 20);
+            other[0] = Sampler.nextDouble();
+            other[1] = Sampler.nextDouble();
+        });
+        thread.start();
+        thread.join();
+        assertEquals(first, other[0], "Numbers of a pixel should not depend on the thread");
+        assertEquals(second, other[1], "Numbers of a pixel should not depend on the thread");
+        // TC02: another pixel or another seed gives other numbers
+        Sampler.startPixel(7, 20, 10);
+        assertNotEquals(first, Sampler.nextDouble(), "Pixels should have different numbers");
+        Sampler.startPixel(8, 10, 20);
+        assertNotEquals(first, Sampler.nextDouble(), "Seeds should give different numbers");
+        // TC03: the numbers are in range [0, 1) and about uniform
+        double sum = 0;
+        for (int i = 0; i < 10000; ++i) {
+            double number = Sampler.nextDouble();
+            assertTrue(number >= 0 && number < 1, "Number out of range");
+            sum += number;
+        }
+        assertEquals(0.5, sum / 10000, 0.02, "Numbers are not uniform");
+    }
+}
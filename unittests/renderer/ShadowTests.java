@@ -1,6 +1,7 @@
 package renderer;
 
 import static java.awt.Color.BLUE;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
@@ -120,4 +121,51 @@ class ShadowTests {
          .writeToImage("shadowTrianglesSphere");
    }
 
+   /**
+    * Produce a picture of two triangles with a sphere producing a soft shadow
+    * by an area light, sampled adaptively (all the samples only in the penumbra)
+    */
+   @Test
+   void trianglesSphereAdaptiveSoftShadow() {
+      scene.geometries //
+         .add( //
+              new Triangle(new Point(-150, -150, -115), new Point(150, -150, -135), new Point(75, 75, -150)) //
+                 .setMaterial(new Material().setKD(0.5).setKS(0.3).setShininess(60)), //
+              new Triangle(new Point(-150, -150, -115), new Point(-70, 70, -140), new Point(75, 75, -150)) //
+                 .setMaterial(new Material().setKD(0.5).setKS(0.3).setShininess(60)), //
+              new Sphere(30d, new Point(0, 0, -11)) //
+                 .setEmission(new Color(BLUE)) //
+                 .setMaterial(new Material().setKD(0.5).setKS(0.5).setShininess(30)) //
+         );
+      scene.setAmbientLight(new AmbientLight(new Color(38, 38, 38)));
+      scene.lights //
+         .add(new PointLight(new Color(700, 400, 400), new Point(40, 40, 115)) //
+            .setKl(4E-4).setKq(2E-5).setRadius(15));
+
+      camera//
+         .setRayTracer(new SimpleRayTracer(scene).setAdaptiveSoftShadows(true).setSoftShadowSamples(9)) //
+         .setResolution(400, 400) //
+         .build() //
+         .renderImage() //
+         .writeToImage("shadowTrianglesSphereAdaptiveSoftShadow");
+   }
+
+   /**
+    * Test method for {@link SimpleRayTracer#setAdaptiveSoftShadows(boolean)} - a small blocker
+    * in front of the center of an area light, missed by all the samples over the rim of the light
+    */
+   @Test
+   void testAdaptiveSoftShadowCenter() {
+      scene.geometries.add(new Plane(Point.ZERO, Vector.AXIS_Z).setMaterial(new Material().setKD(1)));
+      scene.lights.add(new PointLight(new Color(100, 100, 100), new Point(0, 0, 100)).setRadius(10));
+      SimpleRayTracer tracer = new SimpleRayTracer(scene).setAdaptiveSoftShadows(true).setSoftShadowSamples(9);
+      Ray ray = new Ray(new Point(5, 0, 10), new Vector(-5, 0, -10));
+      int lit = tracer.traceRay(ray).getColor().getRed();
+
+      // ============ Equivalence Partitions Tests ==============
+      // TC01: the center sample finds the blocker, so the whole pattern is traced
+      scene.geometries.add(new Sphere(1d, new Point(0, 0, 50)));
+      assertTrue(tracer.traceRay(ray).getColor().getRed() < lit, "The blocker at the light center was missed");
+   }
+
 }
@@ -0,0 +1,138 @@
+package renderer;
+
+import geometries.Sphere;
+import geometries.Triangle;
+import lighting.PointLight;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the images streamed to a file while rendering ({@link StreamingImageWriter})
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class StreamingImageWriterTest {
+    /** Default constructor to satisfy JavaDoc generator */
+    StreamingImageWriterTest() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Calculates a test color of a pixel
+     *
+     * @param x the pixel column
+     * @param y the pixel row
+     * @return the packed RGB value
+     */
+    private static int rgb(int x, int y) {
+        return (x * 7 & 0xFF) << 16 | (y * 5 & 0xFF) << 8 | (x + y) & 0xFF;
+    }
+
+    /**
+     * Writes an image of 10 x 7 pixels in tiles of 4 x 3 pixels, in a mixed order
+     *
+     * @param writer the writer
+     */
+    private static void writeTiles(StreamingImageWriter writer) {
+        for (int row : new int[]{3, 0, 6})
+            for (int col : new int[]{8, 0, 4}) {
+                int width = Math.min(4, 10 - col), height = Math.min(3, 7 - row);
+                int[] tile = new int[width * height];
+                for (int i = 0; i < height; ++i)
+                    for (int j = 0; j < width; ++j)
+                        tile[i * width + j] = rgb(col + j, row + i);
+                writer.writeTile(col, row, width, tile);
+            }
+    }
+
+    /**
+     * Test method for {@link StreamingImageWriter#writeTile(int, int, int, int[])} with a png file
+     */
+    @Test
+    void testPng() throws IOException {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: tiles written out of order (across the bands) make the whole image
+        try (StreamingImageWriter writer = new StreamingImageWriter(10, 7, 2, "streamed", Camera.ImageFormat.PNG)) {
+            writeTiles(writer);
+            writer.finish();
+        }
+        BufferedImage image = ImageIO.read(new File(ImageWriter.FOLDER_PATH + "/streamed.png"));
+        assertEquals(10, image.getWidth(), "TC01: wrong image width");
+        assertEquals(7, image.getHeight(), "TC01: wrong image height");
+        for (int y = 0; y < 7; ++y)
+            for (int x = 0; x < 10; ++x)
+                assertEquals(rgb(x, y), image.getRGB(x, y) & 0xFFFFFF, "TC01: wrong pixel " + x + "," + y);
+
+        // TC02: an incomplete image cannot be finished
+        try (StreamingImageWriter writer = new StreamingImageWriter(10, 7, 2, "streamed", Camera.ImageFormat.PNG)) {
+            writer.writeTile(0, 0, 10, new int[20]);
+            assertThrows(IllegalStateException.class, writer::finish, "TC02: an incomplete image was finished");
+        }
+    }
+
+    /**
+     * Test method for {@link StreamingImageWriter#writeTile(int, int, int, int[])} with a ppm file
+     */
+    @Test
+    void testPpm() throws IOException {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: tiles written out of order make the whole image after the header
+        try (StreamingImageWriter writer = new StreamingImageWriter(10, 7, 3, "streamed", Camera.ImageFormat.PPM)) {
+            writeTiles(writer);
+            writer.finish();
+        }
+        try (DataInputStream in = new DataInputStream(new FileInputStream(ImageWriter.FOLDER_PATH + "/streamed.ppm"))) {
+            byte[] header = "P6\n10 7\n255\n".getBytes();
+            byte[] actualHeader = new byte[header.length];
+            in.readFully(actualHeader);
+            assertArrayEquals(header, actualHeader, "TC01: wrong header");
+            for (int y = 0; y < 7; ++y)
+                for (int x = 0; x < 10; ++x)
+                    assertEquals(rgb(x, y), in.readUnsignedByte() << 16 | in.readUnsignedByte() << 8 | in.readUnsignedByte(),
+                            "TC01: wrong pixel " + x + "," + y);
+            assertEquals(-1, in.read(), "TC01: extra data after the pixels");
+        }
+    }
+
+    /**
+     * Test method for {@link Camera.Builder#setStreamingOutput(String, Camera.ImageFormat)}
+     */
+    @Test
+    void testCameraStreaming() throws IOException {
+        Scene scene = new Scene("Streaming scene");
+        scene.geometries.add(
+                new Sphere(20d, new Point(-25, 0, -100)).setMaterial(new Material().setKD(0.5).setKS(0.5).setShininess(30)),
+                new Triangle(new Point(-500, -500, -200), new Point(500, -500, -200), new Point(0, 500, -200))
+                        .setMaterial(new Material().setKD(0.5)).setEmission(new Color(20, 40, 60)));
+        scene.lights.add(new PointLight(new Color(500, 400, 300), new Point(0, 100, 0)));
+        Camera.Builder builder = Camera.getBuilder()
+                .setLocation(Point.ZERO).setDirection(new Point(0, 0, -1), Vector.AXIS_Y)
+                .setVpDistance(100).setVpSize(100, 100).setResolution(45, 37).setTileSize(8)
+                .setRayTracer(scene, RayTracerType.SIMPLE);
+        builder.build().renderImage().writeToImage("streamingKept");
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the streamed image is the image kept in the memory, with any threads setting
+        for (int threads : new int[]{0, -1, 3}) {
+            Camera camera = builder.setMultithreading(threads)
+                    .setStreamingOutput("streamingStreamed", Camera.ImageFormat.PNG).build().renderImage();
+            BufferedImage kept = ImageIO.read(new File(ImageWriter.FOLDER_PATH + "/streamingKept.png"));
+            BufferedImage streamed = ImageIO.read(new File(ImageWriter.FOLDER_PATH + "/streamingStreamed.png"));
+            for (int y = 0; y < 37; ++y)
+                for (int x = 0; x < 45; ++x)
+                    assertEquals(kept.getRGB(x, y), streamed.getRGB(x, y), "TC01: wrong pixel " + x + "," + y);
+
+            // TC02: a streamed image is not kept by the camera
+            assertThrows(IllegalStateException.class, () -> camera.writeToImage("streamingKept"),
+                    "TC02: a streamed image was written again");
+        }
+    }
+}
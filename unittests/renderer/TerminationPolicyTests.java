@@ -0,0 +1,84 @@
+package renderer;
+
+import geometries.Plane;
+import org.junit.jupiter.api.Test;
+import primitives.*;
+import scene.Scene;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static renderer.TerminationPolicy.Rule.*;
+
+/**
+ * Unit tests for {@link TerminationPolicy}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class TerminationPolicyTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    TerminationPolicyTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link TerminationPolicy#survive(int, double, int)}
+     */
+    @Test
+    void testSurvive() {
+        TerminationPolicy policy = new TerminationPolicy().setRussianRoulette(0.1).setRayBudget(5);
+
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: strong path survives as is
+        assertEquals(1, policy.survive(3, 0.5, 0), "Strong path should survive unchanged");
+        // TC02: negligible path is cut
+        assertEquals(0, policy.survive(3, 0.0001, 0), "Negligible path should be cut");
+        assertEquals(1, policy.getCuts(THROUGHPUT), "Wrong throughput cuts");
+        // TC03: exhausted budget cuts the path
+        assertEquals(0, policy.survive(3, 0.5, 5), "Path over the budget should be cut");
+        assertEquals(1, policy.getCuts(RAY_BUDGET), "Wrong budget cuts");
+        // TC04: weak paths survive with probability of the throughput over the threshold,
+        // and the survivors are scaled by its inverse
+        Sampler.startPixel(3, 0, 0);
+        int survived = 0;
+        for (int i = 0; i < 10000; ++i) {
+            double scale = policy.survive(3, 0.02, 0);
+            if (scale != 0) {
+                ++survived;
+                assertEquals(5, scale, 1e-12, "Wrong scale of a surviving path");
+            }
+        }
+        assertEquals(2000, survived, 100, "Wrong survival probability");
+        assertEquals(10000 - survived, policy.getCuts(RUSSIAN_ROULETTE), "Wrong Russian roulette cuts");
+
+        // =============== Boundary Values Tests ==================
+        // TC11: the last level
+        assertFalse(policy.reachedMaxLevel(1), "Path before the last level should not be cut");
+        assertTrue(policy.reachedMaxLevel(0), "Path at the last level should be cut");
+        assertEquals(1, policy.getCuts(DEPTH), "Wrong depth cuts");
+        // TC12: the counters are reset
+        policy.resetCuts();
+        assertEquals(0, policy.getCuts(RUSSIAN_ROULETTE), "Counters should be reset");
+        // TC13: wrong parameters
+        assertThrows(IllegalArgumentException.class, () -> policy.setMaxLevel(0), "Depth must be positive");
+        assertThrows(IllegalArgumentException.class, () -> policy.setRussianRoulette(2), "Threshold over 1");
+        assertThrows(IllegalArgumentException.class, () -> policy.setRayBudget(-1), "Negative budget");
+    }
+
+    /**
+     * Test the ray budget of {@link SimpleRayTracer} - two facing mirrors with the full depth
+     * spawn a secondary ray per level, so the budget cuts the path
+     */
+    @Test
+    void testRayBudget() {
+        Scene scene = new Scene("Mirrors");
+        scene.geometries.add(
+                new Plane(Point.ZERO, Vector.AXIS_Z)
+                        .setMaterial(new Material().setKR(1)),
+                new Plane(new Point(0, 0, 1), Vector.AXIS_Z)
+                        .setMaterial(new Material().setKR(1)));
+        TerminationPolicy policy = new TerminationPolicy().setMaxLevel(100).setRayBudget(20);
+        new SimpleRayTracer(scene).setTerminationPolicy(policy)
+                .traceRay(new Ray(new Point(0, 0, 0.5), Vector.AXIS_Z));
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: the path is cut by the budget and not by the depth
+        assertEquals(1, policy.getCuts(RAY_BUDGET), "Path should be cut by the budget");
+        assertEquals(0, policy.getCuts(DEPTH), "Path should not reach the maximum depth");
+    }
+}
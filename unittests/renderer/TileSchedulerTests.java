@@ -0,0 +1,60 @@
+package renderer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the work-stealing tiles scheduler {@link TileScheduler}
+ *
+ * @author Hila Rosental & Hila Miller
+ */
+class TileSchedulerTests {
+    /** Default constructor to satisfy JavaDoc generator */
+    TileSchedulerTests() { /* to satisfy JavaDoc generator */ }
+
+    /**
+     * Test method for {@link TileScheduler#nextTile(int)}
+     */
+    @Test
+    void testNextTile() throws InterruptedException {
+        // ============ Equivalence Partitions Tests ==============
+        // TC01: several threads cover every pixel exactly once (the image is not a multiple of the tile size)
+        int rows = 101, cols = 77, workers = 4;
+        TileScheduler scheduler = new TileScheduler(rows, cols, 16, workers, 0);
+        AtomicIntegerArray covered = new AtomicIntegerArray(rows * cols);
+        var threads = new LinkedList<Thread>();
+        for (int w = 0; w < workers; ++w) {
+            int worker = w;
+            threads.add(new Thread(() -> {
+                TileScheduler.Tile tile;
+                while ((tile = scheduler.nextTile(worker)) != null) {
+                    for (int i = tile.row0(); i < tile.row1(); ++i)
+                        for (int j = tile.col0(); j < tile.col1(); ++j)
+                            covered.incrementAndGet(i * cols + j);
+                    scheduler.tileDone(tile);
+                }
+            }));
+        }
+        for (var thread : threads) thread.start();
+        for (var thread : threads) thread.join();
+        for (int p = 0; p < rows * cols; ++p)
+            assertEquals(1, covered.get(p), "Pixel must be rendered exactly once");
+        assertEquals((long) rows * cols, scheduler.processedPixels(), "Wrong progress count");
+
+        // =============== Boundary Values Tests ==================
+        // TC02: a single worker steals nothing and gets all the tiles
+        TileScheduler single = new TileScheduler(10, 10, 4, 1, 0);
+        int tiles = 0;
+        while (single.nextTile(0) != null) ++tiles;
+        assertEquals(9, tiles, "Wrong amount of tiles");
+        // TC03: an idle worker steals the tiles of the others
+        TileScheduler stealing = new TileScheduler(4, 8, 4, 2, 0);
+        assertEquals(4, stealing.nextTile(1).col0(), "Worker should get its own tile first");
+        assertEquals(0, stealing.nextTile(1).col0(), "Worker should steal the tile of the other worker");
+        assertNull(stealing.nextTile(0), "There should be no more tiles");
+    }
+}
@@ -128,4 +128,21 @@ public class rotationTest {
         cam3.renderImage().writeToImage("mysticForest_tilted");
     }
 
+    @Test
+    void renderMysticForestTurntable() {
+        prepareForestScene();
+
+        Point target = new Point(0, 0, 0.1);
+        Camera camera = cameraBuilder
+                .setLocation(new Point(0, 100, 500))
+                .setDirection(target)
+                .setVpDistance(600).setVpSize(400, 300)
+                .setResolution(200, 150)
+                .setBvhMode(Camera.BvhMode.HIERARCHY_SAH)
+                .setMultithreading(-2)
+                .build();
+        new Animation(camera, CameraPath.orbit(target, new Point(0, 100, 500), 360), 8)
+                .render("mysticForest_turntable");
+    }
+
 }